@@ -0,0 +1,130 @@
+/* ===========================================================
+ * BenchFixtures ; tabuleiro, baralho e partidas usados pelos benchmarks.
+ * Os CSVs são gerados em um diretório temporário e lidos pelas fábricas
+ * reais, para que todos os benchmarks partam do mesmo formato de arquivo.
+ * =========================================================== */
+
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import model.api.dto.PlayerColor;
+import model.api.dto.SquareType;
+
+final class BenchFixtures {
+
+    static final int BOARD_SIZE = 40;
+    static final int BANK_CASH = 1_000_000_000;
+
+    private BenchFixtures() {
+        // Utility class
+    }
+
+    /** Tabuleiro de 40 casas no formato de board.csv (index,type,name,price,multiplier,value). */
+    static String boardCsv() {
+        final StringBuilder sb = new StringBuilder("index,type,name,price,multiplier,value\n");
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            final String row;
+            switch (i) {
+                case 0 -> row = "START,Start,0,0,0";
+                case 10 -> row = "JAIL,Jail,0,0,0";
+                case 20 -> row = "PARKING,Parking,0,0,0";
+                case 30 -> row = "GOTOJAIL,Go To Jail,0,0,0";
+                case 2, 7, 17, 22, 33, 36 -> row = "CHANCE,Chance,0,0,0";
+                case 4 -> row = "MONEY,Income Tax,0,0,-200";
+                case 38 -> row = "MONEY,Luxury Tax,0,0,-100";
+                case 12 -> row = "MONEY,Dividends,0,0,150";
+                case 5, 15, 25, 35 -> row = "COMPANY,Company " + i + ",200," + (4 + i / 10) + ",0";
+                default -> row = "STREET,Street " + i + "," + (60 + (i / 2) * 20) + ",0,0";
+            }
+            sb.append(i).append(',').append(row).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Baralho de 20 cartas no formato de deck.csv (index,type,value). */
+    static String deckCsv() {
+        final Card.CardType[] types = Card.CardType.values();
+        final StringBuilder sb = new StringBuilder("index,type,value\n");
+        for (int i = 0; i < 20; i++) {
+            final Card.CardType type = types[i % types.length];
+            sb.append(i).append(',').append(type).append(',').append(25 * (1 + i % 4)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Diretório temporário com board.csv e deck.csv. */
+    static Path writeAssets() {
+        try {
+            final Path dir = Files.createTempDirectory("monopoly-bench");
+            Files.writeString(dir.resolve("board.csv"), boardCsv());
+            Files.writeString(dir.resolve("deck.csv"), deckCsv());
+            dir.toFile().deleteOnExit();
+            dir.resolve("board.csv").toFile().deleteOnExit();
+            dir.resolve("deck.csv").toFile().deleteOnExit();
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<Player> players(final int count, final int money) {
+        final PlayerColor[] colors = PlayerColor.values();
+        final List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(new Player("P" + (i + 1), "Player " + (i + 1), colors[i % colors.length], money));
+        }
+        return players;
+    }
+
+    /** Partida com tabuleiro e baralho lidos de assets, seed fixa e banco farto. */
+    static GameEngine engine(final Path assets, final int playerCount, final int money, final boolean simulation) {
+        final SplittableRandom rng = new SplittableRandom(2025L);
+        final GameEngine engine = new GameEngine(
+                BoardFactory.fromCSV(assets.resolve("board.csv")),
+                players(playerCount, money),
+                DeckFactory.fromCSV(assets.resolve("deck.csv"), rng.split()),
+                new EconomyService(new Bank(BANK_CASH)), 0,
+                new DiceTape(rng.split(), DiceTape.SIMULATION_CAPACITY));
+        engine.setSimulationMode(simulation);
+        return engine;
+    }
+
+    /**
+     * Distribui as propriedades em rodízio entre os jogadores (as ruas com `houses` casas).
+     * Retorna quantas propriedades foram atribuídas.
+     */
+    static int distributeProperties(final GameEngine engine, final int houses) {
+        final Board board = engine.getBoard();
+        int assigned = 0;
+        for (int s = 0; s < board.size(); s++) {
+            if (!board.typeAt(s).isOwnable()) continue;
+            final OwnableSquare prop = (OwnableSquare) board.squareAt(s);
+            final Player owner = engine.playerAt(assigned % engine.playerCount());
+            prop.setOwner(owner);
+            owner.addProperty(prop);
+            if (board.typeAt(s) == SquareType.STREET) ((StreetOwnableSquare) prop).restoreBuildings(houses, false);
+            assigned++;
+        }
+        return assigned;
+    }
+
+    /** Entrega ao jogador as primeiras `count` propriedades do tabuleiro (ruas com `houses` casas). */
+    static void giveProperties(final GameEngine engine, final Player owner, final int count, final int houses) {
+        final Board board = engine.getBoard();
+        int given = 0;
+        for (int s = 0; s < board.size() && given < count; s++) {
+            if (!board.typeAt(s).isOwnable()) continue;
+            final OwnableSquare prop = (OwnableSquare) board.squareAt(s);
+            prop.setOwner(owner);
+            owner.addProperty(prop);
+            if (board.typeAt(s) == SquareType.STREET) ((StreetOwnableSquare) prop).restoreBuildings(houses, false);
+            given++;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/* ===========================================================
+ * CardBenchmark ; Card.applyEffect por tipo de carta.
+ * =========================================================== */
+
+package model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Aplica uma carta ao jogador 0 de uma partida com `players` jogadores.
+ * O estado do jogador e o caixa do banco são restaurados depois de cada efeito
+ * (incluído na medição, igual para todos os tipos), para que nada cresça nem acabe.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class CardBenchmark {
+
+    private static final int MONEY = 1_000_000;
+
+    @Param({ "PAY_BANK", "RECEIVE_BANK", "PAY_ALL", "RECEIVE_ALL", "GO_TO_JAIL", "GET_OUT_OF_JAIL" })
+    public String type;
+
+    @Param({ "4" })
+    public int players;
+
+    private GameEngine engine;
+    private EconomyService economy;
+    private Player player;
+    private Card card;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = BenchFixtures.engine(BenchFixtures.writeAssets(), players, MONEY, true);
+        economy = new EconomyService(engine.getBank());
+        player = engine.playerAt(0);
+        card = new Card(0, Card.CardType.valueOf(type), 50);
+    }
+
+    @Benchmark
+    public int applyEffect() {
+        card.applyEffect(player, engine, economy);
+        final int money = player.getMoney();
+        player.restoreState(MONEY, 0, false, 0, true);
+        engine.getBank().restoreCash(BenchFixtures.BANK_CASH);
+        return money;
+    }
+}
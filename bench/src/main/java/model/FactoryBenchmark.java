@@ -0,0 +1,45 @@
+/* ===========================================================
+ * FactoryBenchmark ; leitura do tabuleiro e do baralho a partir dos CSVs.
+ * =========================================================== */
+
+package model;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * boardFromCsv lê e interpreta o arquivo inteiro a cada chamada.
+ * deckFromCsv usa o baralho-modelo em cache (caso de cada nova partida):
+ * mede a cópia do anel e o embaralhamento.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class FactoryBenchmark {
+
+    private Path board;
+    private Path deck;
+    private final SplittableRandom rng = new SplittableRandom(7L);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Path assets = BenchFixtures.writeAssets();
+        board = assets.resolve("board.csv");
+        deck = assets.resolve("deck.csv");
+    }
+
+    @Benchmark
+    public Board boardFromCsv() {
+        return BoardFactory.fromCSV(board);
+    }
+
+    @Benchmark
+    public Deck deckFromCsv() {
+        return DeckFactory.fromCSV(deck, rng);
+    }
+}
@@ -0,0 +1,119 @@
+/* ===========================================================
+ * LiquidationBenchmark ; EconomyService.liquidateOrBankruptIfNeeded.
+ * =========================================================== */
+
+package model;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Jogador sem caixa com `owned` propriedades deve `missing`:
+ *  - plan: só o planejamento (mochila de menor perda); sem efeitos, então o
+ *    estado é montado uma vez por trial;
+ *  - liquidate: planejamento + vendas ao banco. Cada chamada consome um devedor
+ *    de um lote pré-montado, restaurado entre as iterações (fora da medição);
+ *    cada iteração (ss) é um lote de BATCH chamadas, com o score dividido por BATCH.
+ * Nenhum dos dois usa Level.Invocation: em nanossegundos, o custo do setup
+ * por chamada e dos timestamps domina a medição.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class LiquidationBenchmark {
+
+    static final int BATCH = 100; // lote pequeno o bastante para os devedores caberem no cache
+
+    /** Um devedor com suas propriedades, no tabuleiro da própria partida. */
+    static final class Debtor {
+        final GameEngine engine;
+        final EconomyService economy;
+        final Player player;
+        final long ownedMask;
+
+        Debtor(final Path assets, final int owned) {
+            engine = BenchFixtures.engine(assets, 2, 0, true);
+            economy = new EconomyService(engine.getBank());
+            player = engine.playerAt(0);
+            BenchFixtures.giveProperties(engine, player, owned, 1);
+            ownedMask = player.propertiesMask();
+        }
+
+        /** Devolve as propriedades vendidas, zera o caixa do devedor e repõe o do banco. */
+        void restore() {
+            final Board board = engine.getBoard();
+            for (long m = ownedMask & ~player.propertiesMask(); m != 0; m &= m - 1) {
+                final OwnableSquare prop = (OwnableSquare) board.squareAt(Long.numberOfTrailingZeros(m));
+                prop.setOwner(player);
+                player.addProperty(prop);
+                if (prop instanceof StreetOwnableSquare street) street.restoreBuildings(1, false);
+            }
+            player.restoreState(0, 0, false, 0, true);
+            engine.getBank().restoreCash(BenchFixtures.BANK_CASH);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PlanState {
+
+        @Param({ "4", "12", "28" })
+        public int owned;
+
+        @Param({ "150", "1500" })
+        public int missing;
+
+        LiquidationPlanner planner;
+        Player debtor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            planner = new LiquidationPlanner();
+            debtor = new Debtor(BenchFixtures.writeAssets(), owned).player;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LiquidationState {
+
+        @Param({ "4", "12", "28" })
+        public int owned;
+
+        @Param({ "150", "1500" })
+        public int missing;
+
+        Debtor[] pool;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Path assets = BenchFixtures.writeAssets();
+            pool = new Debtor[BATCH];
+            for (int i = 0; i < BATCH; i++) pool[i] = new Debtor(assets, owned);
+        }
+
+        /** Antes de cada lote: todos os devedores voltam ao estado inicial. */
+        @Setup(Level.Iteration)
+        public void restore() {
+            for (Debtor d : pool) d.restore();
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    public long plan(final PlanState s) {
+        return s.planner.plan(s.debtor, s.missing);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(BATCH)
+    @Warmup(iterations = 500, batchSize = BATCH)
+    @Measurement(iterations = 300, batchSize = BATCH)
+    public boolean liquidate(final LiquidationState s) {
+        final Debtor d = s.pool[s.next++];
+        return d.economy.liquidateOrBankruptIfNeeded(d.player, s.missing);
+    }
+}
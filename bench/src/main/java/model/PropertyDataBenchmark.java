@@ -0,0 +1,36 @@
+/* ===========================================================
+ * PropertyDataBenchmark ; GameEngine.getCurrentPlayerPropertyData (DTOs da interface).
+ * =========================================================== */
+
+package model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import model.api.dto.OwnableInfo;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class PropertyDataBenchmark {
+
+    /** Propriedades do jogador da vez. */
+    @Param({ "0", "8", "28" })
+    public int owned;
+
+    private GameEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = BenchFixtures.engine(BenchFixtures.writeAssets(), 2, 1_500, false);
+        BenchFixtures.giveProperties(engine, engine.currentPlayer(), owned, 2);
+    }
+
+    @Benchmark
+    public List<OwnableInfo> currentPlayerPropertyData() {
+        return engine.getCurrentPlayerPropertyData();
+    }
+}
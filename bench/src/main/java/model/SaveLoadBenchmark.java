@@ -0,0 +1,62 @@
+/* ===========================================================
+ * SaveLoadBenchmark ; GameStateSaver / GameStateLoader (arquivo de jogo salvo).
+ * =========================================================== */
+
+package model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Partida no meio do jogo (propriedades com casas, cartas fora do baralho)
+ * gravada e relida de um arquivo temporário: save, load e a ida e volta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class SaveLoadBenchmark {
+
+    @Param({ "2", "6" })
+    public int players;
+
+    private GameEngine engine;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        engine = BenchFixtures.engine(BenchFixtures.writeAssets(), players, 1_500_000, true);
+        BenchFixtures.distributeProperties(engine, 3);
+        for (int t = 0; t < 200; t++) {
+            engine.beginTurn();
+            engine.rollAndResolve();
+            engine.endTurn();
+        }
+        file = Files.createTempFile("monopoly-bench", ".txt");
+        file.toFile().deleteOnExit();
+        save();
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        GameStateSaver.saveGame(file, engine.allPlayers(), engine.currentPlayerIndex(),
+                engine.getDeck(), engine.getBoard(), engine.getBank());
+        return file;
+    }
+
+    @Benchmark
+    public GameStateLoader.SavedGameData load() throws IOException {
+        return GameStateLoader.loadGame(file);
+    }
+
+    @Benchmark
+    public GameStateLoader.SavedGameData roundTrip() throws IOException {
+        save();
+        return GameStateLoader.loadGame(file);
+    }
+}
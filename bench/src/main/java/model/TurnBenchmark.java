@@ -0,0 +1,50 @@
+/* ===========================================================
+ * TurnBenchmark ; custo de um turno completo (GameEngine.rollAndResolve).
+ * =========================================================== */
+
+package model;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Um turno: rolar → prisão → mover → casa (aluguel, imposto, carta) → próximo jogador.
+ * Metade do tabuleiro já tem dono e casas, para que o aluguel faça parte do caminho.
+ * Com simulation=false o banco registra transações (drenadas a cada turno, como a interface faz).
+ * O caixa do banco é reposto quando cai à metade (o bônus de partida o esvazia aos poucos).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class TurnBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean simulation;
+
+    @Param({ "2", "6" })
+    public int players;
+
+    private GameEngine engine;
+    private Bank bank;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Path assets = BenchFixtures.writeAssets();
+        engine = BenchFixtures.engine(assets, players, 50_000_000, simulation);
+        BenchFixtures.distributeProperties(engine, 2);
+        bank = engine.getBank();
+    }
+
+    @Benchmark
+    public int rollAndResolve() {
+        engine.beginTurn();
+        engine.rollAndResolve();
+        if (!simulation) engine.collectTransactions();
+        if (bank.getCash() < BenchFixtures.BANK_CASH / 2) bank.restoreCash(BenchFixtures.BANK_CASH);
+        return engine.endTurn();
+    }
+}
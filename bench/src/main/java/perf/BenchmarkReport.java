@@ -0,0 +1,178 @@
+/* ===========================================================
+ * BenchmarkReport ; compara dois resultados JMH em CSV (-rf csv).
+ * Casa cada benchmark (nome + parâmetros) do baseline com o atual e
+ * marca regressões acima do limite que não se explicam pelo erro medido.
+ * =========================================================== */
+
+package perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Uso: java perf.BenchmarkReport baseline.csv atual.csv [limite%]
+ *  - limite% (padrão 10): piora mínima, em %, para contar como regressão
+ *  - termina com código 1 se houver regressão (útil em CI)
+ *
+ * Em modos de tempo (avgt, sample, ss) menor é melhor; em thrpt, maior é melhor.
+ * Uma piora só conta se também for maior que a soma dos erros (IC 99,9%) dos dois lados;
+ * por isso uma linha cujo erro passa do limite sai como NOISY, não como ok: ali uma
+ * regressão do tamanho do limite passaria despercebida.
+ */
+public final class BenchmarkReport {
+
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    /** Uma linha do CSV do JMH. */
+    record Result(String benchmark, String params, String mode, double score, double error, String unit) {
+        String key() { return benchmark + params; }
+        boolean higherIsBetter() { return mode.equals("thrpt"); }
+    }
+
+    private BenchmarkReport() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java perf.BenchmarkReport <baseline.csv> <current.csv> [thresholdPercent]");
+            System.exit(2);
+        }
+        final double threshold = (args.length > 2) ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        final Map<String, Result> baseline = read(Path.of(args[0]));
+        final Map<String, Result> current = read(Path.of(args[1]));
+
+        final int regressions = report(baseline, current, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    /** Imprime a comparação e retorna o número de regressões. */
+    static int report(final Map<String, Result> baseline, final Map<String, Result> current, final double threshold) {
+        int regressions = 0;
+        int noisy = 0;
+        System.out.printf(Locale.ROOT, "%-58s %-28s %14s %14s %9s  %s%n",
+                "Benchmark", "Params", "Baseline", "Current", "Change", "Status");
+        for (Result now : current.values()) {
+            final Result base = baseline.get(now.key());
+            if (base == null) {
+                System.out.printf(Locale.ROOT, "%-58s %-28s %14s %14s %9s  %s%n",
+                        now.benchmark(), now.params(), "-", format(now), "", "NEW");
+                continue;
+            }
+            if (!base.unit().equals(now.unit()) || !base.mode().equals(now.mode())) {
+                System.out.printf(Locale.ROOT, "%-58s %-28s %14s %14s %9s  %s%n",
+                        now.benchmark(), now.params(), format(base), format(now), "", "UNIT CHANGED");
+                continue;
+            }
+            // Variação em "piora": positivo = pior, independente do modo
+            final double change = (now.score() - base.score()) / base.score() * 100.0;
+            final double worse = now.higherIsBetter() ? -change : change;
+            final boolean beyondNoise = Math.abs(now.score() - base.score()) > safe(base.error()) + safe(now.error());
+            final String status;
+            if (worse > threshold && beyondNoise) {
+                status = "REGRESSION";
+                regressions++;
+            } else if (worse < -threshold && beyondNoise) {
+                status = "improved";
+            } else if (relativeError(base) > threshold || relativeError(now) > threshold) {
+                status = String.format(Locale.ROOT, "NOISY (error %.0f%% / %.0f%%)", relativeError(base), relativeError(now));
+                noisy++;
+            } else {
+                status = "ok";
+            }
+            System.out.printf(Locale.ROOT, "%-58s %-28s %14s %14s %+8.1f%%  %s%n",
+                    now.benchmark(), now.params(), format(base), format(now), change, status);
+        }
+        for (Result base : baseline.values()) {
+            if (!current.containsKey(base.key())) {
+                System.out.printf(Locale.ROOT, "%-58s %-28s %14s %14s %9s  %s%n",
+                        base.benchmark(), base.params(), format(base), "-", "", "MISSING");
+            }
+        }
+        System.out.printf(Locale.ROOT, "%d regression(s) above %.1f%%%n", regressions, threshold);
+        if (noisy > 0) {
+            System.out.printf(Locale.ROOT,
+                    "WARNING: %d row(s) with error above %.1f%% of the score (baseline / current); "
+                    + "regressions there go undetected, re-run with more forks or iterations%n", noisy, threshold);
+        }
+        return regressions;
+    }
+
+    /** Erro (IC 99,9%) em % do score; 0 sem erro medido. */
+    private static double relativeError(final Result r) {
+        return (r.score() == 0.0) ? 0.0 : safe(r.error()) / Math.abs(r.score()) * 100.0;
+    }
+
+    /** Lê o CSV do JMH; a chave é nome + parâmetros. */
+    static Map<String, Result> read(final Path csv) throws IOException {
+        final List<String> lines = Files.readAllLines(csv);
+        final Map<String, Result> out = new LinkedHashMap<>();
+        if (lines.isEmpty()) return out;
+
+        final List<String> header = split(lines.get(0));
+        final int name = header.indexOf("Benchmark");
+        final int mode = header.indexOf("Mode");
+        final int score = header.indexOf("Score");
+        final int error = header.indexOf("Score Error (99.9%)");
+        final int unit = header.indexOf("Unit");
+        if (name < 0 || mode < 0 || score < 0 || unit < 0) {
+            throw new IllegalArgumentException("Not a JMH CSV result: " + csv);
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) continue;
+            final List<String> row = split(lines.get(i));
+            final StringBuilder params = new StringBuilder();
+            for (int c = 0; c < header.size() && c < row.size(); c++) {
+                final String col = header.get(c);
+                if (col.startsWith("Param: ") && !row.get(c).isEmpty()) {
+                    params.append(params.length() == 0 ? "" : ",")
+                          .append(col.substring("Param: ".length())).append('=').append(row.get(c));
+                }
+            }
+            final Result r = new Result(row.get(name), params.toString(), row.get(mode),
+                    number(row.get(score)), (error >= 0) ? number(row.get(error)) : Double.NaN, row.get(unit));
+            out.put(r.key(), r);
+        }
+        return out;
+    }
+
+    // Campos separados por vírgula, opcionalmente entre aspas (formato do JMH)
+    private static List<String> split(final String line) {
+        final List<String> out = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char ch = line.charAt(i);
+            if (ch == '"') {
+                quoted = !quoted;
+            } else if (ch == ',' && !quoted) {
+                out.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+        out.add(field.toString());
+        return out;
+    }
+
+    private static double number(final String s) {
+        if (s.isBlank() || s.equals("NaN")) return Double.NaN;
+        return Double.parseDouble(s.trim());
+    }
+
+    private static double safe(final double error) {
+        return Double.isNaN(error) ? 0.0 : error;
+    }
+
+    private static String format(final Result r) {
+        return String.format(Locale.ROOT, "%.3f %s", r.score(), r.unit());
+    }
+}
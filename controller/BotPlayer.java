@@ -0,0 +1,87 @@
+/* ===========================================================
+ * BotPlayer ; jogador automático usado pelo auto-play e pelas mesas simuladas.
+ * Age direto no GameAPI, sem notificar observers.
+ * =========================================================== */
+
+package controller;
+
+import java.util.List;
+import model.GameAPI;
+import model.api.dto.GameSnapshot;
+import model.api.dto.Transaction;
+
+/**
+ * Estratégia simples: rola, compra se possível, senão tenta construir uma casa,
+ * e encerra o turno. Guarda o último lance e a última transação para os snapshots.
+ * Não é thread-safe: deve ser usado pela mesma thread que acessa o GameAPI.
+ */
+final class BotPlayer {
+
+    private int lastDice1;
+    private int lastDice2;
+    private Transaction lastTransaction;
+    private long turnsPlayed;
+
+    /** Zera o estado acumulado (nova sessão/partida). */
+    void reset() {
+        lastDice1 = 0;
+        lastDice2 = 0;
+        lastTransaction = null;
+        turnsPlayed = 0;
+    }
+
+    /**
+     * Joga o turno do jogador atual.
+     * @return false se a partida acabou (um ou nenhum jogador ativo); nesse caso o turno não é encerrado
+     */
+    boolean playTurn(final GameAPI api) {
+        final int current = api.getCurrentPlayerIndex();
+
+        if (api.isRollAllowed()) {
+            api.rollAndResolve();
+            final GameAPI.DiceData roll = api.getLastDiceData();
+            lastDice1 = roll.d1();
+            lastDice2 = roll.d2();
+
+            // Compra se possível; senão tenta construir (uma ação por turno)
+            if (api.isPlayerAlive(current) && !api.chooseBuy()) {
+                api.chooseBuildHouse();
+            }
+        }
+        keepLastTransaction(api.fetchAndClearTransactions());
+
+        if (api.getAlivePlayerCount() <= 1) return false;
+
+        api.endTurn();
+        keepLastTransaction(api.fetchAndClearTransactions());
+        turnsPlayed++;
+        return true;
+    }
+
+    /** Turnos jogados desde o último reset. */
+    long turnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /** Monta o retrato do estado atual da partida. */
+    GameSnapshot snapshot(final GameAPI api, final boolean running) {
+        final int n = api.getNumberOfPlayers();
+        final int[] positions = new int[n];
+        final int[] money = new int[n];
+        final boolean[] alive = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            positions[i] = api.getPlayerPosition(i);
+            money[i] = api.getPlayerMoney(i);
+            alive[i] = api.isPlayerAlive(i);
+        }
+        final int current = api.getCurrentPlayerIndex();
+        return new GameSnapshot(positions, money, alive, current, api.getPlayerName(current),
+                lastDice1, lastDice2, lastTransaction, turnsPlayed, running);
+    }
+
+    private void keepLastTransaction(final List<Transaction> transactions) {
+        if (!transactions.isEmpty()) {
+            lastTransaction = transactions.get(transactions.size() - 1);
+        }
+    }
+}
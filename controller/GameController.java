@@ -6,42 +6,101 @@
 
 package controller;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import model.GameAPI;
+import model.api.dto.GameSnapshot;
 import model.api.dto.PlayerRef;
 import model.api.dto.OwnableInfo;
 import model.api.dto.Ownables;
 import model.api.dto.PlayerColor;
+import model.api.dto.SquareType;
+import model.metrics.GameMetrics;
+import model.metrics.TraceRecorder;
+import model.metrics.TurnMetrics;
+import model.metrics.TurnPhase;
 /**
  * Controller principal da aplicação.
  * Gerencia o ciclo do jogo e coordena a comunicação entre Model e View.
+ *
+ * Todo acesso ao GameAPI acontece em uma única thread dedicada ("game-engine").
+ * Os métodos públicos podem ser chamados de qualquer thread (ex.: EDT): as ações
+ * são enfileiradas nessa thread e os observers são notificados a partir dela,
+ * cabendo à View repassar as atualizações para a EDT.
+ * Nenhum método público espera pela thread do jogo: consultas e operações pontuais
+ * (iniciar, carregar, salvar) devolvem um CompletableFuture completado nela; a View
+ * continua na EDT com {@code whenCompleteAsync(..., SwingUtilities::invokeLater)}.
  */
 public class GameController {
     
     private final GameAPI gameAPI;
     private final List<GameObserver> observers;
-    private boolean gameStarted;
+    private volatile boolean gameStarted;
+    
+    // Executor single-thread onde o Model roda (fora da EDT)
+    private final ExecutorService gameExecutor;
+    private volatile Thread gameThread;
+    // Ações enfileiradas ainda não concluídas; o estado "busy" só é lido/escrito na game thread
+    private final AtomicInteger pendingActions = new AtomicInteger();
+    private boolean busy;
+    
+    // Auto-play: a flag é lida/escrita de qualquer thread; o resto só na game thread
+    private static final long AUTO_PLAY_SLICE_NANOS = 20_000_000L; // fatia máxima antes de devolver a thread
+    private volatile boolean autoPlayRunning;
+    private long autoPlayTurnsLeft;
+    private long autoPlaySnapshotIntervalNanos;
+    private long autoPlayLastSnapshotAt;
+    private final BotPlayer autoPlayer = new BotPlayer();
+
+    // Métricas de operação do processo (partidas iniciadas/ativas), exportadas pelo MetricsServer
+    private final GameMetrics gameMetrics = GameMetrics.global();
+    private MetricsServer metricsServer; // null enquanto o endpoint não foi iniciado
+
+    // Linha do tempo da partida (Chrome Trace Event): ações, fases do motor e callbacks dos observers
+    public static final String TRACE_PROPERTY = "monopoly.trace";
+    public static final String TRACE_CAPACITY_PROPERTY = "monopoly.trace.capacity";
+    private static final String TRACE_ACTION = "controller";
+    private static final String TRACE_OBSERVER = "observer";
+    private volatile TraceRecorder trace = TraceRecorder.DISABLED;
+    private volatile TraceRecorder lastTrace = TraceRecorder.DISABLED; // última gravação (ativa ou parada)
+    
+    // Contadores de pouso da sessão: partidas já encerradas (a atual é somada na leitura)
+    private long[] sessionLandings = new long[0];
+    private boolean matchLandingsActive; // partida atual ainda não somada à sessão
     
     // Mock de dados para testes
     private Integer mockedDice1;
     private Integer mockedDice2;
     
     // Configurações padrão
-    private static final int INITIAL_PLAYER_MONEY = 4000;
-    private static final int INITIAL_BANK_CASH = 200000;
-    private static final String BOARD_CSV = "assets/dados/board.csv";
-    private static final String DECK_CSV = "assets/dados/deck.csv";
+    static final int INITIAL_PLAYER_MONEY = 4000;
+    static final int INITIAL_BANK_CASH = 200000;
+    static final String BOARD_CSV = "assets/dados/board.csv";
+    static final String DECK_CSV = "assets/dados/deck.csv";
     
     // Cores padrão para os jogadores (definidas pelo enum PlayerColor)
     private static final PlayerColor[] PLAYER_COLORS = PlayerColor.values();
     
     private GameController() {
         this.gameAPI = new GameAPI();
-        this.observers = new ArrayList<>();
+        this.observers = new CopyOnWriteArrayList<>();
         this.gameStarted = false;
+        this.gameExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "game-engine");
+            t.setDaemon(true);
+            gameThread = t;
+            return t;
+        });
     }
 
     // Instância única do GameController (Singleton)
@@ -69,55 +128,159 @@ public class GameController {
     public void removeObserver(GameObserver observer) {
         observers.remove(observer);
     }
+
+    // ========== Thread do jogo ==========
+
+    /** Retorna true se a thread atual é a thread do jogo. */
+    private boolean isGameThread() {
+        return Thread.currentThread() == gameThread;
+    }
+
+    /**
+     * Enfileira uma ação na thread do jogo (ou executa direto se já estiver nela).
+     * Mantém o estado "busy" enquanto houver ações pendentes.
+     */
+    private void runOnGameThread(final Runnable action) {
+        if (isGameThread()) {
+            action.run();
+            return;
+        }
+        enqueueOnGameThread(action);
+    }
+
+    /** Sempre enfileira a ação (mesmo a partir da própria thread do jogo). */
+    private void enqueueOnGameThread(final Runnable action) {
+        pendingActions.incrementAndGet();
+        gameExecutor.execute(() -> {
+            if (!busy) {
+                busy = true;
+                notifyBusyStateChanged(true);
+            }
+            try {
+                action.run();
+            } catch (Exception e) {
+                notifyGameMessage("Error: " + e.getMessage());
+                e.printStackTrace();
+            } finally {
+                if (pendingActions.decrementAndGet() == 0) {
+                    busy = false;
+                    notifyBusyStateChanged(false);
+                }
+            }
+        });
+    }
+
+    /**
+     * Executa uma consulta/ação na thread do jogo sem bloquear quem chamou.
+     * O resultado (ou a exceção) completa o futuro na thread do jogo.
+     * Usado por consultas e operações pontuais (iniciar, carregar, salvar).
+     */
+    private <T> CompletableFuture<T> callOnGameThread(final Callable<T> call) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        runOnGameThread(() -> {
+            try {
+                result.complete(call.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Repassa uma notificação a todos os observers, medindo o repasse (TurnPhase.NOTIFY).
+     * Com o trace ligado, cada observer chamado vira um trecho {@code callback} (detalhe: classe do observer).
+     */
+    private void fanOut(final String callback, final Consumer<GameObserver> notification) {
+        final TurnMetrics metrics = gameAPI.getMetrics();
+        final TraceRecorder trace = this.trace;
+        final long t0 = metrics.start();
+        for (GameObserver observer : observers) {
+            final long traceStart = trace.begin();
+            notification.accept(observer);
+            trace.end(TRACE_OBSERVER, callback, observer.getClass().getName(), traceStart);
+        }
+        metrics.stop(TurnPhase.NOTIFY, t0);
+    }
+
+    /** Notifica observers que a thread do jogo começou/terminou de processar ações. */
+    private void notifyBusyStateChanged(boolean busy) {
+        fanOut("onBusyStateChanged", observer -> observer.onBusyStateChanged(busy));
+    }
+
+    /** Notifica observers com um retrato consolidado do estado. */
+    private void notifyGameSnapshot(GameSnapshot snapshot) {
+        fanOut("onGameSnapshot", observer -> observer.onGameSnapshot(snapshot));
+    }
+
+    /** Notifica observers com os contadores de pouso (partida e sessão). */
+    private void notifyLandingStats() {
+        if (!matchLandingsActive) return;
+        final int[] match = gameAPI.getLandingCounts();
+        final long[] session = java.util.Arrays.copyOf(sessionLandings, Math.max(sessionLandings.length, match.length));
+        for (int i = 0; i < match.length; i++) {
+            session[i] += match[i];
+        }
+        fanOut("onLandingStatsUpdated", observer -> observer.onLandingStatsUpdated(match, session));
+    }
+
+    /** Soma os pousos da partida atual aos da sessão (uma vez por partida). */
+    private void foldMatchLandings() {
+        if (!matchLandingsActive) return;
+        final int[] match = gameAPI.getLandingCounts();
+        if (sessionLandings.length < match.length) {
+            sessionLandings = java.util.Arrays.copyOf(sessionLandings, match.length);
+        }
+        for (int i = 0; i < match.length; i++) {
+            sessionLandings[i] += match[i];
+        }
+        matchLandingsActive = false;
+    }
+
+    /** Notifica observers com o saldo atualizado de um jogador. */
+    private void notifyPlayerMoneyChanged(int playerIndex) {
+        int money = gameAPI.getPlayerMoney(playerIndex);
+        fanOut("onPlayerMoneyChanged", observer -> observer.onPlayerMoneyChanged(playerIndex, money));
+    }
     
     /**
      * Notifica todos os observadores sobre o início de um turno.
      */
     private void notifyTurnStarted(int playerIndex, String playerName, PlayerColor firstPlayerColor, int playerMoney) {
-        for (GameObserver observer : observers) {
-            observer.onTurnStarted(playerIndex, playerName, firstPlayerColor, playerMoney);
-        }
+        fanOut("onTurnStarted", observer -> observer.onTurnStarted(playerIndex, playerName, firstPlayerColor, playerMoney));
     }
     
     /**
      * Notifica todos os observadores sobre um lance de dados.
      */
     private void notifyDiceRolled(int dice1, int dice2, boolean isDouble) {
-        for (GameObserver observer : observers) {
-            observer.onDiceRolled(dice1, dice2, isDouble);
-        }
+        fanOut("onDiceRolled", observer -> observer.onDiceRolled(dice1, dice2, isDouble));
     }
     
     /**
      * Notifica todos os observadores sobre movimento de jogador.
      */
     private void notifyPlayerMoved(int playerIndex, int fromPosition, int toPosition) {
-        for (GameObserver observer : observers) {
-            observer.onPlayerMoved(playerIndex, fromPosition, toPosition);
-        }
+        fanOut("onPlayerMoved", observer -> observer.onPlayerMoved(playerIndex, fromPosition, toPosition));
     }
 
     /**
      * Notifica todos os observadores que um jogador caiu em uma casa específica.
      */
-    private void notifySquareLanded(int playerIndex, int squareIndex, String squareName, String squareType) {
-        for (GameObserver observer : observers) {
-            observer.onSquareLanded(playerIndex, squareIndex, squareName, squareType);
-        }
+    private void notifySquareLanded(int playerIndex, int squareIndex, String squareName, SquareType squareType) {
+        fanOut("onSquareLanded", observer -> observer.onSquareLanded(playerIndex, squareIndex, squareName, squareType));
     }
 
     /** Notifica observers que o jogo terminou e entrega a lista de vencedores. */
     private void notifyGameEnded(java.util.List<PlayerRef> winners) {
-        for (GameObserver observer : observers) {
-            observer.onGameEnded(winners);
-        }
+        fanOut("onGameEnded", observer -> observer.onGameEnded(winners));
     }
 
     /**
      * Função auxiliar que notifica os observadores sobre a casa em que o jogador caiu
      * e executa ações específicas baseadas no tipo da casa.
      */
-    private void callSquareNotification(int playerIndex, int squareIndex, String squareName, String squareType) {
+    private void callSquareNotification(int playerIndex, int squareIndex, String squareName, SquareType squareType) {
         // Sempre notifica o pouso na casa
         notifySquareLanded(playerIndex, squareIndex, squareName, squareType);
 
@@ -125,33 +288,37 @@ public class GameController {
 
         // Açoes específicas baseadas no tipo da casa
         switch (squareType) {
-            case "ChanceSquare":
+            case CHANCE:
                 notifyGameMessage("Drawing a chance card for " + gameAPI.getPlayerName(playerIndex));
                 int cardIdx = gameAPI.getLastDrawedCardIndex();
                 notifyChanceSquare(playerIndex, cardIdx);
+                notifyPlayerMoneyChanged(playerIndex);
                 notifyGameMessage("Chance card drawn, index: " + cardIdx);
                 break;
-            case "GoToJailSquare":
+            case GO_TO_JAIL:
                 notifyGameMessage("GoToJailSquare landed: player will be sent to jail.");
                 break;
-            case "JailSquare":
-                notifyGameMessage("JailSquare: visiting jail.");
+            case JAIL:
+                // Quem caiu em "Vá para a prisão" termina o movimento aqui, já preso
+                notifyGameMessage(gameAPI.isPlayerInJail(playerIndex)
+                        ? "JailSquare: player was sent to jail."
+                        : "JailSquare: visiting jail.");
                 break;
-            case "MoneySquare":
+            case MONEY:
                 notifyGameMessage("MoneySquare: money-related effect applies.");
                 break;
-            case "StreetOwnableSquare":
+            case STREET:
                 notifyGameMessage("Ownable property landed: " + squareName);
        
                 var streetDto = gameAPI.getStreetOwnableInfo(squareIndex);
                 notifyStreetOwnable(playerIndex, squareName, streetDto);
                 break;
-            case "CompanyOwnableSquare":
+            case COMPANY:
                 notifyGameMessage("Company landed: " + squareName);
                 var companyDto = gameAPI.getCompanyOwnableInfo(squareIndex);
                 notifyCompanyOwnable(playerIndex, squareName, companyDto);
                 break;
-            case "StartSquare":
+            case START:
                 notifyGameMessage("Start square landed: collecting rewards if any.");
                 break;
             default:
@@ -160,50 +327,40 @@ public class GameController {
     }
 
     private void notifyChanceSquare(int playerIndex, int cardIndex) {
-        for (GameObserver observer : observers) {
-            observer.onChanceSquareLand(playerIndex, cardIndex);
-        }
+        fanOut("onChanceSquareLand", observer -> observer.onChanceSquareLand(playerIndex, cardIndex));
     }
 
     private void notifyStreetOwnable(int playerIndex, String propertyName, Ownables.Street streetInfo) {
         notifyGameMessage("Street ownable landed: " + propertyName + " (player=" + playerIndex + ")");
-        for (GameObserver observer : observers) {
-            observer.onStreetOwnableLand(playerIndex, propertyName, streetInfo);
-        }
+        fanOut("onStreetOwnableLand", observer -> observer.onStreetOwnableLand(playerIndex, propertyName, streetInfo));
     }
 
     private void notifyCompanyOwnable(int playerIndex, String companyName, Ownables.Company companyInfo) {
         notifyGameMessage("Company ownable landed: " + companyName + " (player=" + playerIndex + ")");
-        for (GameObserver observer : observers) {
-            observer.onCompanyOwnableLand(playerIndex, companyName, companyInfo);
-        }
+        fanOut("onCompanyOwnableLand", observer -> observer.onCompanyOwnableLand(playerIndex, companyName, companyInfo));
     }
 
     /**
      * Notifica atualização de uma rua (compra/construção)
      */
     private void notifyStreetOwnableUpdate(int playerIndex, Ownables.Street streetInfo) {
-        for (GameObserver observer : observers) {
-            observer.onStreetOwnableUpdate(playerIndex, streetInfo);
-        }
+        fanOut("onStreetOwnableUpdate", observer -> observer.onStreetOwnableUpdate(playerIndex, streetInfo));
+        notifyPlayerMoneyChanged(playerIndex);
     }
 
     /**
      * Notifica atualização de uma companhia (compra/efeito)
      */
     private void notifyCompanyOwnableUpdate(int playerIndex, Ownables.Company companyInfo) {
-        for (GameObserver observer : observers) {
-            observer.onCompanyOwnableUpdate(playerIndex, companyInfo);
-        }
+        fanOut("onCompanyOwnableUpdate", observer -> observer.onCompanyOwnableUpdate(playerIndex, companyInfo));
+        notifyPlayerMoneyChanged(playerIndex);
     }
     
     /**
      * Notifica todos os observadores sobre uma mensagem do jogo.
      */
     private void notifyGameMessage(String message) {
-        for (GameObserver observer : observers) {
-            observer.onGameMessage(message);
-        }
+        fanOut("onGameMessage", observer -> observer.onGameMessage(message));
     }
 
     /** Notifica sobre transações para todos os observers. */
@@ -224,18 +381,14 @@ public class GameController {
         }
 
         // Notifica observers com objetos para UI (BoardPanel)
-        for (GameObserver observer : observers) {
-            observer.onTransactionsUpdated(transactions);
-        }
+        fanOut("onTransactionsUpdated", observer -> observer.onTransactionsUpdated(transactions));
     }
     
     /**
      * Notifica todos os observadores sobre o fim do turno.
      */
     private void notifyTurnEnded() {
-        for (GameObserver observer : observers) {
-            observer.onTurnEnded();
-        }
+        fanOut("onTurnEnded", observer -> observer.onTurnEnded());
     }
 
     /**
@@ -243,48 +396,42 @@ public class GameController {
      */
     private void notifyClearTransactions() {
         java.util.List<model.api.dto.Transaction> empty = java.util.List.of();
-        for (GameObserver observer : observers) {
-            observer.onTransactionsUpdated(empty);
-        }
+        fanOut("onTransactionsUpdated", observer -> observer.onTransactionsUpdated(empty));
     }
 
     /** Notifica observadores que um jogador faliu e deve ser removido/ocultado da UI. */
     private void notifyPlayerBankrupt(int playerIndex) {
-        for (GameObserver observer : observers) {
-            observer.onPlayerBankrupt(playerIndex);
-        }
+        fanOut("onPlayerBankrupt", observer -> observer.onPlayerBankrupt(playerIndex));
     }
     
 
     /** Notificar observers com a lista de propriedades prontas */
     private void notifyPropertyDataUpdated(List<OwnableInfo> items) {
-        for (GameObserver observer : observers) {
-            observer.onCurrentPlayerPropertyDataUpdated(items);
-        }
+        fanOut("onCurrentPlayerPropertyDataUpdated", observer -> observer.onCurrentPlayerPropertyDataUpdated(items));
     }
 
     /** Notificar observers sobre venda de propriedade */
     private void notifyPropertySold(int playerIndex) {
-        for (GameObserver observer : observers) {
-            observer.onPropertySold(playerIndex);
-        }
+        fanOut("onPropertySold", observer -> observer.onPropertySold(playerIndex));
+        notifyPlayerMoneyChanged(playerIndex);
     }
     
     /**
      * Inicia um novo jogo com o número especificado de jogadores.
      * @param numberOfPlayers número de jogadores (3 a 6)
+     * @return completado quando a partida estiver iniciada (ou com o erro)
      */
-    public void startNewGame(int numberOfPlayers) {
+    public CompletableFuture<Void> startNewGame(int numberOfPlayers) {
+        return callOnGameThread(() -> { doStartNewGame(numberOfPlayers); return null; });
+    }
+
+    private void doStartNewGame(int numberOfPlayers) {
         if (numberOfPlayers < 3 || numberOfPlayers > 6) {
             throw new IllegalArgumentException("Number of players must be between 3 and 6");
         }
         
         // Cria lista de jogadores (DTO PlayerRef)
-        List<PlayerRef> playerSpecs = new ArrayList<>();
-        for (int i = 0; i < numberOfPlayers; i++) {
-            PlayerColor color = PLAYER_COLORS[i];
-            playerSpecs.add(PlayerRef.of(i + 1, color, "Player " + (i + 1)));
-        }
+        List<PlayerRef> playerSpecs = createPlayerSpecs(numberOfPlayers);
         // Emit debug messages listando os jogadores criados (nome e cor)
         for (int i = 0; i < numberOfPlayers; i++) {
             String pname = "Player " + (i + 1);
@@ -295,11 +442,16 @@ public class GameController {
         Path boardPath = Paths.get(BOARD_CSV);
         Path deckPath = Paths.get(DECK_CSV);
         
+        trace.clear(); // uma partida por linha do tempo
+        final long traceStart = trace.begin();
         try {
             
             // Inicia o jogo através da API
+            foldMatchLandings();
             gameAPI.startGame(playerSpecs, boardPath, deckPath, INITIAL_PLAYER_MONEY, INITIAL_BANK_CASH);
             gameStarted = true;
+            gameMetrics.gameStarted();
+            matchLandingsActive = true;
             
             // Atualiza as posições iniciais de todos os jogadores
             for (int i = 0; i < numberOfPlayers; i++) {
@@ -323,7 +475,19 @@ public class GameController {
             e.printStackTrace();
             notifyGameMessage("Error starting game: " + e.getMessage());
             throw new RuntimeException("Failed to start game", e);
+        } finally {
+            trace.end(TRACE_ACTION, "startNewGame", traceStart);
+        }
+    }
+    
+    /** Cria os jogadores padrão ("Player 1".."Player N", cores na ordem do enum). */
+    static List<PlayerRef> createPlayerSpecs(int numberOfPlayers) {
+        List<PlayerRef> playerSpecs = new ArrayList<>();
+        for (int i = 0; i < numberOfPlayers; i++) {
+            PlayerColor color = PLAYER_COLORS[i];
+            playerSpecs.add(PlayerRef.of(i + 1, color, "Player " + (i + 1)));
         }
+        return playerSpecs;
     }
     
     /**
@@ -331,8 +495,10 @@ public class GameController {
      * Este é o método principal que coordena a jogada.
      */
     public void rollDiceAndPlay() {
+        if (!isGameThread()) { runOnGameThread(this::rollDiceAndPlay); return; }
         ensureGameStarted();
         
+        final long traceStart = trace.begin();
         try {
             int currentPlayer = gameAPI.getCurrentPlayerIndex();
             if (!gameAPI.isRollAllowed()) {
@@ -375,7 +541,7 @@ public class GameController {
 
             // Notifica sobre a casa em que o jogador caiu
             String squareName = gameAPI.getSquareName(positionAfter);
-            String squareType = gameAPI.getSquareType(positionAfter);
+            SquareType squareType = gameAPI.getSquareType(positionAfter);
             
             // Usa a função auxiliar para notificar e tratar efeitos
             callSquareNotification(currentPlayer, positionAfter, squareName, squareType);
@@ -383,6 +549,7 @@ public class GameController {
             // Coleta transações ocorridas durante a jogada e as notifica
             var transactions = gameAPI.fetchAndClearTransactions();
             notifyTransactions(transactions);
+            notifyLandingStats();
 
             // Após a jogada (roll & resolve), verifique se o jogador que rolou faliu.
             if (!gameAPI.isPlayerAlive(currentPlayer)) {
@@ -395,6 +562,8 @@ public class GameController {
         } catch (Exception e) {
             notifyGameMessage("Error during turn: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            trace.end(TRACE_ACTION, "rollDiceAndPlay", traceStart);
         }
     }
     
@@ -402,8 +571,10 @@ public class GameController {
      * Finaliza o turno atual e passa para o próximo jogador.
      */
     public void endTurn() {
+        if (!isGameThread()) { runOnGameThread(this::endTurn); return; }
         ensureGameStarted();
         
+        final long traceStart = trace.begin();
         try {
             // Finaliza o turno e obtém o próximo jogador
             gameAPI.endTurn();
@@ -429,6 +600,8 @@ public class GameController {
         } catch (Exception e) {
             notifyGameMessage("Error ending turn: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            trace.end(TRACE_ACTION, "endTurn", traceStart);
         }
     }
     /**
@@ -438,13 +611,98 @@ public class GameController {
         return gameStarted;
     }
 
+    /**
+     * Tabela de latência por fase do turno e do repasse das notificações
+     * (contagem, média e percentis em µs). Pode ser chamada de qualquer thread.
+     */
+    public String dumpMetrics() {
+        return gameAPI.getMetrics().dump();
+    }
+
+    // ========== Trace da partida ==========
+
+    /**
+     * Liga a gravação da linha do tempo: ações do Controller, fases do motor e
+     * callbacks dos observers (e a entrega na EDT, pela View). Trechos vão para um
+     * anel de {@code capacity} posições; iniciar ou carregar uma partida limpa o anel.
+     * Abra o arquivo de writeTrace em chrome://tracing ou ui.perfetto.dev.
+     */
+    public void startTrace(final int capacity) {
+        final TraceRecorder recorder = new TraceRecorder(capacity);
+        lastTrace = recorder;
+        runOnGameThread(() -> {
+            gameAPI.setTrace(recorder);
+            trace = recorder;
+        });
+    }
+
+    /** Para a gravação; a última linha do tempo continua disponível para writeTrace. */
+    public void stopTrace() {
+        runOnGameThread(() -> {
+            gameAPI.setTrace(TraceRecorder.DISABLED);
+            trace = TraceRecorder.DISABLED;
+        });
+    }
+
+    /** Gravação ativa (TraceRecorder.DISABLED se desligada). Pode ser chamada de qualquer thread. */
+    public TraceRecorder getTraceRecorder() {
+        return trace;
+    }
+
+    /**
+     * Escreve a linha do tempo atual (ou a última gravada) em JSON do Trace Event Format.
+     * Pode ser chamada de qualquer thread, inclusive durante a gravação (não passa pela thread do jogo).
+     * @return true se escreveu, false se nunca houve gravação ou em erro de E/S
+     */
+    public boolean writeTrace(final Path tracePath) {
+        final TraceRecorder recorder = lastTrace;
+        if (!recorder.isEnabled()) return false;
+        try {
+            recorder.writeJson(tracePath);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing trace: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Inicia o endpoint de métricas se a propriedade {@code monopoly.metrics.port} estiver
+     * definida. O controller guarda o servidor e o fecha ao encerrar a JVM.
+     * @throws IOException se a porta não puder ser aberta
+     */
+    public synchronized void startMetricsIfConfigured() throws IOException {
+        if (metricsServer != null) return;
+        final MetricsServer server = MetricsServer.startIfConfigured();
+        if (server == null) return;
+        metricsServer = server;
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "metrics-shutdown"));
+    }
+
+    /**
+     * Liga o trace se a propriedade {@code monopoly.trace} (arquivo de saída) estiver
+     * definida e o grava ao encerrar a JVM. Capacidade: {@code monopoly.trace.capacity}.
+     */
+    public void startTraceIfConfigured() {
+        final String file = System.getProperty(TRACE_PROPERTY);
+        if (file == null || file.isBlank()) return;
+        startTrace(Integer.getInteger(TRACE_CAPACITY_PROPERTY, TraceRecorder.DEFAULT_CAPACITY));
+        final Path tracePath = Paths.get(file);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                lastTrace.writeJson(tracePath);
+            } catch (IOException e) {
+                System.err.println("Error writing trace: " + e.getMessage());
+            }
+        }, "trace-writer"));
+    }
+
     /**
      * Retorna a lista de vencedores da partida (PlayerRef).
      * Se o jogo não foi iniciado, retorna lista vazia.
      */
-    public java.util.List<model.api.dto.PlayerRef> getWinners() {
-        if (!gameStarted) return java.util.List.of();
-        return gameAPI.getWinners();
+    public CompletableFuture<List<PlayerRef>> getWinners() {
+        return callOnGameThread(() -> gameStarted ? gameAPI.getWinners() : List.of());
     }
 
     /**
@@ -452,14 +710,19 @@ public class GameController {
      * Usado pela View quando o usuário clica em "Finish Game".
      */
     public void finishGame() {
+        if (!isGameThread()) { runOnGameThread(this::finishGame); return; }
         if (!gameStarted) {
             notifyGameMessage("Finish requested but game not started.");
             return;
         }
 
+        final long traceStart = trace.begin();
         java.util.List<PlayerRef> winners = gameAPI.getWinners();
+        foldMatchLandings();
         notifyGameEnded(winners);
         gameStarted = false;
+        gameMetrics.gameFinished();
+        trace.end(TRACE_ACTION, "finishGame", traceStart);
     }
 
     /**
@@ -474,8 +737,8 @@ public class GameController {
     /**
      * Retorna a quantidade de dinheiro de um jogador (acesso de conveniência para a view).
      */
-    public int getPlayerMoney(int playerIndex) {
-        return gameAPI.getPlayerMoney(playerIndex);
+    public CompletableFuture<Integer> getPlayerMoney(int playerIndex) {
+        return callOnGameThread(() -> gameAPI.getPlayerMoney(playerIndex));
     }
 
     /**
@@ -483,8 +746,10 @@ public class GameController {
      * Se não for possível, envia uma mensagem de debug explicando o motivo.
      */
     public void attemptBuy() {
+        if (!isGameThread()) { runOnGameThread(this::attemptBuy); return; }
         ensureGameStarted();
 
+        final long traceStart = trace.begin();
         try {
             final int currentPlayer = gameAPI.getCurrentPlayerIndex();
 
@@ -500,10 +765,8 @@ public class GameController {
 
             notifyGameMessage(gameAPI.getPlayerName(currentPlayer) + " bought " + propName);
 
-            String squareType = gameAPI.getSquareType(pos);
-
             // Se for uma propriedade comprada, notifica a atualização adequada
-            if (squareType.equals("StreetOwnableSquare")) {
+            if (gameAPI.getSquareType(pos) == SquareType.STREET) {
                 Ownables.Street streetInfo = gameAPI.getStreetOwnableInfo(pos);
                 notifyStreetOwnableUpdate(currentPlayer, streetInfo);
             } else {
@@ -518,6 +781,8 @@ public class GameController {
         } catch (Exception e) {
             notifyGameMessage("Error while attempting buy: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            trace.end(TRACE_ACTION, "attemptBuy", traceStart);
         }
     }
 
@@ -526,8 +791,10 @@ public class GameController {
      * Emite debug se não for possível.
      */
     public void attemptBuildHouse() {
+        if (!isGameThread()) { runOnGameThread(this::attemptBuildHouse); return; }
         ensureGameStarted();
 
+        final long traceStart = trace.begin();
         try {
             final int currentPlayer = gameAPI.getCurrentPlayerIndex();
 
@@ -550,6 +817,8 @@ public class GameController {
         } catch (Exception e) {
             notifyGameMessage("Error while attempting to build house: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            trace.end(TRACE_ACTION, "attemptBuildHouse", traceStart);
         }
     }
 
@@ -558,8 +827,10 @@ public class GameController {
      * Emite debug se não for possível.
      */
     public void attemptBuildHotel() {
+        if (!isGameThread()) { runOnGameThread(this::attemptBuildHotel); return; }
         ensureGameStarted();
 
+        final long traceStart = trace.begin();
         try {
             final int currentPlayer = gameAPI.getCurrentPlayerIndex();
 
@@ -582,12 +853,16 @@ public class GameController {
         } catch (Exception e) {
             notifyGameMessage("Error while attempting to build hotel: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            trace.end(TRACE_ACTION, "attemptBuildHotel", traceStart);
         }
     }
 
     // Venda acionada pela View
     public void attemptSell(final int boardIndex) {
+        if (!isGameThread()) { runOnGameThread(() -> attemptSell(boardIndex)); return; }
         ensureGameStarted();
+        final long traceStart = trace.begin();
         try {
             final int currentPlayer = gameAPI.getCurrentPlayerIndex();
             final String name = gameAPI.getSquareName(boardIndex);
@@ -599,9 +874,7 @@ public class GameController {
 
             // Se for uma propriedade vendida, notifica a atualização adequada
             int pos = boardIndex;
-            String squareType = gameAPI.getSquareType(pos);
-
-            if (squareType.equals("StreetOwnableSquare")) {
+            if (gameAPI.getSquareType(pos) == SquareType.STREET) {
                 Ownables.Street streetInfo = gameAPI.getStreetOwnableInfo(pos);
                 notifyStreetOwnableUpdate(currentPlayer, streetInfo);
             } else {
@@ -617,14 +890,105 @@ public class GameController {
         } catch (Exception e) {
             notifyGameMessage("Error while attempting sell: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            trace.end(TRACE_ACTION, "attemptSell", traceStart);
         }
     }
     
+    // ========== Auto-play ==========
+
+    /**
+     * Joga automaticamente os próximos {@code turns} turnos (bots: rolar, comprar
+     * se possível, senão tentar construir, e encerrar o turno).
+     * Durante o auto-play as notificações por evento são suprimidas e a View recebe
+     * apenas onGameSnapshot, no máximo {@code maxUpdatesPerSecond} vezes por segundo.
+     * A execução é fatiada na thread do jogo, então stopAutoPlay/finishGame são atendidos.
+     * @param turns número de turnos a jogar (> 0)
+     * @param maxUpdatesPerSecond limite de snapshots por segundo (> 0)
+     */
+    public void startAutoPlay(final int turns, final int maxUpdatesPerSecond) {
+        if (!isGameThread()) { runOnGameThread(() -> startAutoPlay(turns, maxUpdatesPerSecond)); return; }
+        ensureGameStarted();
+        if (turns <= 0) throw new IllegalArgumentException("Turns must be > 0");
+        if (maxUpdatesPerSecond <= 0) throw new IllegalArgumentException("Max updates per second must be > 0");
+        if (autoPlayRunning) {
+            notifyGameMessage("Auto-play already running.");
+            return;
+        }
+
+        autoPlayRunning = true;
+        autoPlayTurnsLeft = turns;
+        autoPlaySnapshotIntervalNanos = 1_000_000_000L / maxUpdatesPerSecond;
+        autoPlayLastSnapshotAt = System.nanoTime();
+        autoPlayer.reset();
+        notifyGameMessage("Auto-play started: " + turns + " turns (max " + maxUpdatesPerSecond + " UI updates/s)");
+
+        autoPlaySlice();
+    }
+
+    /** Solicita a parada do auto-play (atendida ao fim do turno em andamento). */
+    public void stopAutoPlay() {
+        autoPlayRunning = false;
+    }
+
+    /** Retorna true enquanto o auto-play estiver em execução. */
+    public boolean isAutoPlaying() {
+        return autoPlayRunning;
+    }
+
+    /** Joga turnos por até AUTO_PLAY_SLICE_NANOS e reenfileira o restante. */
+    private void autoPlaySlice() {
+        final long sliceEnd = System.nanoTime() + AUTO_PLAY_SLICE_NANOS;
+        final long traceStart = trace.begin();
+        try {
+            while (autoPlayRunning && gameStarted && autoPlayTurnsLeft > 0) {
+                if (!autoPlayer.playTurn(gameAPI)) {
+                    checkAutoEndCondition();
+                }
+                autoPlayTurnsLeft--;
+
+                final long now = System.nanoTime();
+                if (now - autoPlayLastSnapshotAt >= autoPlaySnapshotIntervalNanos) {
+                    autoPlayLastSnapshotAt = now;
+                    notifyGameSnapshot(autoPlayer.snapshot(gameAPI, true));
+                    notifyLandingStats();
+                }
+                if (now >= sliceEnd) break;
+            }
+        } catch (RuntimeException e) {
+            autoPlayRunning = false;
+            notifyGameMessage("Error during auto-play: " + e.getMessage());
+            e.printStackTrace();
+        }
+        trace.end(TRACE_ACTION, "autoPlaySlice", traceStart);
+
+        if (autoPlayRunning && gameStarted && autoPlayTurnsLeft > 0) {
+            enqueueOnGameThread(this::autoPlaySlice);
+        } else {
+            finishAutoPlay();
+        }
+    }
+
+    /** Publica o estado final e ressincroniza a View com as notificações normais. */
+    private void finishAutoPlay() {
+        autoPlayRunning = false;
+        notifyGameSnapshot(autoPlayer.snapshot(gameAPI, false));
+        notifyLandingStats();
+        notifyGameMessage("Auto-play finished after " + autoPlayer.turnsPlayed() + " turns.");
+
+        if (gameStarted) {
+            int current = gameAPI.getCurrentPlayerIndex();
+            notifyTurnStarted(current, gameAPI.getPlayerName(current), gameAPI.getPlayerColor(current), gameAPI.getPlayerMoney(current));
+            notifyPropertyDataUpdated(gameAPI.getCurrentPlayerPropertyData());
+        }
+    }
+
     /**
      * Define valores mockados para os dados (modo de teste).
      * Quando definidos, o próximo rollDiceAndPlay usará estes valores.
      */
     public void setMockedDiceValues(int dice1, int dice2) {
+        if (!isGameThread()) { runOnGameThread(() -> setMockedDiceValues(dice1, dice2)); return; }
         if (dice1 < 1 || dice1 > 6 || dice2 < 1 || dice2 > 6) {
             throw new IllegalArgumentException("Dice values must be between 1 and 6");
         }
@@ -637,6 +1001,7 @@ public class GameController {
      * Remove valores mockados dos dados (volta ao modo normal/aleatório).
      */
     public void clearMockedDiceValues() {
+        if (!isGameThread()) { runOnGameThread(this::clearMockedDiceValues); return; }
         this.mockedDice1 = null;
         this.mockedDice2 = null;
     }
@@ -661,14 +1026,19 @@ public class GameController {
      * Salva o estado atual do jogo em um arquivo CSV.
      * 
      * @param savePath caminho onde salvar o arquivo
-     * @return true se salvou com sucesso, false caso contrário
+     * @return completado com true se salvou com sucesso, false caso contrário
      */
-    public boolean saveGame(Path savePath) {
+    public CompletableFuture<Boolean> saveGame(Path savePath) {
+        return callOnGameThread(() -> doSaveGame(savePath));
+    }
+
+    private boolean doSaveGame(Path savePath) {
         if (!gameStarted) {
             notifyGameMessage("Cannot save: game has not started.");
             return false;
         }
         
+        final long traceStart = trace.begin();
         try {
             gameAPI.saveGame(savePath);
             notifyGameMessage("Game saved successfully to: " + savePath.toString());
@@ -677,6 +1047,8 @@ public class GameController {
             notifyGameMessage("Error saving game: " + e.getMessage());
             e.printStackTrace();
             return false;
+        } finally {
+            trace.end(TRACE_ACTION, "saveGame", traceStart);
         }
     }
     
@@ -684,20 +1056,29 @@ public class GameController {
      * Carrega um jogo salvo de um arquivo CSV e inicia a partida.
      * 
      * @param loadPath caminho do arquivo salvo
-     * @return true se carregou com sucesso, false caso contrário
+     * @return completado com true se carregou com sucesso, false caso contrário
      */
-    public boolean loadGame(Path loadPath) {
+    public CompletableFuture<Boolean> loadGame(Path loadPath) {
+        return callOnGameThread(() -> doLoadGame(loadPath));
+    }
+
+    private boolean doLoadGame(Path loadPath) {
         if (gameStarted) {
             notifyGameMessage("Cannot load: game already started.");
             return false;
         }
         
+        trace.clear(); // uma partida por linha do tempo
+        final long traceStart = trace.begin();
         try {
             Path boardPath = Paths.get(BOARD_CSV);
             Path deckPath = Paths.get(DECK_CSV);
             
+            foldMatchLandings();
             gameAPI.loadGame(loadPath, boardPath, deckPath, INITIAL_BANK_CASH);
             gameStarted = true;
+            gameMetrics.gameStarted();
+            matchLandingsActive = true;
             
             // Notifica o início do turno do jogador atual
             int currentPlayerIdx = gameAPI.getCurrentPlayerIndex();
@@ -724,6 +1105,8 @@ public class GameController {
             notifyGameMessage("Error loading game: " + e.getMessage());
             e.printStackTrace();
             return false;
+        } finally {
+            trace.end(TRACE_ACTION, "loadGame", traceStart);
         }
     }
 
@@ -740,12 +1123,14 @@ public class GameController {
         if (alive <= 1) {
             // Obtém vencedores antes de marcar o jogo como encerrado
             java.util.List<PlayerRef> winners = gameAPI.getWinners();
+            foldMatchLandings();
 
             // Notifica observers para que a UI abra a janela final (mesma ação do botão "Finish Game")
             notifyGameEnded(winners);
 
             // Marca jogo como terminado (a UI já recebeu os vencedores)
             gameStarted = false;
+            gameMetrics.gameFinished();
         }
     }
 }
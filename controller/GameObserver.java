@@ -9,10 +9,12 @@ import java.util.List;
 import model.api.dto.OwnableInfo;
 import model.api.dto.Ownables;
 import model.api.dto.PlayerColor;
+import model.api.dto.SquareType;
 
 /**
  * Interface para objetos que observam mudanças no estado do jogo.
  * Implementa o padrão Observer para desacoplar Model da View.
+ * As notificações partem da thread do jogo (não da EDT).
  */
 public interface GameObserver {
     
@@ -44,9 +46,9 @@ public interface GameObserver {
      * @param playerIndex índice do jogador
      * @param squareIndex índice da casa
      * @param squareName nome da casa
-     * @param squareType tipo/classe da casa (ex.: ChanceSquare, GoToJailSquare, JailSquare, MoneySquare, StreetOwnableSquare, StartSquare)
+     * @param squareType tipo da casa (ex.: CHANCE, GO_TO_JAIL, JAIL, MONEY, STREET, START)
      */
-    void onSquareLanded(int playerIndex, int squareIndex, String squareName, String squareType);
+    void onSquareLanded(int playerIndex, int squareIndex, String squareName, SquareType squareType);
 
     /**
      * Notifica que um jogador caiu em uma ChanceSquare com a carta sorteada.
@@ -125,4 +127,34 @@ public interface GameObserver {
      */
     void onPlayerBankrupt(int playerIndex);
 
+    /**
+     * Notifica o saldo atualizado de um jogador.
+     * @param playerIndex índice do jogador
+     * @param money saldo atual
+     */
+    void onPlayerMoneyChanged(int playerIndex, int money);
+
+    /**
+     * Notifica que a thread do jogo começou (true) ou terminou (false) de processar ações.
+     * A View pode usar para exibir um estado "ocupado" sem travar a interface.
+     * @param busy true enquanto houver ações em processamento
+     */
+    void onBusyStateChanged(boolean busy);
+
+    /**
+     * Notifica um retrato consolidado do estado da partida.
+     * Emitido no modo auto-play no lugar das notificações por evento,
+     * no máximo N vezes por segundo (configurável em startAutoPlay).
+     * @param snapshot estado atual (posições, saldos, dados, última transação)
+     */
+    void onGameSnapshot(model.api.dto.GameSnapshot snapshot);
+
+    /**
+     * Notifica os contadores de pouso por casa (índice = casa).
+     * Emitido após cada jogada (e junto dos snapshots no auto-play).
+     * @param matchCounts pousos na partida atual
+     * @param sessionCounts pousos acumulados na sessão (partidas anteriores + atual)
+     */
+    void onLandingStatsUpdated(int[] matchCounts, long[] sessionCounts);
+
 }
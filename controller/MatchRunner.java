@@ -0,0 +1,100 @@
+/* ===========================================================
+ * MatchRunner ; executa várias mesas (MatchTable) em paralelo.
+ * Usado pela galeria de espectadores e para testes de carga.
+ * =========================================================== */
+
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mantém N mesas jogando em um pool de threads, cada uma a um ritmo fixo
+ * de turnos por segundo.
+ */
+public final class MatchRunner implements AutoCloseable {
+
+    private final List<MatchTable> tables;
+    private final int turnsPerSecond;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param numberOfTables quantidade de mesas
+     * @param playersPerTable jogadores por mesa (3 a 6)
+     * @param turnsPerSecond turnos por segundo em cada mesa (> 0)
+     */
+    public MatchRunner(int numberOfTables, int playersPerTable, int turnsPerSecond) {
+        this(numberOfTables, playersPerTable, turnsPerSecond, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * @param masterSeed seed mestre: dividida (split) em uma seed por mesa, na ordem das mesas,
+     *                   então cada mesa repete as mesmas partidas independente do escalonamento
+     */
+    public MatchRunner(int numberOfTables, int playersPerTable, int turnsPerSecond, long masterSeed) {
+        if (numberOfTables <= 0) throw new IllegalArgumentException("Number of tables must be > 0");
+        if (turnsPerSecond <= 0) throw new IllegalArgumentException("Turns per second must be > 0");
+
+        final SplittableRandom master = new SplittableRandom(masterSeed);
+        List<MatchTable> list = new ArrayList<>(numberOfTables);
+        for (int i = 0; i < numberOfTables; i++) {
+            list.add(new MatchTable(i + 1, playersPerTable, master.split().nextLong()));
+        }
+        this.tables = List.copyOf(list);
+        this.turnsPerSecond = turnsPerSecond;
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        final int threads = Math.max(1, Math.min(numberOfTables, Runtime.getRuntime().availableProcessors() / 2));
+        this.scheduler = Executors.newScheduledThreadPool(threads, r -> {
+            Thread t = new Thread(r, "match-runner-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Inicia todas as mesas (períodos defasados para não rodarem em rajada).
+     * Uma mesa cujo turno lança exceção para de ser agendada e guarda o erro
+     * (MatchTable.failure), exibido pela galeria; as demais continuam.
+     */
+    public void start() {
+        final long periodMicros = 1_000_000L / turnsPerSecond;
+        for (int i = 0; i < tables.size(); i++) {
+            final MatchTable table = tables.get(i);
+            final long initialDelay = (periodMicros * i) / tables.size();
+            final AtomicReference<ScheduledFuture<?>> schedule = new AtomicReference<>();
+            schedule.set(scheduler.scheduleAtFixedRate(() -> {
+                if (table.failure() == null) {
+                    try {
+                        table.playTurns(1);
+                        return;
+                    } catch (RuntimeException e) {
+                        table.fail(e);
+                    }
+                }
+                // Mesa parada: cancela o agendamento (se a falha vier antes do set, a próxima execução cancela)
+                final ScheduledFuture<?> self = schedule.get();
+                if (self != null) self.cancel(false);
+            }, initialDelay, periodMicros, TimeUnit.MICROSECONDS));
+        }
+    }
+
+    /** Mesas gerenciadas (lista imutável). */
+    public List<MatchTable> tables() {
+        return tables;
+    }
+
+    /** Para todas as mesas e fecha cada uma (libera suas partidas em GameMetrics). */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        for (MatchTable table : tables) table.close();
+    }
+}
@@ -0,0 +1,131 @@
+/* ===========================================================
+ * MatchTable ; uma mesa (partida) independente jogada por bots.
+ * Cada mesa tem seu próprio GameAPI; ao fim de uma partida, outra começa.
+ * =========================================================== */
+
+package controller;
+
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import model.BankOutOfCashException;
+import model.GameAPI;
+import model.api.dto.GameSnapshot;
+import model.metrics.GameMetrics;
+
+/**
+ * Mesa jogada automaticamente, observável por espectadores.
+ * O acesso ao GameAPI da mesa é serializado pelo monitor da própria mesa;
+ * a versão é incrementada a cada mudança de estado e pode ser lida sem bloqueio.
+ * Uma partida termina quando resta um jogador ou o banco fica sem caixa; qualquer
+ * outra exceção do modelo é propagada (o MatchRunner marca a mesa como falha).
+ * Fechada (ou com falha), a mesa para de jogar e a partida em andamento sai de
+ * GameMetrics (sessões ativas).
+ */
+public final class MatchTable implements AutoCloseable {
+
+    private final int id;
+    private final int numberOfPlayers;
+    private final AtomicLong version = new AtomicLong();
+    private final BotPlayer bot = new BotPlayer();
+    private final SplittableRandom seeds; // gera a seed de cada partida da mesa, em ordem
+    private GameAPI gameAPI;
+    private int matchesFinished;
+    private String lastEndReason; // motivo do fim da última partida (null se nenhuma terminou)
+    private volatile RuntimeException failure; // erro que parou a mesa (null se jogando)
+    private boolean closed; // partida atual já descontada de GameMetrics
+
+    /**
+     * @param id identificador da mesa (exibição)
+     * @param numberOfPlayers número de jogadores (3 a 6)
+     */
+    public MatchTable(int id, int numberOfPlayers) {
+        this(id, numberOfPlayers, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * @param id identificador da mesa (exibição)
+     * @param numberOfPlayers número de jogadores (3 a 6)
+     * @param seed seed da mesa: determina a sequência de partidas jogadas
+     */
+    public MatchTable(int id, int numberOfPlayers, long seed) {
+        if (numberOfPlayers < 3 || numberOfPlayers > 6) {
+            throw new IllegalArgumentException("Number of players must be between 3 and 6");
+        }
+        this.id = id;
+        this.numberOfPlayers = numberOfPlayers;
+        this.seeds = new SplittableRandom(seed);
+        startMatch();
+    }
+
+    private void startMatch() {
+        gameAPI = new GameAPI();
+        gameAPI.setDiceTapeCapacity(GameAPI.SIMULATION_DICE_TAPE);
+        gameAPI.setMetricsEnabled(false); // ninguém lê os histogramas da mesa; GameMetrics.global() segue alimentado
+        gameAPI.startGame(GameController.createPlayerSpecs(numberOfPlayers),
+                Paths.get(GameController.BOARD_CSV), Paths.get(GameController.DECK_CSV),
+                GameController.INITIAL_PLAYER_MONEY, GameController.INITIAL_BANK_CASH,
+                seeds.split().nextLong());
+        bot.reset();
+        GameMetrics.global().gameStarted();
+    }
+
+    /** Joga até {@code turns} turnos; se a partida acabar, inicia a próxima. */
+    public synchronized void playTurns(int turns) {
+        if (closed) return;
+        for (int i = 0; i < turns; i++) {
+            String endReason = null;
+            try {
+                if (!bot.playTurn(gameAPI)) endReason = "one player left";
+            } catch (BankOutOfCashException e) {
+                // O banco não consegue pagar (bônus, cartas, vendas): encerra esta partida
+                endReason = "bank out of cash";
+            }
+            if (endReason != null) {
+                lastEndReason = endReason;
+                matchesFinished++;
+                GameMetrics.global().gameFinished();
+                startMatch();
+            }
+        }
+        version.incrementAndGet();
+    }
+
+    /** Retrato do estado atual da mesa. */
+    public synchronized GameSnapshot snapshot() {
+        return bot.snapshot(gameAPI, true);
+    }
+
+    /** Seed da partida atual (reproduz a partida com GameAPI.startGame). */
+    public synchronized long matchSeed() { return gameAPI.getSeed(); }
+
+    /** Identificador da mesa. */
+    public int id() { return id; }
+
+    /** Versão do estado: muda sempre que a mesa joga (leitura sem bloqueio). */
+    public long version() { return version.get(); }
+
+    /** Número de partidas já encerradas nesta mesa. */
+    public synchronized int matchesFinished() { return matchesFinished; }
+
+    /** Motivo do fim da última partida encerrada (null se nenhuma terminou). */
+    public synchronized String lastEndReason() { return lastEndReason; }
+
+    /** Erro que parou a mesa (null enquanto ela estiver jogando). */
+    public RuntimeException failure() { return failure; }
+
+    /** Marca a mesa como parada por erro (chamado pelo MatchRunner). */
+    void fail(final RuntimeException e) {
+        failure = e;
+        close();
+        version.incrementAndGet();
+    }
+
+    /** Para a mesa; a partida em andamento conta como encerrada. Chamadas repetidas não fazem nada. */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        GameMetrics.global().gameFinished();
+    }
+}
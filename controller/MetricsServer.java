@@ -0,0 +1,99 @@
+/* ===========================================================
+ * MetricsServer ; endpoint HTTP local com as métricas no formato do Prometheus.
+ * Usa o servidor embutido da JDK (com.sun.net.httpserver) e atende cada
+ * requisição em uma thread virtual: a coleta só lê contadores e histogramas,
+ * sem travar as threads das partidas.
+ * =========================================================== */
+
+package controller;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import model.metrics.MetricsRegistry;
+
+/**
+ * GET http://127.0.0.1:&lt;porta&gt;/metrics (só na interface de loopback).
+ * Habilitado na aplicação com -Dmonopoly.metrics.port=9464 (ver startIfConfigured).
+ */
+public final class MetricsServer implements AutoCloseable {
+
+    public static final String PORT_PROPERTY = "monopoly.metrics.port";
+    public static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+
+    private MetricsServer(final HttpServer server, final ExecutorService handlers) {
+        this.server = server;
+        this.handlers = handlers;
+    }
+
+    /**
+     * Inicia o endpoint em 127.0.0.1.
+     * @param registry métricas exportadas
+     * @param port porta (0 = escolhida pelo sistema; ver port())
+     */
+    public static MetricsServer start(final MetricsRegistry registry, final int port) throws IOException {
+        if (registry == null) throw new IllegalArgumentException("registry não pode ser nulo");
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        final ExecutorService handlers = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(handlers);
+        server.createContext(PATH, exchange -> handle(exchange, registry));
+        server.start();
+        return new MetricsServer(server, handlers);
+    }
+
+    /**
+     * Inicia o endpoint do registro global se a propriedade {@code monopoly.metrics.port}
+     * estiver definida; caso contrário retorna null. Quem chama fica com o servidor e o fecha.
+     * @throws IOException se a porta não puder ser aberta (ex.: já ocupada)
+     */
+    public static MetricsServer startIfConfigured() throws IOException {
+        final Integer port = Integer.getInteger(PORT_PROPERTY);
+        return (port == null) ? null : start(MetricsRegistry.global(), port);
+    }
+
+    /** Porta em que o endpoint está ouvindo. */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    private static void handle(final HttpExchange exchange, final MetricsRegistry registry) throws IOException {
+        try (exchange) {
+            if (!PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            final String method = exchange.getRequestMethod();
+            final boolean head = "HEAD".equals(method);
+            if (!head && !"GET".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            final byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, head ? -1 : body.length);
+            if (!head) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+
+    /** Para o endpoint (requisições em andamento têm até 1 s para terminar). */
+    @Override
+    public void close() {
+        server.stop(1);
+        handlers.shutdownNow();
+    }
+}
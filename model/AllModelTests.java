@@ -8,8 +8,16 @@ import org.junit.runners.Suite;
     DiceRollTest.class,
     BankTest.class,
     PlayerTest.class,
+    DeckTest.class,
     StreetOwnableSquareTest.class,
     EconomyServiceTest.class,
-    GameEngineTest.class
+    LiquidationPlannerTest.class,
+    GameEngineTest.class,
+    LockstepSimulatorTest.class,
+    GameStateArenaTest.class,
+    TurnAllocationTest.class,
+    LatencyHistogramTest.class,
+    MetricsRegistryTest.class,
+    TraceRecorderTest.class
 })
 public class AllModelTests { }
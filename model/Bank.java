@@ -5,12 +5,18 @@
 
 package model;
 
+import model.metrics.GameMetrics;
+
 final class Bank {
 
     // --- Caixa do banco ---
     private int cash;
     // Registro de transações desde a última drenagem
     private final java.util.List<model.api.dto.Transaction> transactions = new java.util.ArrayList<>();
+    // Desligado no modo simulação: nenhuma Transaction é criada por operação
+    private boolean logging = true;
+    // Contagem de transações (métricas de operação)
+    private GameMetrics gameMetrics = GameMetrics.NONE;
 
     Bank(final int initialCash) {
         if (initialCash < 0) throw new IllegalArgumentException("Caixa inicial inválido.");
@@ -22,6 +28,26 @@ final class Bank {
         return cash;
     }
 
+    /** Liga/desliga o registro de transações (desligar descarta o que estiver pendente). */
+    void setTransactionLogging(final boolean logging) {
+        this.logging = logging;
+        if (!logging) transactions.clear();
+    }
+
+    boolean isTransactionLogging() {
+        return logging;
+    }
+
+    void setGameMetrics(final GameMetrics gameMetrics) {
+        this.gameMetrics = java.util.Objects.requireNonNull(gameMetrics, "gameMetrics");
+    }
+
+    /** Sobrescreve o caixa (restauração de um estado salvo). */
+    void restoreCash(final int cash) {
+        if (cash < 0) throw new IllegalArgumentException("Caixa inválido.");
+        this.cash = cash;
+    }
+
     /* ===========================================================
      * Transferência genérica de dinheiro.
      * Convenção: passar null indica a ponta "BANK".
@@ -41,13 +67,14 @@ final class Bank {
             to.credit(amount);
             cash -= amount;
             // registra transação (BANK -> Player)
-            transactions.add(new model.api.dto.Transaction(
+            if (logging) transactions.add(new model.api.dto.Transaction(
                     "BANK", null,
                     to.getName(), to.getColor(),
                     amount,
                     cash, // caixa do banco após pagamento
                     to.getMoney() // saldo do jogador após crédito
             ));
+            gameMetrics.transactions(1);
             return;
         }
 
@@ -55,13 +82,14 @@ final class Bank {
             from.debit(amount); 
             cash += amount;
             // registra transação (Player -> BANK)
-            transactions.add(new model.api.dto.Transaction(
+            if (logging) transactions.add(new model.api.dto.Transaction(
                     from.getName(), from.getColor(),
                     "BANK", null,
                     amount,
                     from.getMoney(), // saldo do jogador após débito
                     cash // caixa do banco após recebimento
             ));
+            gameMetrics.transactions(1);
             return;
         }
 
@@ -69,16 +97,71 @@ final class Bank {
         from.debit(amount);
         to.credit(amount);
         // registra transação (Player -> Player)
-        transactions.add(new model.api.dto.Transaction(
+        if (logging) transactions.add(new model.api.dto.Transaction(
                 from.getName(), from.getColor(),
                 to.getName(), to.getColor(),
                 amount,
                 from.getMoney(),
                 to.getMoney()
         ));
+        gameMetrics.transactions(1);
         // caixa do banco não muda
     }
 
+    /* ===========================================================
+     * Liquidação em lote: um jogador ("hub") contra todos os demais ativos.
+     *  - hubPays == true  => hub paga amountEach a cada contraparte
+     *  - hubPays == false => cada contraparte paga amountEach ao hub
+     * Valida todas as pernas antes de mover dinheiro (tudo ou nada) e
+     * registra um único lançamento com o número de pernas (sem uma
+     * Transaction por perna: com o registro ligado, só o lançamento é alocado).
+     * O caixa do banco não muda. Retorna o número de pernas.
+     * ===========================================================
+     */
+    int settleWithAll(final Player hub, final PlayerRoster roster, final int amountEach, final boolean hubPays) {
+        if (amountEach < 0) throw new IllegalArgumentException("Amount deve ser >= 0");
+
+        // 1) Validação (sem efeitos colaterais)
+        int count = 0;
+        for (int i = roster.nextAlive(0); i >= 0; i = roster.nextAlive(i + 1)) {
+            final Player other = roster.get(i);
+            if (other == hub) continue;
+            if (!hubPays && !other.canAfford(amountEach)) {
+                throw new IllegalStateException("Saldo insuficiente para liquidação: " + other.getName());
+            }
+            count++;
+        }
+        if (count == 0 || amountEach == 0) return 0;
+        final int total = Math.multiplyExact(amountEach, count);
+        if (hubPays && !hub.canAfford(total)) {
+            throw new IllegalStateException("Saldo insuficiente para liquidação: " + hub.getName());
+        }
+
+        // 2) Aplica as pernas (sem registro: só move o dinheiro)
+        int othersBalance = 0;
+        for (int i = roster.nextAlive(0); i >= 0; i = roster.nextAlive(i + 1)) {
+            final Player other = roster.get(i);
+            if (other == hub) continue;
+            final Player from = hubPays ? hub : other;
+            final Player to = hubPays ? other : hub;
+            from.debit(amountEach);
+            to.credit(amountEach);
+            othersBalance += other.getMoney();
+        }
+
+        gameMetrics.transactions(count);
+
+        // 3) Um lançamento para o conjunto (contraparte = ALL_PLAYERS)
+        if (!logging) return count;
+        final String all = model.api.dto.Transaction.ALL_PLAYERS;
+        transactions.add(hubPays
+                ? new model.api.dto.Transaction(hub.getName(), hub.getColor(), all, null,
+                        total, hub.getMoney(), othersBalance, count)
+                : new model.api.dto.Transaction(all, null, hub.getName(), hub.getColor(),
+                        total, othersBalance, hub.getMoney(), count));
+        return count;
+    }
+
     /* ===========================================================
      * Utilidades
      * ===========================================================
@@ -87,7 +170,7 @@ final class Bank {
     private void ensureBankHas(final long amount) {
         if (amount > Integer.MAX_VALUE) throw new IllegalArgumentException("Valor excessivo.");
         if (cash < amount) {
-            throw new IllegalStateException("Banco sem caixa suficiente para a operação.");
+            throw new BankOutOfCashException("Banco sem caixa suficiente para a operação.");
         }
     }
 
@@ -95,6 +178,7 @@ final class Bank {
      * Retorna e limpa o registro de transações acumuladas desde a última chamada.
      */
     java.util.List<model.api.dto.Transaction> drainTransactions() {
+        if (!logging) return java.util.List.of();
         java.util.List<model.api.dto.Transaction> out = new java.util.ArrayList<>(transactions);
         transactions.clear();
         return out;
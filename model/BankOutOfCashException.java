@@ -0,0 +1,15 @@
+/* ===========================================================
+ * BankOutOfCashException ; o banco não tem caixa para pagar uma operação.
+ * Condição de fim de partida para as mesas simuladas (MatchTable).
+ * =========================================================== */
+
+package model;
+
+public final class BankOutOfCashException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    BankOutOfCashException(final String message) {
+        super(message);
+    }
+}
@@ -57,4 +57,18 @@ public class BankTest {
         Player p = new Player("p1", "Alice", RED, 100);
         bank.transfer(p, null, -1);
     }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void transfer_WithoutLogging_movesMoneyButRecordsNothing() {
+        Bank bank = new Bank(1_000);
+        Player a = new Player("a", "Alice", RED, 500);
+        bank.setTransactionLogging(false);
+
+        bank.transfer(a, null, 100);
+        bank.transfer(null, a, 40);
+
+        assertEquals(440, a.getMoney());
+        assertEquals(1_060, bank.getCash());
+        assertTrue("sem registro em modo simulação", bank.drainTransactions().isEmpty());
+    }
 }
\ No newline at end of file
@@ -1,27 +1,56 @@
 /* ===========================================================
  * Board ; tabuleiro e navegação entre casas (Model).
- * Mantém a lista ordenada de Squares 
+ * Mantém a lista ordenada de Squares e o índice de posse (dono por casa)
  * =========================================================== */
 
 package model;
 
 import java.util.List;
 import java.util.Objects;
+import model.api.dto.SquareType;
 
 final class Board {
 
+    // Limite imposto pelas máscaras de posse (um bit por casa em um long)
+    static final int MAX_SQUARES = Long.SIZE;
+
+    // Valor em ownerOrdinals para casas sem dono (ou que não são propriedades)
+    static final byte NO_OWNER = -1;
+
     private final List<Square> squares;
     private final int size;
     private final int jailIndex;
+
+    // Tipo de cada casa (SquareType.code()), para despacho sem instanceof
+    private final byte[] typeCodes;
+
+    // Dono de cada casa: ordinal do jogador na partida, ou NO_OWNER
+    private final byte[] ownerOrdinals;
     
     Board(final List<Square> squares, final int jailIndex) {
         this.squares = List.copyOf(Objects.requireNonNull(squares, "squares"));
         if (squares.isEmpty()) throw new IllegalArgumentException("Board não pode ser vazio.");
         this.size = squares.size();
+        if (size > MAX_SQUARES) {
+            throw new IllegalArgumentException("Board com mais de " + MAX_SQUARES + " casas não é suportado.");
+        }
         if (jailIndex < 0 || jailIndex >= size) {
             throw new IllegalArgumentException("jailIndex fora do intervalo do board.");
         }
         this.jailIndex = jailIndex;
+
+        this.typeCodes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            typeCodes[i] = this.squares.get(i).kind().code();
+        }
+
+        this.ownerOrdinals = new byte[size];
+        java.util.Arrays.fill(ownerOrdinals, NO_OWNER);
+        for (Square sq : this.squares) {
+            if (sq instanceof OwnableSquare) {
+                ((OwnableSquare) sq).attachTo(this);
+            }
+        }
     }
 
     /* Próxima posição a partir de 'from' avançando 'steps' (wrap-around). */
@@ -48,4 +77,42 @@ final class Board {
 
     /* Tamanho do tabuleiro. */
     int size() { return size; }    
+
+    /* Tipo da casa na posição 'index'. */
+    SquareType typeAt(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index fora do board: " + index);
+        }
+        return SquareType.fromCode(typeCodes[index]);
+    }
+
+    /* Cópia dos códigos de tipo (uma entrada por casa). */
+    byte[] typeCodes() {
+        return typeCodes.clone();
+    }
+
+    // ===== Índice de posse =====
+
+    /* Chamado por OwnableSquare.setOwner: mantém o dono da casa atualizado. */
+    void recordOwner(final int index, final Player owner) {
+        ownerOrdinals[index] = (owner == null || owner.ordinal() < 0) ? NO_OWNER : (byte) owner.ordinal();
+    }
+
+    /* Reconstrói o índice a partir das casas (após o GameEngine numerar os jogadores). */
+    void rebuildOwnerIndex() {
+        for (int i = 0; i < size; i++) {
+            final Square sq = squares.get(i);
+            recordOwner(i, (sq instanceof OwnableSquare) ? ((OwnableSquare) sq).getOwner() : null);
+        }
+    }
+
+    /* Ordinal do dono da casa, ou NO_OWNER. */
+    int ownerOrdinalAt(final int index) {
+        return ownerOrdinals[index];
+    }
+
+    /* Cópia do índice de posse (uma entrada por casa). */
+    byte[] ownerOrdinals() {
+        return ownerOrdinals.clone();
+    }
 }
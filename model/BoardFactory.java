@@ -6,6 +6,7 @@ package model;
 
 import java.nio.file.Path;
 import java.util.*;
+import model.api.dto.SquareType;
 
 final class BoardFactory extends FactoryBase<Square> {
 
@@ -40,7 +41,7 @@ final class BoardFactory extends FactoryBase<Square> {
         if (type.equals("START") || type.equals("JAIL") || type.equals("PARKING")) {
             // Se for JAIL, registramos o índice para o Board
             if (type.equals("JAIL")) this.jailIndex = index;
-            return new DummySquare(index, name);
+            return new DummySquare(index, name, SquareType.valueOf(type));
         }
 
         return switch (type) {
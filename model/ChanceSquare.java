@@ -4,10 +4,12 @@
 
 package model;
 
+import model.api.dto.SquareType;
+
 final class ChanceSquare extends Square {
 
     ChanceSquare(final int index, final String name) {
-        super(index, name);
+        super(index, name, SquareType.CHANCE);
     }
 
     @Override
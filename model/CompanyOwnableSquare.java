@@ -4,19 +4,23 @@
 
 package model;
 
+import model.api.dto.SquareType;
+
 final class CompanyOwnableSquare extends OwnableSquare {
 
     private final int multiplier;
+    private final int sellValue; // recompra pelo banco (fixa: companhias não têm construções)
 
     CompanyOwnableSquare(final int index,
                          final String name,
                          final String id,
                          final int price,
                          final int multiplier) {
-        super(index, name, id, price);
+        super(index, name, id, price, SquareType.COMPANY);
         if (multiplier <= 0)
             throw new IllegalArgumentException("multiplicador deve ser positivo");
         this.multiplier = multiplier;
+        this.sellValue = EconomyService.buybackValue(price);
     }
 
     // Mostra o multiplicador usado para calcular o aluguel.
@@ -26,6 +30,12 @@ final class CompanyOwnableSquare extends OwnableSquare {
     int getTotalInvestment() {
         return getPrice();
     }
+
+    // Valor de recompra pelo banco. 
+    @Override
+    int getSellValue() {
+        return sellValue;
+    }
     
     // Remove o proprietário, se for o atual. 
     void removeOwner(final Player player) {
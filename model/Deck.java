@@ -1,41 +1,133 @@
 /* ===========================================================
  * Deck ; baralho de Sorte/Revés.
+ * Tabela imutável de cartas (compartilhada entre cópias) + permutação
+ * int[] em anel com início/tamanho: comprar não aloca nem move objetos.
  * =========================================================== */
 
 package model;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 final class Deck {
 
-    private final Deque<Card> cards;
+    // Tabela compartilhada; a última posição é a carta "sair da prisão" genérica
+    // devolvida quando a carta original não saiu deste baralho (ex.: jogo carregado)
+    private final Card[] table;
+    private final int returnedJailCardSlot;
+
+    // Anel com os índices da tabela, do topo (head) para o fim
+    private int[] ring;
+    private int head;
+    private int size;
+
+    // Cartas "sair da prisão" compradas deste baralho e ainda com jogadores (pilha)
+    private int[] heldJailSlots;
+    private int heldJailCount;
 
     Deck(final List<Card> initialCards) {
         if (initialCards.isEmpty()) throw new IllegalArgumentException("Deck não pode ser vazio.");
-        this.cards = new ArrayDeque<>(initialCards);
+        final int n = initialCards.size();
+        this.table = new Card[n + 1];
+        for (int i = 0; i < n; i++) {
+            table[i] = Objects.requireNonNull(initialCards.get(i), "card");
+        }
+        this.returnedJailCardSlot = n;
+        table[n] = new Card(0, Card.CardType.GET_OUT_OF_JAIL, 0);
+
+        this.ring = new int[n];
+        for (int i = 0; i < n; i++) ring[i] = i;
+        this.head = 0;
+        this.size = n;
+        this.heldJailSlots = new int[n];
+        this.heldJailCount = 0;
+    }
+
+    /* Cópia barata: compartilha a tabela, copia apenas a permutação. */
+    private Deck(final Deck src) {
+        this.table = src.table;
+        this.returnedJailCardSlot = src.returnedJailCardSlot;
+        this.ring = src.ring.clone();
+        this.head = src.head;
+        this.size = src.size;
+        this.heldJailSlots = src.heldJailSlots.clone();
+        this.heldJailCount = src.heldJailCount;
+    }
+
+    Deck copy() {
+        return new Deck(this);
     }
 
     Card draw() {
-        Card c = cards.pollFirst();
-        
+        if (size == 0) throw new IllegalStateException("Deck vazio.");
+        final int slot = ring[head];
+        head = (head + 1) % ring.length;
+        size--;
+        final Card c = table[slot];
+
         // Se for carta sair da prisão, ela sai do baralho
         if (c.type() == Card.CardType.GET_OUT_OF_JAIL) {
+            if (slot != returnedJailCardSlot) pushHeld(slot);
             return c;
         }
-        
-        cards.addLast(c); // volta pro fim depois de usada
+
+        addLast(slot); // volta pro fim depois de usada
         return c;
     }
 
     void returnGetOutOfJailCardToBottom() {
-        cards.addLast(new Card(0, Card.CardType.GET_OUT_OF_JAIL, 0));
+        addLast(heldJailCount > 0 ? heldJailSlots[--heldJailCount] : returnedJailCardSlot);
+    }
+
+    /* Embaralha com o gerador informado (Fisher–Yates sobre a permutação). */
+    void shuffle(final RandomGenerator rng) {
+        Objects.requireNonNull(rng, "rng");
+        final int cap = ring.length;
+        for (int i = size - 1; i > 0; i--) {
+            final int j = rng.nextInt(i + 1);
+            final int a = (head + i) % cap;
+            final int b = (head + j) % cap;
+            final int t = ring[a];
+            ring[a] = ring[b];
+            ring[b] = t;
+        }
+    }
+
+    /* Número de cartas no baralho. */
+    int size() { return size; }
+
+    // ===== Permutação como índices da tabela (estado compacto, sem alocação) =====
+
+    /* Tamanho da tabela de cartas (inclui a carta genérica de saída da prisão). */
+    int tableSize() { return table.length; }
+
+    /* Índice na tabela da i-ésima carta a partir do topo. */
+    int slotAt(final int i) { return ring[(head + i) % ring.length]; }
+
+    /* Cartas de saída da prisão deste baralho com jogadores, e o índice de cada uma. */
+    int heldCount() { return heldJailCount; }
+    int heldSlotAt(final int i) { return heldJailSlots[i]; }
+
+    /* Esvazia o baralho para ser remontado com restoreSlot/restoreHeld. */
+    void clearForRestore() {
+        head = 0;
+        size = 0;
+        heldJailCount = 0;
+    }
+
+    /* Acrescenta ao fim do baralho a carta de índice 'slot' da tabela. */
+    void restoreSlot(final int slot) {
+        addLast(checkSlot(slot));
+    }
+
+    /* Registra a carta de índice 'slot' como em poder de um jogador. */
+    void restoreHeld(final int slot) {
+        pushHeld(checkSlot(slot));
     }
 
-    void shuffle() {
-        List<Card> tmp = new ArrayList<>(cards);
-        Collections.shuffle(tmp);
-        cards.clear();
-        cards.addAll(tmp);
+    private int checkSlot(final int slot) {
+        if (slot < 0 || slot >= table.length) throw new IllegalArgumentException("Carta fora da tabela: " + slot);
+        return slot;
     }
     
     /**
@@ -43,6 +135,31 @@ final class Deck {
      * Usado para salvar o estado do baralho.
      */
     List<Card> getCardsInOrder() {
-        return new ArrayList<>(cards);
+        final List<Card> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            out.add(table[ring[(head + i) % ring.length]]);
+        }
+        return out;
+    }
+
+    private void addLast(final int slot) {
+        if (size == ring.length) grow();
+        ring[(head + size) % ring.length] = slot;
+        size++;
+    }
+
+    private void pushHeld(final int slot) {
+        if (heldJailCount == heldJailSlots.length) {
+            heldJailSlots = Arrays.copyOf(heldJailSlots, heldJailSlots.length * 2 + 1);
+        }
+        heldJailSlots[heldJailCount++] = slot;
+    }
+
+    /* Só ocorre se mais cartas genéricas forem devolvidas do que cabem (jogo carregado). */
+    private void grow() {
+        final int[] bigger = new int[ring.length * 2 + 1];
+        for (int i = 0; i < size; i++) bigger[i] = ring[(head + i) % ring.length];
+        ring = bigger;
+        head = 0;
     }
 }
@@ -4,24 +4,54 @@
 
 package model;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
 
 final class DeckFactory extends FactoryBase<Card> {
 
     private static final List<String> EXPECTED_HEADER = List.of("index", "type", "value");
 
-    static Deck fromCSV(final Path csvPath) {
+    // Baralhos-modelo por arquivo: cada partida recebe uma cópia (tabela de cartas compartilhada)
+    private static final ConcurrentHashMap<Path, Prototype> PROTOTYPES = new ConcurrentHashMap<>();
+
+    private record Prototype(long lastModified, Deck deck) { }
+
+    /* Cria o baralho do CSV embaralhado com o gerador informado. */
+    static Deck fromCSV(final Path csvPath, final RandomGenerator rng) {
+        Deck deck = prototype(csvPath).copy();
+        deck.shuffle(rng);
+        return deck;
+    }
+
+    /* Lê o CSV uma vez por arquivo (relê se o arquivo mudar). */
+    private static Deck prototype(final Path csvPath) {
+        final Path key = csvPath.toAbsolutePath().normalize();
+        final long lastModified = lastModified(key);
+        final Prototype cached = PROTOTYPES.get(key);
+        if (cached != null && cached.lastModified() == lastModified) return cached.deck();
+
         DeckFactory factory = new DeckFactory();
         List<Card> cards = factory.readCSV(csvPath, EXPECTED_HEADER);
 
         if (cards.isEmpty())
             throw new IllegalArgumentException("Deck vazio: " + csvPath);
 
-        Deck deck = new Deck(cards);
-        deck.shuffle();
+        final Deck deck = new Deck(cards);
+        PROTOTYPES.put(key, new Prototype(lastModified, deck));
         return deck;
     }
+
+    private static long lastModified(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return -1L; // readCSV reporta o erro de leitura
+        }
+    }
     
     /**
      * Cria um deck a partir de uma lista de cartas já ordenada.
@@ -0,0 +1,54 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.Test;
+
+
+public class DeckTest {
+
+    private static final int DEFAULT_TIMEOUT = 2000;
+
+    private Deck makeDeck() {
+        return new Deck(Arrays.asList(
+                new Card(1, Card.CardType.RECEIVE_BANK, 10),
+                new Card(2, Card.CardType.GET_OUT_OF_JAIL, 0),
+                new Card(3, Card.CardType.PAY_BANK, 20)));
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void drawShouldRotateCardsAndHoldJailCardUntilReturned() {
+        Deck deck = makeDeck();
+
+        assertEquals(1, deck.draw().getId());
+        Card jail = deck.draw();
+        assertEquals(Card.CardType.GET_OUT_OF_JAIL, jail.type());
+        assertEquals("carta de saída da prisão fica com o jogador", 2, deck.size());
+
+        assertEquals(3, deck.draw().getId());
+        assertEquals("cartas comuns voltam para o fundo", 1, deck.draw().getId());
+
+        deck.returnGetOutOfJailCardToBottom();
+        assertEquals(3, deck.size());
+        assertEquals(3, deck.draw().getId());
+        assertEquals(1, deck.draw().getId());
+        assertEquals("carta devolvida vai para o fundo", 2, deck.draw().getId());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void seededShuffleShouldBeReproducibleAndCopiesIndependent() {
+        Deck a = makeDeck();
+        Deck b = a.copy();
+        a.shuffle(new SplittableRandom(42));
+        b.shuffle(new SplittableRandom(42));
+        assertEquals(a.getCardsInOrder(), b.getCardsInOrder());
+
+        List<Card> before = b.getCardsInOrder();
+        a.draw();
+        a.shuffle(new SplittableRandom(7));
+        assertEquals("cópia não compartilha o anel de ordem", before, b.getCardsInOrder());
+    }
+}
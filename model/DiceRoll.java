@@ -6,6 +6,7 @@ package model;
 
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 
 final class DiceRoll {
@@ -15,10 +16,28 @@ final class DiceRoll {
     private final int sum;
     private final boolean isDouble;
 
+    // Os 36 lances possíveis, por código do par ((d1 - 1) * 6 + (d2 - 1))
+    private static final DiceRoll[] BY_CODE = new DiceRoll[36];
+    static {
+        for (int code = 0; code < BY_CODE.length; code++) {
+            BY_CODE[code] = new DiceRoll(code / 6 + 1, code % 6 + 1);
+        }
+    }
+
+    /** Lance compartilhado (imutável) para o código do par. */
+    static DiceRoll of(int code) {
+        return BY_CODE[code];
+    }
+
     // Construtor padrão: usa fonte de aleatoriedade do sistema
     public DiceRoll() {
-        int rd1 = ThreadLocalRandom.current().nextInt(1, 7);
-        int rd2 = ThreadLocalRandom.current().nextInt(1, 7);
+        this(ThreadLocalRandom.current());
+    }
+
+    // Construtor com gerador da partida (sequência reproduzível pela seed da partida)
+    public DiceRoll(RandomGenerator rng) {
+        int rd1 = rng.nextInt(1, 7);
+        int rd2 = rng.nextInt(1, 7);
         this.d1 = rd1;
         this.d2 = rd2;
         this.sum = d1 + d2;
@@ -65,6 +65,26 @@ public class DiceRollTest {
         assertEquals("mesma seed deve gerar mesma soma", r1.getSum(), r2.getSum());
     }
 
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void diceTapeShouldMatchAcrossCapacitiesAndServeInjectedRollFirst() {
+        DiceTape direct = new DiceTape(new java.util.SplittableRandom(7L), DiceTape.DIRECT);
+        DiceTape batched = new DiceTape(new java.util.SplittableRandom(7L), 64);
+
+        for (int i = 0; i < 200; i++) {
+            if (i == 50) batched.inject(6, 6);
+            DiceRoll b = batched.nextRoll();
+            if (i == 50) {
+                assertEquals(6, b.getD1());
+                assertEquals(6, b.getD2());
+                b = batched.nextRoll(); // o lance injetado não consome a fita
+            }
+            DiceRoll d = direct.nextRoll();
+            assertSame("lances são instâncias compartilhadas", DiceRoll.of(DiceTape.encode(d.getD1(), d.getD2())), d);
+            assertEquals("lance " + i, d.getD1(), b.getD1());
+            assertEquals("lance " + i, d.getD2(), b.getD2());
+        }
+    }
+
 	public DiceRoll getRoll() {
 		return roll;
 	}
@@ -0,0 +1,87 @@
+/* ===========================================================
+ * DiceTape ; fita de lances de dados pré-gerados, empacotados em bytes.
+ * Os lances são gerados em lote a partir do gerador da partida e entregues
+ * ao GameEngine sem alocação; um lance injetado (mock) tem prioridade.
+ * =========================================================== */
+
+package model;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+final class DiceTape {
+
+    /** Sem buffer: um lance por recarga (jogo interativo). */
+    static final int DIRECT = 1;
+    /** Capacidade usada nas simulações sem interface. */
+    static final int SIMULATION_CAPACITY = 4096;
+
+    private static final int PAIRS = 36;
+    private static final int NONE = -1;
+
+    private final RandomGenerator rng;
+    // Código do par = (d1 - 1) * 6 + (d2 - 1), 0..35
+    private final byte[] pairs;
+    private int cursor;
+    private int injected = NONE;
+
+    DiceTape(final RandomGenerator rng, final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacidade deve ser >= 1");
+        this.rng = Objects.requireNonNull(rng, "rng");
+        this.pairs = new byte[capacity];
+        this.cursor = capacity; // vazia: recarrega no primeiro lance
+    }
+
+    /** Código do par (d1, d2), validando o intervalo 1..6. */
+    static int encode(final int d1, final int d2) {
+        if (d1 < 1 || d1 > 6 || d2 < 1 || d2 > 6) {
+            throw new IllegalArgumentException("Dice values must be between 1 and 6");
+        }
+        return (d1 - 1) * 6 + (d2 - 1);
+    }
+
+    static int d1(final int code) { return code / 6 + 1; }
+    static int d2(final int code) { return code % 6 + 1; }
+
+    /** Próximo par (código); o lance injetado, se houver, é consumido antes da fita. */
+    int next() {
+        if (injected != NONE) {
+            final int code = injected;
+            injected = NONE;
+            return code;
+        }
+        if (cursor == pairs.length) refill();
+        return pairs[cursor++];
+    }
+
+    /** Próximo lance como DiceRoll compartilhado (sem alocação). */
+    DiceRoll nextRoll() {
+        return DiceRoll.of(next());
+    }
+
+    /** Define o próximo lance (uso único); não consome a fita nem o gerador. */
+    void inject(final int d1, final int d2) {
+        this.injected = encode(d1, d2);
+    }
+
+    void clearInjected() {
+        this.injected = NONE;
+    }
+
+    boolean hasInjected() {
+        return injected != NONE;
+    }
+
+    int capacity() {
+        return pairs.length;
+    }
+
+    // Um sorteio por par (36 resultados equiprováveis) em vez de um por dado
+    private void refill() {
+        final byte[] p = pairs;
+        for (int i = 0; i < p.length; i++) {
+            p[i] = (byte) rng.nextInt(PAIRS);
+        }
+        cursor = 0;
+    }
+}
@@ -5,9 +5,11 @@
 
 package model;
 
+import model.api.dto.SquareType;
+
 final class DummySquare extends Square {
-    DummySquare(final int index, final String name) {
-        super(index, name);
+    DummySquare(final int index, final String name, final SquareType kind) {
+        super(index, name, kind);
     }
     
     @Override
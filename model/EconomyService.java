@@ -5,19 +5,34 @@
 
 package model;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
+import model.metrics.GameMetrics;
+import model.metrics.TurnMetrics;
+import model.metrics.TurnPhase;
 
 final class EconomyService {
 
     private final Bank bank;
-    private static final double BANK_BUYBACK_RATE = 0.90;
-    private static final int PASS_START_AMOUNT = 200;
+    private final LiquidationPlanner planner = new LiquidationPlanner();
+    static final double BANK_BUYBACK_RATE = 0.90;
+    static final int PASS_START_AMOUNT = 200;
+    private TurnMetrics metrics = TurnMetrics.DISABLED;
+    private GameMetrics gameMetrics = GameMetrics.NONE;
 
     EconomyService(final Bank bank) {
         this.bank = Objects.requireNonNull(bank, "bank");
     }
+
+    /** Histogramas de latência (a liquidação é gravada só quando de fato acontece). */
+    void setMetrics(final TurnMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /** Métricas de operação (falências aqui; transações no banco). */
+    void setGameMetrics(final GameMetrics gameMetrics) {
+        this.gameMetrics = Objects.requireNonNull(gameMetrics, "gameMetrics");
+        bank.setGameMetrics(gameMetrics);
+    }
     
     /** Retorna o banco (para salvar estado). */
     Bank getBank() {
@@ -40,6 +55,7 @@ final class EconomyService {
 
         // Executa a transferência Player -> Player
         bank.transfer(visitor, owner, rent);
+        GameEvents.rentCharge(visitor.ordinal(), owner.ordinal(), visitor.getPosition(), rent);
     }
 
     /* ===========================================================
@@ -60,6 +76,7 @@ final class EconomyService {
         // Transfere título
         property.setOwner(player);
         player.addProperty(property);
+        GameEvents.purchase(player.ordinal(), property.index(), price);
         return true;
     }
 
@@ -78,6 +95,7 @@ final class EconomyService {
         
         bank.transfer(player, null, cost);
         street.buildHouse();
+        GameEvents.build(player.ordinal(), street.index(), cost, false);
         return true;
     }
 
@@ -96,6 +114,7 @@ final class EconomyService {
         
         bank.transfer(player, null, cost);
         street.buildHotel();
+        GameEvents.build(player.ordinal(), street.index(), cost, true);
         return true;
     }
 
@@ -113,6 +132,35 @@ final class EconomyService {
 
         bank.transfer(from, to, amount);
     }
+
+    /* ===========================================================
+     * Liquidação em lote de cartas "paga a todos" / "recebe de todos".
+     * Cada devedor passa por liquidez uma única vez, pelo total que deve:
+     *  - hub paga: o hub deve amountEach × contrapartes; se falir, ninguém recebe;
+     *  - hub recebe: cada contraparte deve amountEach; quem falir fica de fora.
+     * Em seguida todas as pernas são lançadas de uma vez pelo Bank.
+     * =========================================================== */
+    void settleWithAll(final Player hub, final PlayerRoster roster, final int amountEach, final boolean hubPays) {
+        if (amountEach <= 0) return;
+        if (hub.isBankrupt()) return;
+
+        if (hubPays) {
+            final int others = roster.aliveOthers(hub);
+            if (others <= 0) return;
+            if (!liquidateOrBankruptIfNeeded(hub, Math.multiplyExact(amountEach, others))) {
+                return;
+            }
+        } else {
+            for (int i = roster.nextAlive(0); i >= 0; i = roster.nextAlive(i + 1)) {
+                final Player other = roster.get(i);
+                if (other != hub) {
+                    liquidateOrBankruptIfNeeded(other, amountEach); // falidos saem do conjunto de ativos
+                }
+            }
+        }
+
+        bank.settleWithAll(hub, roster, amountEach, hubPays);
+    }
     
     /* ===========================================================
      * Aplica pagamento do jogador ao banco.
@@ -152,32 +200,49 @@ final class EconomyService {
         // Se já pode pagar, nada a fazer
         if (canPay) return true;
 
-        // Faltando
-        int missing = player.howMuchMissing(required);
-        
-        // Tenta vender propriedades para cobrir o valor faltante
-        final List<OwnableSquare> owned = new ArrayList<>(player.getProperties());
-        for (OwnableSquare prop : owned) {
-            final int received = buybackPropertyToPlayer(prop, player);
-            missing -= received;
-            if (missing <= 0) return true;
+        final GameEvents.LiquidationEvent event = GameEvents.liquidationBegin();
+        final int owned = player.propertyCount();
+        final int missing = player.howMuchMissing(required);
+        final long t0 = metrics.start();
+        final boolean solvent = liquidate(player, missing);
+        metrics.stop(TurnPhase.LIQUIDATION, t0);
+        GameEvents.liquidationEnd(event, player.ordinal(), required, missing, owned - player.propertyCount(), solvent);
+        return solvent;
+    }
+
+    // Vende o necessário para cobrir o que falta; se nem tudo cobre, falência.
+    private boolean liquidate(final Player player, final int missing) {
+        // Vende o conjunto que cobre o valor faltante com a menor perda de investimento
+        final long plan = planner.plan(player, missing);
+        if (plan != LiquidationPlanner.NOT_ENOUGH) {
+            for (long m = plan; m != 0; m &= m - 1) {
+                buybackPropertyToPlayer(player.propertyAt(Long.numberOfTrailingZeros(m)), player);
+            }
+            return true;
         }
 
-        // Se ainda falta dinheiro → falência
-        declareBankruptcy(player);
+        // Nem vendendo tudo cobre: liquida tudo (em ordem de tabuleiro) e declara falência
+        final int returned = player.propertyCount();
+        for (long m = player.propertiesMask(); m != 0; m &= m - 1) {
+            buybackPropertyToPlayer(player.propertyAt(Long.numberOfTrailingZeros(m)), player);
+        }
+        declareBankruptcy(player, returned);
         return false;
     }
 
     /* ===========================================================
      * Falência: remove jogador do jogo e devolve seus títulos.
+     * propertiesReturned: títulos que o jogador tinha antes da liquidação.
      * =========================================================== */
-    void declareBankruptcy(final Player player) {
+    void declareBankruptcy(final Player player, final int propertiesReturned) {
+        GameEvents.bankruptcy(player.ordinal(), propertiesReturned);
+        gameMetrics.bankruptcy();
 
         // Devolve todos os títulos ao banco (sem pagamento adicional)
-        for (OwnableSquare prop : new ArrayList<>(player.getProperties())) {
-            player.removeProperty(prop);
-            prop.removeOwner(player); 
+        for (long m = player.propertiesMask(); m != 0; m &= m - 1) {
+            player.propertyAt(Long.numberOfTrailingZeros(m)).removeOwner(player);
         }
+        player.clearProperties();
         player.setBankrupt();
     }
     
@@ -185,8 +250,7 @@ final class EconomyService {
      * Venda de propriedade do jogador para o banco.
      * =========================================================== */
     int buybackPropertyToPlayer(final OwnableSquare prop, final Player player) {
-        final int gross = prop.getTotalInvestment();
-        final int received = (int) Math.floor(gross * BANK_BUYBACK_RATE);
+        final int received = prop.getSellValue();
 
         // Banco paga ao jogador (BANK -> Player)
         bank.transfer(null, player, received);
@@ -202,7 +266,11 @@ final class EconomyService {
      * Avalia o valor de recompra de uma propriedade pelo banco.
      * =========================================================== */
     int evaluateSellValue(final OwnableSquare prop) {
-        final int gross = prop.getTotalInvestment(); 
+        return prop.getSellValue();
+    }
+
+    /* Valor de recompra para um investimento bruto (usado para pré-calcular as tabelas). */
+    static int buybackValue(final int gross) {
         return (int) Math.floor(gross * BANK_BUYBACK_RATE);
     }
 
@@ -224,4 +224,69 @@ public class EconomyServiceTest {
         assertFalse(low2.hasOwner());
         
     }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void payAllCardShouldSettleAllLegsInOneEntry() {
+        Player p3 = new Player("p3", "Carol", GRAY, 500);
+        Bank bank = new Bank(1_000_000);
+        EconomyService economy = new EconomyService(bank);
+        PlayerRoster roster = new PlayerRoster(Arrays.asList(p1, p2, p3));
+
+        economy.settleWithAll(p1, roster, 50, true);
+
+        assertEquals(400, p1.getMoney());
+        assertEquals(550, p2.getMoney());
+        assertEquals(550, p3.getMoney());
+        List<model.api.dto.Transaction> log = bank.drainTransactions();
+        assertEquals("um único lançamento", 1, log.size());
+        assertEquals(100, log.get(0).amount);
+        assertEquals(2, log.get(0).legCount);
+        assertEquals(model.api.dto.Transaction.ALL_PLAYERS, log.get(0).toId);
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void receiveAllCardShouldSkipDebtorsThatGoBankrupt() {
+        Player poor = new Player("p3", "Carol", GRAY, 10);
+        Bank bank = new Bank(1_000_000);
+        EconomyService economy = new EconomyService(bank);
+        PlayerRoster roster = new PlayerRoster(Arrays.asList(p1, p2, poor));
+
+        economy.settleWithAll(p1, roster, 50, false);
+
+        assertTrue(poor.isBankrupt());
+        assertEquals(2, roster.aliveCount());
+        assertEquals(550, p1.getMoney());
+        assertEquals(450, p2.getMoney());
+        List<model.api.dto.Transaction> log = bank.drainTransactions();
+        assertEquals(1, log.size());
+        assertEquals(1, log.get(0).legCount);
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void liquidationShouldSellCheapestSufficientSubset() {
+        Player poor = new Player("pPoor", "Carol", GRAY, 500);
+        poor.debit(495); // fica com 5
+
+        // Rua com hotel (investimento alto) antes da companhia no tabuleiro
+        StreetOwnableSquare hotelStreet = makeStreet(4, 200);
+        hotelStreet.setOwner(poor); poor.addProperty(hotelStreet);
+        hotelStreet.buildHouse();
+        hotelStreet.buildHotel();
+        CompanyOwnableSquare company = new CompanyOwnableSquare(6, "Cia", "C6", 150, 2);
+        company.setOwner(poor); poor.addProperty(company);
+
+        StreetOwnableSquare rentProp = makeStreet(0, 200);
+        rentProp.setOwner(p2);
+        p2.addProperty(rentProp);
+        rentProp.buildHouse(); // aluguel = 50
+
+        GameEngine engine = makeEngine(poor, p2, makeBoardWithPropertyAt0(rentProp));
+        engine.onLand();
+
+        // Basta vender a companhia (recompra 135): a rua com hotel é preservada
+        assertFalse(company.hasOwner());
+        assertSame(poor, hotelStreet.getOwner());
+        assertTrue(hotelStreet.hasHotel());
+        assertEquals(5 + 135 - 50, poor.getMoney());
+    }
 }
\ No newline at end of file
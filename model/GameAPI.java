@@ -7,20 +7,92 @@ package model;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 import model.api.dto.OwnableInfo;
 import model.api.dto.Ownables;
 import model.api.dto.PlayerColor;
 import model.api.dto.PlayerRef;
+import model.api.dto.PlayerStanding;
+import model.api.dto.SquareType;
+import model.metrics.GameMetrics;
+import model.metrics.TraceRecorder;
+import model.metrics.TurnMetrics;
 
 public final class GameAPI {
 
+    /** Tamanho da fita de dados recomendado para simulações sem interface. */
+    public static final int SIMULATION_DICE_TAPE = DiceTape.SIMULATION_CAPACITY;
+
     // ==== Estado principal mantido pela fachada ====
     private GameEngine engine;
     private boolean started;
+    private long seed; // seed da partida (reproduz dados e embaralhamento)
+    private int diceTapeCapacity = DiceTape.DIRECT;
+    private boolean simulationMode;
+    private boolean metricsEnabled = true;
+    private TurnMetrics metrics; // latência por fase do turno; criado no primeiro uso (guardado por this)
 
     // ==== API pública ====
 
+    /**
+     * Escolhe quantos lances de dados são pré-gerados por lote (antes de startGame).
+     * 1 (padrão) gera um lance por vez; valores maiores (ex.: SIMULATION_DICE_TAPE)
+     * geram em lote, sem alocação por lance. A sequência para uma seed é a mesma.
+     */
+    public void setDiceTapeCapacity(final int capacity) {
+        ensureNotStarted();
+        if (capacity < 1) throw new IllegalArgumentException("Capacidade deve ser >= 1");
+        this.diceTapeCapacity = capacity;
+    }
+
+    /**
+     * Modo simulação (antes de startGame): partida sem interface, sem registro de
+     * transações (fetchAndClearTransactions fica vazio), sem métricas e com fita de dados em lote.
+     * Nesse modo rollAndResolve/chooseBuy/chooseBuildHouse/endTurn não alocam por turno.
+     */
+    public void setSimulationMode(final boolean simulation) {
+        ensureNotStarted();
+        this.simulationMode = simulation;
+        if (simulation) {
+            this.diceTapeCapacity = SIMULATION_DICE_TAPE;
+            this.metricsEnabled = false;
+        }
+    }
+
+    /**
+     * Liga/desliga os histogramas de latência por fase desta partida (antes de startGame).
+     * Ligado por padrão; setSimulationMode(true) desliga (chame depois para religar).
+     * As métricas do processo (GameMetrics.global()) são alimentadas fora do modo simulação.
+     */
+    public void setMetricsEnabled(final boolean enabled) {
+        ensureNotStarted();
+        this.metricsEnabled = enabled;
+    }
+
+    /**
+     * Histogramas de latência das fases do turno (rolagem, prisão, movimento, casa,
+     * carta, liquidação, fim de turno) e do repasse das notificações do Controller.
+     * {@code getMetrics().dump()} gera a tabela de percentis a qualquer momento.
+     * Com as métricas desligadas retorna TurnMetrics.DISABLED (sempre vazio).
+     */
+    public TurnMetrics getMetrics() {
+        return metricsEnabled ? turnMetrics() : TurnMetrics.DISABLED;
+    }
+
+    private synchronized TurnMetrics turnMetrics() {
+        if (metrics == null) metrics = new TurnMetrics();
+        return metrics;
+    }
+
+    /**
+     * Anexa uma linha do tempo (Chrome Trace Event) às fases do turno.
+     * Só grava com as métricas ligadas; TraceRecorder.DISABLED desanexa.
+     */
+    public void setTrace(final TraceRecorder trace) {
+        turnMetrics().setTrace(trace);
+    }
+
     /**
      * Inicia o jogo (boot do Model).
      * Cria regras, banco, dados, baralhos, tabuleiro, jogadores, economia e engine.
@@ -36,6 +108,21 @@ public final class GameAPI {
                           final Path deckCsvPath,
                           final int initialPlayerMoney,
                           final int initialBankCash) {
+        startGame(playersConfig, boardCsvPath, deckCsvPath, initialPlayerMoney, initialBankCash,
+                new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Inicia o jogo com uma seed: a mesma seed (e configuração) reproduz a partida
+     * exatamente, independente de threads ou de outras partidas em andamento.
+     * O gerador da partida é dividido (split) em fluxos independentes para o baralho e os dados.
+     */
+    public void startGame(final java.util.List<PlayerRef> playersConfig,
+                          final Path boardCsvPath,
+                          final Path deckCsvPath,
+                          final int initialPlayerMoney,
+                          final int initialBankCash,
+                          final long seed) {
         ensureNotStarted();
         Objects.requireNonNull(playersConfig, "playersConfig não pode ser nulo");
         Objects.requireNonNull(boardCsvPath, "boardCsvPath não pode ser nulo");
@@ -45,8 +132,11 @@ public final class GameAPI {
         final Bank bank = new Bank(initialBankCash);
         final EconomyService economy = new EconomyService(bank);
 
-        // 2) Baralhos
-        final Deck deck = DeckFactory.fromCSV(deckCsvPath);
+        // 2) Baralhos (fluxo próprio do gerador da partida)
+        final SplittableRandom matchRng = new SplittableRandom(seed);
+        final RandomGenerator deckRng = matchRng.split();
+        final RandomGenerator diceRng = matchRng.split();
+        final Deck deck = DeckFactory.fromCSV(deckCsvPath, deckRng);
 
         // 3) Jogadores
         validatePlayerCount(playersConfig.size());
@@ -64,9 +154,13 @@ public final class GameAPI {
         final Board board = BoardFactory.fromCSV(boardCsvPath);
 
         // 5) Engine
-    this.engine = new GameEngine(board, players, deck, economy, 0);
+    this.engine = new GameEngine(board, players, deck, economy, 0, new DiceTape(diceRng, diceTapeCapacity));
+        this.engine.setSimulationMode(simulationMode);
+        this.engine.setMetrics(getMetrics());
+        this.engine.setGameMetrics(simulationMode ? GameMetrics.NONE : GameMetrics.global());
 
         // 7) Boot concluído
+        this.seed = seed;
         this.started = true;
     }
     
@@ -83,7 +177,23 @@ public final class GameAPI {
                         final Path boardCsvPath,
                         final Path deckCsvPath,
                         final int initialBankCash) throws java.io.IOException {
+        loadGame(loadPath, boardCsvPath, deckCsvPath, initialBankCash, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Carrega o jogo com uma seed: o mesmo arquivo com a mesma seed reproduz a
+     * continuação da partida (dados e, em saves sem ordem do baralho, o embaralhamento).
+     * Os fluxos do baralho e dos dados são divididos do gerador da partida como em startGame.
+     */
+    public void loadGame(final Path loadPath,
+                        final Path boardCsvPath,
+                        final Path deckCsvPath,
+                        final int initialBankCash,
+                        final long seed) throws java.io.IOException {
         ensureNotStarted();
+        final SplittableRandom matchRng = new SplittableRandom(seed);
+        final RandomGenerator deckRng = matchRng.split();
+        final RandomGenerator diceRng = matchRng.split();
         
         // Carrega os dados salvos
         GameStateLoader.SavedGameData savedData = GameStateLoader.loadGame(loadPath);
@@ -110,7 +220,7 @@ public final class GameAPI {
         } else {
             // Fallback para compatibilidade com saves antigos
             System.out.println("[LOAD] No deck order saved, creating fresh deck and removing jail cards");
-            deck = DeckFactory.fromCSV(deckCsvPath);
+            deck = DeckFactory.fromCSV(deckCsvPath, deckRng);
             // Remove cartas "sair da prisão" que estão com jogadores
             for (int i = 0; i < savedData.getOutOfJailCardsOut; i++) {
                 deck.draw(); // Simula a remoção das cartas
@@ -191,8 +301,13 @@ public final class GameAPI {
             }
         }
         
-        // 7) Engine
-        this.engine = new GameEngine(board, players, deck, economy, savedData.currentPlayerIndex);
+        // 7) Engine (a seed reproduz a partida a partir do ponto carregado)
+        this.seed = seed;
+        this.engine = new GameEngine(board, players, deck, economy, savedData.currentPlayerIndex,
+                new DiceTape(diceRng, diceTapeCapacity));
+        this.engine.setSimulationMode(simulationMode);
+        this.engine.setMetrics(getMetrics());
+        this.engine.setGameMetrics(simulationMode ? GameMetrics.NONE : GameMetrics.global());
         
         // 8) Boot concluído
         this.started = true;
@@ -257,34 +372,43 @@ public final class GameAPI {
         return engine.currentPlayerIndex();
     }
     
+    /**
+     * Retorna a seed da partida: passe-a a startGame (ou, para uma partida carregada,
+     * a loadGame com o mesmo arquivo) para repetir a partida.
+     */
+    public long getSeed() {
+        ensureStarted();
+        return seed;
+    }
+    
     /** Retorna o número total de jogadores. */
     public int getNumberOfPlayers() {
         ensureStarted();
-        return engine.allPlayers().size();
+        return engine.playerCount();
     }
     
     /** Retorna a posição de um jogador no tabuleiro. */
     public int getPlayerPosition(int playerIndex) {
         ensureStarted();
-        return engine.allPlayers().get(playerIndex).getPosition();
+        return engine.playerAt(playerIndex).getPosition();
     }
     
     /** Retorna o nome de um jogador. */
     public String getPlayerName(int playerIndex) {
         ensureStarted();
-        return engine.allPlayers().get(playerIndex).getName();
+        return engine.playerAt(playerIndex).getName();
     }
     
     /** Retorna o saldo de um jogador. */
     public int getPlayerMoney(int playerIndex) {
         ensureStarted();
-        return engine.allPlayers().get(playerIndex).getMoney();
+        return engine.playerAt(playerIndex).getMoney();
     }
     
     /** Retorna se um jogador está na prisão. */
     public boolean isPlayerInJail(int playerIndex) {
         ensureStarted();
-        return engine.allPlayers().get(playerIndex).isInJail();
+        return engine.playerAt(playerIndex).isInJail();
     }
     
     /** Retorna os valores do último lance de dados (após rollAndResolve). */
@@ -321,7 +445,7 @@ public final class GameAPI {
     /** Retorna a cor (string) de um jogador. */
     public PlayerColor getPlayerColor(int playerIndex) {
         ensureStarted();
-        return engine.allPlayers().get(playerIndex).getColor();
+        return engine.playerAt(playerIndex).getColor();
     }
 
     /** Retorna o nome da square no índice fornecido. */
@@ -330,12 +454,18 @@ public final class GameAPI {
         return engine.getSquareName(index);
     }
 
-    /** Retorna o tipo (classe simples) da square no índice fornecido. */
-    public String getSquareType(final int index) {
+    /** Retorna o tipo da square no índice fornecido. */
+    public SquareType getSquareType(final int index) {
         ensureStarted();
         return engine.getSquareType(index);
     }
 
+    /** Retorna os códigos de tipo (SquareType.code()) de todas as casas, por índice. */
+    public byte[] getSquareTypeCodes() {
+        ensureStarted();
+        return engine.squareTypeCodes();
+    }
+
     /** Retorna o índice da última carta retirada do baralho (ou -1). */
     public int getLastDrawedCardIndex() {
         ensureStarted();
@@ -345,7 +475,7 @@ public final class GameAPI {
     /** Retorna se o jogador no índice fornecido está ativo/no jogo (não bankrupt). */
     public boolean isPlayerAlive(final int playerIndex) {
         ensureStarted();
-        return engine.allPlayers().get(playerIndex).isAlive();
+        return engine.playerAt(playerIndex).isAlive();
     }
 
     /** Retorna o nome da última propriedade/companhia em que um jogador caiu (ou null). */
@@ -390,6 +520,36 @@ public final class GameAPI {
         return engine.getWinners();
     }
 
+    /** Retorna a classificação por patrimônio líquido (dinheiro + propriedades), do 1º ao último. */
+    public java.util.List<PlayerStanding> getLeaderboard() {
+        ensureStarted();
+        return engine.getLeaderboard();
+    }
+
+    /** Retorna o patrimônio líquido de um jogador (dinheiro + investimento em propriedades). */
+    public int getPlayerNetWorth(int playerIndex) {
+        ensureStarted();
+        return engine.playerAt(playerIndex).getNetWorth();
+    }
+
+    /** Retorna quantas vezes cada casa recebeu um jogador nesta partida (índice = casa). */
+    public int[] getLandingCounts() {
+        ensureStarted();
+        return engine.landingCounts();
+    }
+
+    /** Retorna o índice do jogador dono da casa, ou -1 se a casa não tiver dono. */
+    public int getSquareOwnerIndex(final int index) {
+        ensureStarted();
+        return engine.ownerIndexAt(index);
+    }
+
+    /** Retorna quantas propriedades o jogador possui. */
+    public int getPlayerPropertyCount(final int playerIndex) {
+        ensureStarted();
+        return engine.propertyCount(playerIndex);
+    }
+
     /** Retorna o número de jogadores atualmente "vivos" (ativos, não bankrupt). */
     public int getAlivePlayerCount() {
         ensureStarted();
@@ -6,18 +6,27 @@ package model;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import model.api.dto.OwnableInfo;
 import model.api.dto.Ownables; 
 import model.api.dto.PlayerRef;
+import model.api.dto.PlayerStanding;
+import model.api.dto.SquareType;
 import model.api.dto.Transaction;
+import model.metrics.GameMetrics;
+import model.metrics.TurnMetrics;
+import model.metrics.TurnPhase;
 
 final class GameEngine {
 
     // Dependências e estado do turno 
     private final Board board;
     private final List<Player> players;
+    private final PlayerRoster roster;
     private final Deck deck;
     private final EconomyService economy;
+    private final DiceTape dice; // lances da partida (e mock de testes)
 
     private int currentPlayerIndex;
     private DiceRoll lastRoll;
@@ -25,21 +34,46 @@ final class GameEngine {
     private int lastDrawedCardIndex = -1;
     private String lastLandedOwnableName = null;
     private boolean hasBuiltThisTurn = false;
+    private TurnMetrics metrics = TurnMetrics.DISABLED; // latência por fase (desligado por padrão)
+    private GameMetrics gameMetrics = GameMetrics.NONE; // turnos e latência da jogada (todas as partidas)
     
-    // Mock de dados para testes
-    private Integer mockedDice1;
-    private Integer mockedDice2;
+    // Quantas vezes cada casa recebeu um jogador nesta partida (índice = casa)
+    private final int[] landingCounts;
 
     GameEngine(final Board board,
                final List<Player> players,
                final Deck deck,
                final EconomyService economy,
                final int startIndex) {
+        this(board, players, deck, economy, startIndex, new SplittableRandom());
+    }
+
+    GameEngine(final Board board,
+               final List<Player> players,
+               final Deck deck,
+               final EconomyService economy,
+               final int startIndex,
+               final RandomGenerator rng) {
+        this(board, players, deck, economy, startIndex, new DiceTape(rng, DiceTape.DIRECT));
+    }
+
+    GameEngine(final Board board,
+               final List<Player> players,
+               final Deck deck,
+               final EconomyService economy,
+               final int startIndex,
+               final DiceTape dice) {
         this.board   = Objects.requireNonNull(board, "board");
         this.players = Objects.requireNonNull(players, "players");
         this.deck    = Objects.requireNonNull(deck, "deck");
         this.economy = Objects.requireNonNull(economy, "economy");
+        this.dice    = Objects.requireNonNull(dice, "dice");
         this.currentPlayerIndex = startIndex;
+        this.landingCounts = new int[board.size()];
+
+        // Numera os jogadores (conjunto de ativos) e sincroniza o índice de posse do tabuleiro
+        this.roster = new PlayerRoster(players);
+        board.rebuildOwnerIndex();
     }
 
    // Início do turno: limpa estado do dado. 
@@ -86,8 +120,10 @@ final class GameEngine {
     void onLand() {
         final Player p = currentPlayer();
         final Square sq = board.squareAt(p.getPosition());
+        landingCounts[p.getPosition()]++;
+        GameEvents.squareLanding(currentPlayerIndex, p.getPosition(), board.typeAt(p.getPosition()).name());
         // Registra o nome de uma ownable se for o caso (para notificação/visualização)
-        if (sq instanceof OwnableSquare) {
+        if (board.typeAt(p.getPosition()).isOwnable()) {
             // armazenamos o nome da propriedade/companhia para a API
             this.lastLandedOwnableName = sq.name();
         } else {
@@ -100,7 +136,9 @@ final class GameEngine {
     void drawAndUseCard(Player player) {
         final Card card = deck.draw();
         this.lastDrawedCardIndex = card.getId();
+        final long t0 = metrics.start();
         card.applyEffect(player, this, economy);
+        metrics.stop(TurnPhase.CARD, t0);
   
     }
     
@@ -123,24 +161,37 @@ final class GameEngine {
         }
         
         final Player p = currentPlayer();
+        GameEvents.turnStart(currentPlayerIndex, p.getMoney(), p.getPosition());
+        final long turnStart = gameMetrics.turnStart();
 
         // Registra quem iniciou a rodada (rolou os dados)
         this.lastRollerIndex = currentPlayerIndex;
 
         // Rola os dados e guarda
+        long t0 = metrics.start();
         final DiceRoll roll = roll();
+        metrics.stop(TurnPhase.ROLL, t0);
+
+        t0 = metrics.start();
         applyJailRules(roll);
+        metrics.stop(TurnPhase.JAIL_RULES, t0);
 
         // Se estiver preso, não move
         if (p.isInJail()) {
+            gameMetrics.turnResolved(turnStart);
             return;
         }
 
         // Move o jogador
+        t0 = metrics.start();
         moveBy(roll.getSum());
+        metrics.stop(TurnPhase.MOVE, t0);
 
-        // Resolve efeito da casa
+        // Resolve efeito da casa (inclui carta e liquidação, também medidas à parte)
+        t0 = metrics.start();
         onLand();
+        metrics.stop(TurnPhase.LAND, t0);
+        gameMetrics.turnResolved(turnStart);
     }
 
     /* ===========================================================
@@ -148,12 +199,11 @@ final class GameEngine {
      * =========================================================== */
     boolean chooseBuy() {
         final Player player = currentPlayer();
+        final int pos = player.getPosition();
         
-        final Square sq = board.squareAt(player.getPosition());
-        
-        if (!(sq instanceof OwnableSquare)) return false;
+        if (!board.typeAt(pos).isOwnable()) return false;
         
-        final OwnableSquare property = (OwnableSquare) sq;
+        final OwnableSquare property = (OwnableSquare) board.squareAt(pos);
         
         final boolean hasPurchased = economy.attemptBuy(player, property);
 
@@ -172,12 +222,11 @@ final class GameEngine {
         if (this.hasBuiltThisTurn) return false;
 
         final Player player = currentPlayer();
+        final int pos = player.getPosition();
         
-        final Square sq = board.squareAt(player.getPosition());
+        if (board.typeAt(pos) != SquareType.STREET) return false;
         
-        if (!(sq instanceof StreetOwnableSquare)) return false;
-        
-        final StreetOwnableSquare property = (StreetOwnableSquare) sq;
+        final StreetOwnableSquare property = (StreetOwnableSquare) board.squareAt(pos);
 
         final boolean built = economy.attemptBuildHouse(player, property);
 
@@ -196,12 +245,11 @@ final class GameEngine {
         if (this.hasBuiltThisTurn) return false;
 
         final Player player = currentPlayer();
+        final int pos = player.getPosition();
         
-        final Square sq = board.squareAt(player.getPosition());
-        
-        if (!(sq instanceof StreetOwnableSquare)) return false;
+        if (board.typeAt(pos) != SquareType.STREET) return false;
         
-        final StreetOwnableSquare property = (StreetOwnableSquare) sq;
+        final StreetOwnableSquare property = (StreetOwnableSquare) board.squareAt(pos);
 
         final boolean built = economy.attemptBuildHotel(player, property);
 
@@ -226,13 +274,17 @@ final class GameEngine {
      * Finaliza o turno e retorna o índice do próximo jogador.
      * =========================================================== */
     int endTurn() {
+        final long t0 = metrics.start();
         this.lastRoll = null;
         this.hasBuiltThisTurn = false;
 
-    	int n = players.size();
-        do {
-            currentPlayerIndex = (currentPlayerIndex + 1) % n;
-        } while (!players.get(currentPlayerIndex).isAlive());
+        // Próximo jogador ativo (com volta ao início); se nenhum estiver ativo, mantém o atual
+        final int finished = currentPlayerIndex;
+        final int next = roster.nextAliveAfter(currentPlayerIndex);
+        if (next >= 0) currentPlayerIndex = next;
+        GameEvents.turnEnd(finished, currentPlayerIndex, roster.get(finished).getMoney());
+        gameMetrics.turnCompleted();
+        metrics.stop(TurnPhase.END_TURN, t0);
         return currentPlayerIndex;
     }
 
@@ -241,16 +293,9 @@ final class GameEngine {
 
     /* Retorna o resultado do dado rolado. */
     private DiceRoll roll() {
-        // Se há valores mockados, usa-os e limpa
-        if (mockedDice1 != null && mockedDice2 != null) {
-            this.lastRoll = new DiceRoll(mockedDice1, mockedDice2);
-            // Limpa os valores mockados após uso (single-use)
-            this.mockedDice1 = null;
-            this.mockedDice2 = null;
-        } else {
-            // Modo normal: aleatório
-            this.lastRoll = new DiceRoll();
-        }
+        // Valor mockado (uso único) tem prioridade; senão, próximo lance da fita
+        this.lastRoll = dice.nextRoll();
+        GameEvents.diceRoll(currentPlayerIndex, lastRoll.getD1(), lastRoll.getD2(), lastRoll.isDouble());
         return lastRoll;
     }
 
@@ -258,7 +303,7 @@ final class GameEngine {
     DiceRoll lastRoll() { return lastRoll; }
 
     /* Retorna o jogador atual. */
-    Player currentPlayer() { return players.get(currentPlayerIndex); }
+    Player currentPlayer() { return roster.get(currentPlayerIndex); }
 
     /* Retorna o índice da última carta retirada do baralho (ou -1). */
     int lastDrawedCardIndex() { return lastDrawedCardIndex; }
@@ -271,18 +316,22 @@ final class GameEngine {
 
     /* Retorna os DTOs das propriedades do jogador atual */
 	 List<OwnableInfo> getCurrentPlayerPropertyData() {
-	     final int[] indices = currentPlayer().getPropertiesIndex();
-	     final java.util.List<OwnableInfo> out = new java.util.ArrayList<>(indices.length);
+	     final Player player = currentPlayer();
+	     final java.util.List<OwnableInfo> out = new java.util.ArrayList<>(player.propertyCount());
 	
-	     for (int idx : indices) {
-	         final Square sq = board.squareAt(idx);
+	     for (long m = player.propertiesMask(); m != 0; m &= m - 1) {
+	         final int idx = Long.numberOfTrailingZeros(m);
 	
-	         if (sq instanceof StreetOwnableSquare) {
-	             final Ownables.Street dto = getStreetOwnableInfo(idx); 
-	             if (dto != null) out.add(dto);
-	         } else if (sq instanceof CompanyOwnableSquare) {
-	             final Ownables.Company dto = getCompanyOwnableInfo(idx); 
-	             if (dto != null) out.add(dto);
+	         switch (board.typeAt(idx)) {
+	             case STREET -> {
+	                 final Ownables.Street dto = getStreetOwnableInfo(idx); 
+	                 if (dto != null) out.add(dto);
+	             }
+	             case COMPANY -> {
+	                 final Ownables.Company dto = getCompanyOwnableInfo(idx); 
+	                 if (dto != null) out.add(dto);
+	             }
+	             default -> { }
 	         }
 	     }
 	
@@ -294,16 +343,39 @@ final class GameEngine {
         return List.copyOf(players);
     }
 
+    /* Jogadores da partida e conjunto dos ativos (sem cópia). */
+    PlayerRoster roster() { return roster; }
+
+    /* Retorna o jogador pelo índice (sem copiar a lista). */
+    Player playerAt(final int playerIndex) { return roster.get(playerIndex); }
+
+    /* Retorna o número total de jogadores. */
+    int playerCount() { return roster.size(); }
+
+    /* Retorna uma cópia dos contadores de pouso por casa (desta partida). */
+    int[] landingCounts() {
+        return landingCounts.clone();
+    }
+
     /* Retorna o índice do jogador atual (sem alterar estado). */
     int currentPlayerIndex() { return currentPlayerIndex; }
 
+    /* Retorna o índice do dono da casa, ou -1 se não tiver dono. */
+    int ownerIndexAt(final int index) {
+        if (index < 0 || index >= board.size()) {
+            throw new IllegalArgumentException("Index fora do board: " + index);
+        }
+        return board.ownerOrdinalAt(index);
+    }
+
+    /* Retorna quantas propriedades o jogador possui. */
+    int propertyCount(final int playerIndex) {
+        return roster.get(playerIndex).propertyCount();
+    }
+
     /* Retorna o número de jogadores ativos (não bankrupt). */
     int getAlivePlayerCount() {
-        int cnt = 0;
-        for (Player p : players) {
-            if (p.isAlive()) cnt++;
-        }
-        return cnt;
+        return roster.aliveCount();
     }
 
     /* Retorna os valores do último lance como um array int[3] {d1,d2,isDoubleFlag} */
@@ -320,9 +392,14 @@ final class GameEngine {
     String getSquareName(final int index) {
         return board.squareAt(index).name();
     }
-    /* Retorna o tipo (classe simples) da square no índice dado. */
-    String getSquareType(final int index) {
-        return board.squareAt(index).type();
+    /* Retorna o tipo da square no índice dado. */
+    SquareType getSquareType(final int index) {
+        return board.typeAt(index);
+    }
+
+    /* Retorna uma cópia dos códigos de tipo de todas as casas. */
+    byte[] squareTypeCodes() {
+        return board.typeCodes();
     }
  
     /**
@@ -330,16 +407,30 @@ final class GameEngine {
      * O critério é o maior montante de dinheiro entre os jogadores (empates permitidos).
      */
     java.util.List<PlayerRef> getWinners() {
-        int max = Integer.MIN_VALUE;
-        for (Player p : players) {
-            if (p.getMoney() > max) max = p.getMoney();
-        }
+        // A classificação por dinheiro já está ordenada: basta ler o topo enquanto empatar
+        final Standings standings = roster.standings();
+        final int max = roster.get(standings.byCash(0)).getMoney();
         final java.util.List<PlayerRef> res = new java.util.ArrayList<>();
-        for (int i = 0; i < players.size(); i++) {
-            final Player p = players.get(i);
-            if (p.getMoney() == max) {
-                res.add(toPlayerRef(p));
-            }
+        for (int k = 0; k < standings.size(); k++) {
+            final Player p = roster.get(standings.byCash(k));
+            if (p.getMoney() != max) break;
+            res.add(toPlayerRef(p));
+        }
+        return java.util.Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Retorna a classificação por patrimônio líquido (dinheiro + investimento),
+     * já ordenada; empates seguem a ordem da partida.
+     */
+    java.util.List<PlayerStanding> getLeaderboard() {
+        final Standings standings = roster.standings();
+        final java.util.List<PlayerStanding> res = new java.util.ArrayList<>(standings.size());
+        for (int k = 0; k < standings.size(); k++) {
+            final int i = standings.byNetWorth(k);
+            final Player p = roster.get(i);
+            res.add(new PlayerStanding(k + 1, i, p.getName(), p.getColor(),
+                    p.getMoney(), p.getInvestment(), p.getNetWorth(), p.isAlive()));
         }
         return java.util.Collections.unmodifiableList(res);
     }
@@ -350,9 +441,9 @@ final class GameEngine {
     /** Retorna uma mensagem explicando por que a compra NÃO é permitida, ou null se permitida. */
     String buyNotAllowedReason() {
         final Player player = currentPlayer();
-        final Square sq = board.squareAt(player.getPosition());
-        if (!(sq instanceof OwnableSquare)) return "Not a buyable property";
-        final OwnableSquare prop = (OwnableSquare) sq;
+        final int pos = player.getPosition();
+        if (!board.typeAt(pos).isOwnable()) return "Not a buyable property";
+        final OwnableSquare prop = (OwnableSquare) board.squareAt(pos);
         if (prop.hasOwner()) return "Property already owned";
         if (!player.canAfford(prop.getPrice())) {
             final int missing = player.howMuchMissing(prop.getPrice());
@@ -374,9 +465,9 @@ final class GameEngine {
     /** Helper method para validar construção (house ou hotel). */
     private String buildNotAllowedReasonHelper(boolean isHouse) {
         final Player player = currentPlayer();
-        final Square sq = board.squareAt(player.getPosition());
-        if (!(sq instanceof StreetOwnableSquare)) return "Not a street (cannot build)";
-        final StreetOwnableSquare street = (StreetOwnableSquare) sq;
+        final int pos = player.getPosition();
+        if (board.typeAt(pos) != SquareType.STREET) return "Not a street (cannot build)";
+        final StreetOwnableSquare street = (StreetOwnableSquare) board.squareAt(pos);
         if (!street.hasOwner() || street.getOwner() != player) return "You don't own this property";
         if (this.hasBuiltThisTurn) return "Already built once this turn";
         
@@ -414,9 +505,8 @@ final class GameEngine {
     }
 
     Ownables.Street getStreetOwnableInfo(final int index) {
-        final Square sq = board.squareAt(index);
-        if (!(sq instanceof StreetOwnableSquare)) return null;
-        final StreetOwnableSquare street = (StreetOwnableSquare) sq;
+        if (board.typeAt(index) != SquareType.STREET) return null;
+        final StreetOwnableSquare street = (StreetOwnableSquare) board.squareAt(index);
 
         // Parte comum
         final int sellValue = economy.evaluateSellValue(street);
@@ -432,9 +522,8 @@ final class GameEngine {
 
 
     Ownables.Company getCompanyOwnableInfo(final int index) {
-        final Square sq = board.squareAt(index);
-        if (!(sq instanceof CompanyOwnableSquare)) return null;
-        final CompanyOwnableSquare company = (CompanyOwnableSquare) sq;
+        if (board.typeAt(index) != SquareType.COMPANY) return null;
+        final CompanyOwnableSquare company = (CompanyOwnableSquare) board.squareAt(index);
 
         // Parte comum
         final int sellValue = economy.evaluateSellValue(company);
@@ -462,19 +551,14 @@ final class GameEngine {
      * Valores serão consumidos no próximo roll() e então limpos.
      */
     void setMockedDiceValues(final int d1, final int d2) {
-        if (d1 < 1 || d1 > 6 || d2 < 1 || d2 > 6) {
-            throw new IllegalArgumentException("Dice values must be between 1 and 6");
-        }
-        this.mockedDice1 = d1;
-        this.mockedDice2 = d2;
+        dice.inject(d1, d2);
     }
     
     /**
      * Remove valores mockados (volta ao modo normal/aleatório).
      */
     void clearMockedDiceValues() {
-        this.mockedDice1 = null;
-        this.mockedDice2 = null;
+        dice.clearInjected();
     }
     
     /**
@@ -497,5 +581,47 @@ final class GameEngine {
     Bank getBank() {
         return economy.getBank();
     }
+
+    /**
+     * Modo simulação: o banco deixa de registrar transações e o turno
+     * (rolar → casa → economia → banco) não aloca em regime.
+     */
+    void setSimulationMode(final boolean simulation) {
+        economy.getBank().setTransactionLogging(!simulation);
+    }
+
+    boolean isSimulationMode() {
+        return !economy.getBank().isTransactionLogging();
+    }
+
+    /** Histogramas de latência das fases do turno (TurnMetrics.DISABLED desliga). */
+    void setMetrics(final TurnMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        economy.setMetrics(metrics);
+    }
+
+    TurnMetrics metrics() { return metrics; }
+
+    /** Métricas de operação do processo (GameMetrics.NONE desliga). */
+    void setGameMetrics(final GameMetrics gameMetrics) {
+        this.gameMetrics = Objects.requireNonNull(gameMetrics, "gameMetrics");
+        economy.setGameMetrics(gameMetrics);
+    }
+
+    /**
+     * Reinicia o turno no jogador dado (restauração de um estado salvo):
+     * limpa o lance, a última carta/casa e libera a rolagem.
+     */
+    void restoreTurn(final int playerIndex) {
+        if (playerIndex < 0 || playerIndex >= roster.size()) {
+            throw new IllegalArgumentException("Jogador inválido: " + playerIndex);
+        }
+        this.currentPlayerIndex = playerIndex;
+        this.lastRoll = null;
+        this.lastRollerIndex = -1;
+        this.lastDrawedCardIndex = -1;
+        this.lastLandedOwnableName = null;
+        this.hasBuiltThisTurn = false;
+    }
 }
 
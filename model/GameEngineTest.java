@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import model.TestFixtures.NoopSquare;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -15,12 +16,6 @@ public class GameEngineTest {
     private static final int BOARD_SIZE = 10;
     private static final int DEFAULT_TIMEOUT = 2000;
 
-    // Square sem efeito para testes
-    static class NoopSquare extends Square {
-        NoopSquare(int index) { super(index, "S" + index); }
-        @Override void onLand(Player player, GameEngine engine, EconomyService economy) { /* no-op */ }
-    }
-
     private Board makeBoard(int size, int jailIndex) {
         List<Square> squares = new ArrayList<>();
         for (int i = 0; i < size; i++) squares.add(new NoopSquare(i));
@@ -130,6 +125,54 @@ public class GameEngineTest {
         assertEquals(0, players.get(1).getPosition());
     }
 
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void onLand_countsLandingsPerSquare() {
+        players.get(0).moveTo(4);
+        engine.onLand();
+        engine.onLand();
+        players.get(0).moveTo(7);
+        engine.onLand();
+
+        int[] counts = engine.landingCounts();
+        assertEquals(BOARD_SIZE, counts.length);
+        assertEquals(2, counts[4]);
+        assertEquals(1, counts[7]);
+        assertEquals(0, counts[0]);
+
+        // Cópia defensiva: alterar o retorno não afeta o motor
+        counts[4] = 99;
+        assertEquals(2, engine.landingCounts()[4]);
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void leaderboard_tracksNetWorthAcrossBuyBuildAndSell() {
+        StreetOwnableSquare prop = new StreetOwnableSquare(0, "Rua 0", "R0", 200);
+        Player alice = new Player("P1", "Alice", RED, 1500);
+        List<Player> ps = Arrays.asList(alice, new Player("P2", "Bob", BLUE, 1500));
+        GameEngine localEngine = new GameEngine(makeBoardWithPropertyAt0(prop, BOARD_SIZE, 3), ps, makeDeck(), makeEconomy(), 0);
+
+        // Compra: dinheiro vira investimento, patrimônio não muda
+        assertTrue(localEngine.chooseBuy());
+        assertEquals(200, alice.getInvestment());
+        assertEquals(1500, alice.getNetWorth());
+        assertEquals("empate de patrimônio segue a ordem da partida", "Alice", localEngine.getLeaderboard().get(0).name());
+        assertEquals("vencedor continua sendo por dinheiro", "Bob", localEngine.getWinners().get(0).name());
+
+        // Construção direta na rua (sem cobrança) também atualiza o investimento do dono
+        prop.buildHouse();
+        assertEquals(300, alice.getInvestment());
+        assertEquals(1600, alice.getNetWorth());
+
+        // Venda ao banco: recebe 90% de 300 e zera o investimento
+        localEngine.sellAtIndex(0);
+        assertEquals(0, alice.getInvestment());
+        assertEquals(1300 + 270, alice.getNetWorth());
+        assertEquals("Alice", localEngine.getLeaderboard().get(0).name());
+        assertEquals(2, localEngine.getLeaderboard().get(1).rank());
+        assertEquals(1, localEngine.getWinners().size());
+        assertEquals("Alice", localEngine.getWinners().get(0).name());
+    }
+
     // ==============================
     // Prisão: ida/saída/permanece
     // ==============================
@@ -211,4 +254,24 @@ public class GameEngineTest {
 
         assertTrue(idx1 >= 0 && idx2 >= 0 && idx3 >= 0);
     }
-}
\ No newline at end of file
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void sameSeedShouldReproduceTheSameRolls() {
+        GameEngine a = new GameEngine(makeBoard(BOARD_SIZE, 3), makePlayers(), makeDeck(), makeEconomy(), 0,
+                new java.util.SplittableRandom(2024L));
+        GameEngine b = new GameEngine(makeBoard(BOARD_SIZE, 3), makePlayers(), makeDeck(), makeEconomy(), 0,
+                new java.util.SplittableRandom(2024L));
+
+        for (int turn = 0; turn < 50; turn++) {
+            a.beginTurn();
+            b.beginTurn();
+            a.rollAndResolve();
+            b.rollAndResolve();
+            assertEquals("turno " + turn, a.lastRoll().getD1(), b.lastRoll().getD1());
+            assertEquals("turno " + turn, a.lastRoll().getD2(), b.lastRoll().getD2());
+            assertEquals(a.currentPlayer().getPosition(), b.currentPlayer().getPosition());
+            a.endTurn();
+            b.endTurn();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/* ===========================================================
+ * GameEvents ; eventos do Java Flight Recorder do motor e da economia.
+ * Desligados (sem gravação do Flight Recorder) custam uma leitura volátil.
+ * Perfil pronto: jfr/monopoly.jfc.
+ * =========================================================== */
+
+package model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * O motor e a economia chamam só os métodos estáticos abaixo. Enquanto o
+ * Flight Recorder não for iniciado nesta JVM (-XX:StartFlightRecording,
+ * jcmd JFR.start ou a API jdk.jfr), cada chamada é uma leitura volátil:
+ * nenhum evento é criado e as classes de evento nem são carregadas
+ * (carregar a primeira custa centenas de ms), então o turno segue sem alocação.
+ * Os eventos instantâneos não guardam pilha; só a liquidação tem duração.
+ */
+final class GameEvents {
+
+    private static final String ENGINE = "Engine";
+    private static final String ECONOMY = "Economy";
+
+    private GameEvents() {
+        // Só tipos de evento e emissores
+    }
+
+    /** true depois que o Flight Recorder foi iniciado nesta JVM. */
+    static boolean recorderActive() {
+        return FlightRecorder.isInitialized();
+    }
+
+    // ===== Emissores =====
+
+    static void turnStart(final int player, final int money, final int square) {
+        if (!recorderActive()) return;
+        final TurnStartEvent e = new TurnStartEvent();
+        if (e.shouldCommit()) {
+            e.player = player;
+            e.money = money;
+            e.square = square;
+            e.commit();
+        }
+    }
+
+    static void turnEnd(final int player, final int nextPlayer, final int money) {
+        if (!recorderActive()) return;
+        final TurnEndEvent e = new TurnEndEvent();
+        if (e.shouldCommit()) {
+            e.player = player;
+            e.nextPlayer = nextPlayer;
+            e.money = money;
+            e.commit();
+        }
+    }
+
+    static void diceRoll(final int player, final int d1, final int d2, final boolean isDouble) {
+        if (!recorderActive()) return;
+        final DiceRollEvent e = new DiceRollEvent();
+        if (e.shouldCommit()) {
+            e.player = player;
+            e.d1 = d1;
+            e.d2 = d2;
+            e.isDouble = isDouble;
+            e.commit();
+        }
+    }
+
+    static void squareLanding(final int player, final int square, final String squareType) {
+        if (!recorderActive()) return;
+        final SquareLandingEvent e = new SquareLandingEvent();
+        if (e.shouldCommit()) {
+            e.player = player;
+            e.square = square;
+            e.squareType = squareType;
+            e.commit();
+        }
+    }
+
+    static void purchase(final int player, final int square, final int amount) {
+        if (!recorderActive()) return;
+        final PurchaseEvent e = new PurchaseEvent();
+        if (e.shouldCommit()) {
+            e.player = player;
+            e.square = square;
+            e.amount = amount;
+            e.commit();
+        }
+    }
+
+    static void build(final int player, final int square, final int amount, final boolean hotel) {
+        if (!recorderActive()) return;
+        final BuildEvent e = new BuildEvent();
+        if (e.shouldCommit()) {
+            e.player = player;
+            e.square = square;
+            e.amount = amount;
+            e.hotel = hotel;
+            e.commit();
+        }
+    }
+
+    static void rentCharge(final int player, final int owner, final int square, final int amount) {
+        if (!recorderActive()) return;
+        final RentChargeEvent e = new RentChargeEvent();
+        if (e.shouldCommit()) {
+            e.player = player;
+            e.owner = owner;
+            e.square = square;
+            e.amount = amount;
+            e.commit();
+        }
+    }
+
+    /** Início da liquidação (null se o Flight Recorder não foi iniciado). */
+    static LiquidationEvent liquidationBegin() {
+        if (!recorderActive()) return null;
+        final LiquidationEvent e = new LiquidationEvent();
+        e.begin();
+        return e;
+    }
+
+    static void liquidationEnd(final LiquidationEvent e, final int player, final int amount, final int missing,
+                               final int propertiesSold, final boolean solvent) {
+        if (e == null || !e.shouldCommit()) return;
+        e.player = player;
+        e.amount = amount;
+        e.missing = missing;
+        e.propertiesSold = propertiesSold;
+        e.solvent = solvent;
+        e.commit();
+    }
+
+    static void bankruptcy(final int player, final int propertiesReturned) {
+        if (!recorderActive()) return;
+        final BankruptcyEvent e = new BankruptcyEvent();
+        if (e.shouldCommit()) {
+            e.player = player;
+            e.propertiesReturned = propertiesReturned;
+            e.commit();
+        }
+    }
+
+    // ===== Tipos de evento =====
+
+    @Name("monopoly.TurnStart")
+    @Label("Turn Start")
+    @Category({ "Monopoly", ENGINE })
+    @StackTrace(false)
+    static final class TurnStartEvent extends Event {
+        @Label("Player") int player;
+        @Label("Money") int money;
+        @Label("Square") int square;
+    }
+
+    @Name("monopoly.TurnEnd")
+    @Label("Turn End")
+    @Category({ "Monopoly", ENGINE })
+    @StackTrace(false)
+    static final class TurnEndEvent extends Event {
+        @Label("Player") int player;
+        @Label("Next Player") int nextPlayer;
+        @Label("Money") int money;
+    }
+
+    @Name("monopoly.DiceRoll")
+    @Label("Dice Roll")
+    @Category({ "Monopoly", ENGINE })
+    @StackTrace(false)
+    static final class DiceRollEvent extends Event {
+        @Label("Player") int player;
+        @Label("Die 1") int d1;
+        @Label("Die 2") int d2;
+        @Label("Double") boolean isDouble;
+    }
+
+    @Name("monopoly.SquareLanding")
+    @Label("Square Landing")
+    @Category({ "Monopoly", ENGINE })
+    @StackTrace(false)
+    static final class SquareLandingEvent extends Event {
+        @Label("Player") int player;
+        @Label("Square") int square;
+        @Label("Square Type") String squareType;
+    }
+
+    @Name("monopoly.Purchase")
+    @Label("Purchase")
+    @Category({ "Monopoly", ECONOMY })
+    @StackTrace(false)
+    static final class PurchaseEvent extends Event {
+        @Label("Player") int player;
+        @Label("Square") int square;
+        @Label("Amount") int amount;
+    }
+
+    @Name("monopoly.Build")
+    @Label("Build")
+    @Category({ "Monopoly", ECONOMY })
+    @StackTrace(false)
+    static final class BuildEvent extends Event {
+        @Label("Player") int player;
+        @Label("Square") int square;
+        @Label("Amount") int amount;
+        @Label("Hotel") boolean hotel;
+    }
+
+    @Name("monopoly.RentCharge")
+    @Label("Rent Charge")
+    @Category({ "Monopoly", ECONOMY })
+    @StackTrace(false)
+    static final class RentChargeEvent extends Event {
+        @Label("Player") int player;
+        @Label("Owner") int owner;
+        @Label("Square") int square;
+        @Label("Amount") int amount;
+    }
+
+    @Name("monopoly.Liquidation")
+    @Label("Liquidation")
+    @Description("Venda de propriedades ao banco para cobrir um pagamento (ou falência)")
+    @Category({ "Monopoly", ECONOMY })
+    @StackTrace(false)
+    static final class LiquidationEvent extends Event {
+        @Label("Player") int player;
+        @Label("Amount") int amount;
+        @Label("Missing") int missing;
+        @Label("Properties Sold") int propertiesSold;
+        @Label("Solvent") boolean solvent;
+    }
+
+    @Name("monopoly.Bankruptcy")
+    @Label("Bankruptcy")
+    @Category({ "Monopoly", ECONOMY })
+    @StackTrace(false)
+    static final class BankruptcyEvent extends Event {
+        @Label("Player") int player;
+        @Label("Properties Returned") int propertiesReturned;
+    }
+}
@@ -0,0 +1,228 @@
+/* ===========================================================
+ * GameStateArena ; população de estados de partida fora do heap.
+ * Cada slot guarda uma partida inteira em layout fixo dentro de um único
+ * MemorySegment (Foreign Memory API); o GC vê só a arena e o segmento.
+ * JDK 22+: API final. No JDK 21 compilar/executar com --enable-preview.
+ * =========================================================== */
+
+package model;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Layout de um slot (bytes, little/big endian nativo):
+ * <pre>
+ *  0  int  jogador da vez
+ *  4  int  caixa do banco
+ *  8  int  cartas no baralho
+ * 12  int  cartas "sair da prisão" com jogadores
+ * 16  jogadores x 8: int saldo | byte posição | byte flags (1 = ativo, 2 = preso) | byte cartões | byte livre
+ *  .. casas x 1: ordinal do dono (-1 = sem dono)
+ *  .. casas x 1: nível de construção (casas * 2 + hotel)
+ *  .. deckCapacity x 1: índices da tabela do baralho, do topo para o fim
+ *  .. deckCapacity x 1: índices das cartas com jogadores (pilha)
+ * </pre>
+ * O tamanho do slot é arredondado para 8 bytes. Todas as partidas de uma arena
+ * têm o mesmo número de jogadores, o mesmo tabuleiro e a mesma tabela de cartas.
+ * store/load não alocam: o estado vai direto entre o segmento e os objetos do GameEngine.
+ */
+final class GameStateArena implements AutoCloseable {
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+    private static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+
+    private static final int CURRENT = 0;
+    private static final int BANK = 4;
+    private static final int DECK_SIZE = 8;
+    private static final int HELD_COUNT = 12;
+    private static final int PLAYERS = 16;
+    private static final int PLAYER_BYTES = 8;
+
+    private static final int ALIVE = 1;
+    private static final int IN_JAIL = 2;
+
+    private final Arena arena;
+    private final MemorySegment states;
+    private final int capacity;
+    private final int players;
+    private final int squares;
+    private final int deckTable;
+    private final int deckCapacity;
+    private final long stride;
+    private final int ownersOffset;
+    private final int levelsOffset;
+    private final int deckOffset;
+    private final int heldOffset;
+
+    /**
+     * @param capacity número de slots
+     * @param players jogadores por partida
+     * @param squares casas do tabuleiro
+     * @param deckTable tamanho da tabela de cartas (Deck.tableSize())
+     */
+    GameStateArena(final int capacity, final int players, final int squares, final int deckTable) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity deve ser > 0");
+        if (players <= 0 || players > Byte.MAX_VALUE) throw new IllegalArgumentException("players inválido");
+        if (squares <= 0 || squares > Board.MAX_SQUARES) throw new IllegalArgumentException("squares inválido");
+        if (deckTable <= 0 || deckTable > Byte.MAX_VALUE) throw new IllegalArgumentException("deckTable inválido");
+        this.capacity = capacity;
+        this.players = players;
+        this.squares = squares;
+        this.deckTable = deckTable;
+        // A carta genérica pode voltar mais de uma vez (jogos carregados): folga de uma tabela
+        this.deckCapacity = deckTable * 2;
+
+        this.ownersOffset = PLAYERS + players * PLAYER_BYTES;
+        this.levelsOffset = ownersOffset + squares;
+        this.deckOffset = levelsOffset + squares;
+        this.heldOffset = deckOffset + deckCapacity;
+        this.stride = (heldOffset + deckCapacity + 7L) & ~7L;
+
+        this.arena = Arena.ofShared();
+        this.states = arena.allocate(stride * capacity, Long.BYTES);
+    }
+
+    /** Arena no formato da partida do engine. */
+    static GameStateArena forEngine(final GameEngine engine, final int capacity) {
+        return new GameStateArena(capacity, engine.playerCount(), engine.getBoard().size(),
+                engine.getDeck().tableSize());
+    }
+
+    int capacity() { return capacity; }
+
+    /** Bytes por partida. */
+    long slotBytes() { return stride; }
+
+    // ===== Adaptador do GameEngine =====
+
+    /** Grava o estado da partida no slot. */
+    void store(final int slot, final GameEngine engine) {
+        checkShape(engine);
+        final long base = offset(slot);
+        final Board board = engine.getBoard();
+        final Deck deck = engine.getDeck();
+
+        states.set(INT, base + CURRENT, engine.currentPlayerIndex());
+        states.set(INT, base + BANK, engine.getBank().getCash());
+
+        for (int i = 0; i < players; i++) {
+            final Player p = engine.playerAt(i);
+            final long at = base + PLAYERS + (long) i * PLAYER_BYTES;
+            if (p.getGetOutOfJailCards() > Byte.MAX_VALUE) throw new IllegalStateException("Cartões demais: " + p.getName());
+            states.set(INT, at, p.getMoney());
+            states.set(BYTE, at + 4, (byte) p.getPosition());
+            states.set(BYTE, at + 5, (byte) ((p.isAlive() ? ALIVE : 0) | (p.isInJail() ? IN_JAIL : 0)));
+            states.set(BYTE, at + 6, (byte) p.getGetOutOfJailCards());
+        }
+
+        for (int s = 0; s < squares; s++) {
+            states.set(BYTE, base + ownersOffset + s, (byte) board.ownerOrdinalAt(s));
+            int level = 0;
+            if (board.typeAt(s) == model.api.dto.SquareType.STREET) {
+                final StreetOwnableSquare street = (StreetOwnableSquare) board.squareAt(s);
+                level = street.getHouses() * 2 + (street.hasHotel() ? 1 : 0);
+            }
+            states.set(BYTE, base + levelsOffset + s, (byte) level);
+        }
+
+        final int size = deck.size();
+        final int held = deck.heldCount();
+        if (size > deckCapacity || held > deckCapacity) throw new IllegalStateException("Baralho maior que o slot");
+        states.set(INT, base + DECK_SIZE, size);
+        states.set(INT, base + HELD_COUNT, held);
+        for (int i = 0; i < size; i++) states.set(BYTE, base + deckOffset + i, (byte) deck.slotAt(i));
+        for (int i = 0; i < held; i++) states.set(BYTE, base + heldOffset + i, (byte) deck.heldSlotAt(i));
+    }
+
+    /**
+     * Restaura no engine (no lugar: mesmos objetos) a partida do slot.
+     * O turno recomeça no jogador da vez, antes da rolagem.
+     */
+    void load(final int slot, final GameEngine engine) {
+        checkShape(engine);
+        final long base = offset(slot);
+        final Board board = engine.getBoard();
+        final Deck deck = engine.getDeck();
+
+        for (int i = 0; i < players; i++) {
+            final long at = base + PLAYERS + (long) i * PLAYER_BYTES;
+            final int flags = states.get(BYTE, at + 5);
+            engine.playerAt(i).restoreState(states.get(INT, at), states.get(BYTE, at + 4),
+                    (flags & IN_JAIL) != 0, states.get(BYTE, at + 6), (flags & ALIVE) != 0);
+        }
+
+        for (int s = 0; s < squares; s++) {
+            if (!board.typeAt(s).isOwnable()) continue;
+            final OwnableSquare prop = (OwnableSquare) board.squareAt(s);
+            final int stored = states.get(BYTE, base + ownersOffset + s);
+            final Player current = prop.getOwner();
+            final Player owner = (stored == Board.NO_OWNER) ? null : engine.playerAt(stored);
+            if (current != owner) {
+                if (current != null) {
+                    current.removeProperty(prop);
+                    prop.removeOwner(current);
+                }
+                if (owner != null) {
+                    prop.setOwner(owner);
+                    owner.addProperty(prop);
+                }
+            }
+            if (prop instanceof StreetOwnableSquare) {
+                final int level = states.get(BYTE, base + levelsOffset + s);
+                ((StreetOwnableSquare) prop).restoreBuildings(level >> 1, (level & 1) != 0);
+            }
+        }
+
+        deck.clearForRestore();
+        final int size = states.get(INT, base + DECK_SIZE);
+        final int held = states.get(INT, base + HELD_COUNT);
+        for (int i = 0; i < size; i++) deck.restoreSlot(states.get(BYTE, base + deckOffset + i));
+        for (int i = 0; i < held; i++) deck.restoreHeld(states.get(BYTE, base + heldOffset + i));
+
+        engine.getBank().restoreCash(states.get(INT, base + BANK));
+        engine.restoreTurn(states.get(INT, base + CURRENT));
+    }
+
+    /** Copia um slot para outro (ex.: ramificar uma partida pausada). */
+    void copy(final int from, final int to) {
+        MemorySegment.copy(states, offset(from), states, offset(to), stride);
+    }
+
+    // ===== Leitura direta (sem carregar a partida) =====
+
+    int currentPlayer(final int slot) { return states.get(INT, offset(slot) + CURRENT); }
+    int bankCash(final int slot) { return states.get(INT, offset(slot) + BANK); }
+
+    int money(final int slot, final int player) {
+        return states.get(INT, offset(slot) + PLAYERS + (long) checkPlayer(player) * PLAYER_BYTES);
+    }
+
+    boolean isAlive(final int slot, final int player) {
+        return (states.get(BYTE, offset(slot) + PLAYERS + (long) checkPlayer(player) * PLAYER_BYTES + 5) & ALIVE) != 0;
+    }
+
+    /** Libera a memória de todos os slots. */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long offset(final int slot) {
+        if (slot < 0 || slot >= capacity) throw new IndexOutOfBoundsException("Slot fora da arena: " + slot);
+        return slot * stride;
+    }
+
+    private int checkPlayer(final int player) {
+        if (player < 0 || player >= players) throw new IndexOutOfBoundsException("Jogador inválido: " + player);
+        return player;
+    }
+
+    private void checkShape(final GameEngine engine) {
+        if (engine.playerCount() != players || engine.getBoard().size() != squares
+                || engine.getDeck().tableSize() != deckTable) {
+            throw new IllegalArgumentException("Partida com formato diferente da arena.");
+        }
+    }
+}
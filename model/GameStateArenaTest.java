@@ -0,0 +1,101 @@
+package model;
+
+import static org.junit.Assert.*;
+import static model.TestFixtures.*;
+
+import java.util.SplittableRandom;
+
+import model.api.dto.SquareType;
+import org.junit.Test;
+
+public class GameStateArenaTest {
+
+    private static final int DEFAULT_TIMEOUT = 5000;
+    private static final int INITIAL_MONEY = 900;
+
+    private GameEngine makeEngine(final long seed) {
+        return new GameEngine(fullBoard(), players(3, INITIAL_MONEY), fullDeck(), new EconomyService(new Bank(100_000)), 0,
+                new SplittableRandom(seed));
+    }
+
+    // Mesma política do bot: compra, senão tenta construir
+    private void play(final GameEngine engine, final int turns) {
+        for (int t = 0; t < turns && engine.roster().aliveCount() > 1; t++) {
+            engine.beginTurn();
+            engine.rollAndResolve();
+            if (engine.currentPlayer().isAlive() && !engine.chooseBuy()) engine.chooseBuildHouse();
+            engine.endTurn();
+        }
+    }
+
+    private String fingerprint(final GameEngine engine) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("vez=").append(engine.currentPlayerIndex()).append(" banco=").append(engine.getBank().getCash());
+        for (int i = 0; i < engine.playerCount(); i++) {
+            Player p = engine.playerAt(i);
+            sb.append(" | ").append(p.getMoney()).append('@').append(p.getPosition())
+              .append(p.isInJail() ? "J" : "").append(p.isAlive() ? "" : "X")
+              .append(" c").append(p.getGetOutOfJailCards()).append(" m").append(p.propertiesMask())
+              .append(" w").append(p.getInvestment());
+        }
+        Board board = engine.getBoard();
+        for (int s = 0; s < board.size(); s++) {
+            sb.append(s == 0 ? " | donos " : ",").append(board.ownerOrdinalAt(s));
+            if (board.typeAt(s) == SquareType.STREET) {
+                StreetOwnableSquare street = (StreetOwnableSquare) board.squareAt(s);
+                sb.append('h').append(street.getHouses()).append(street.hasHotel() ? "H" : "");
+            }
+        }
+        sb.append(" | baralho");
+        for (Card c : engine.getDeck().getCardsInOrder()) sb.append(' ').append(c.getId());
+        return sb.toString();
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void loadShouldRestoreTheStoredStateInPlace() {
+        GameEngine engine = makeEngine(77L);
+        try (GameStateArena arena = GameStateArena.forEngine(engine, 4)) {
+            play(engine, 30);
+            arena.store(2, engine);
+            final String saved = fingerprint(engine);
+
+            play(engine, 40);
+            assertNotEquals("a partida deve ter mudado", saved, fingerprint(engine));
+
+            arena.load(2, engine);
+            assertEquals(saved, fingerprint(engine));
+            assertEquals(engine.getBank().getCash(), arena.bankCash(2));
+            assertEquals(engine.playerAt(1).getMoney(), arena.money(2, 1));
+
+            // O engine restaurado continua jogável
+            play(engine, 10);
+        }
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void copiedSlotShouldLoadIntoAFreshEngine() {
+        GameEngine engine = makeEngine(5L);
+        try (GameStateArena arena = GameStateArena.forEngine(engine, 2)) {
+            play(engine, 45);
+            arena.store(0, engine);
+            arena.copy(0, 1);
+
+            GameEngine fresh = makeEngine(999L);
+            arena.load(1, fresh);
+            assertEquals(fingerprint(engine), fingerprint(fresh));
+            assertEquals(engine.roster().aliveCount(), fresh.roster().aliveCount());
+        }
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void shouldRejectAnEngineWithAnotherShape() {
+        try (GameStateArena arena = new GameStateArena(1, 2, fullBoard().size(), fullDeck().tableSize())) {
+            try {
+                arena.store(0, makeEngine(1L));
+                fail("3 jogadores não cabem em uma arena de 2");
+            } catch (IllegalArgumentException expected) {
+                // ok
+            }
+        }
+    }
+}
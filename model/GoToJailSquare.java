@@ -4,10 +4,12 @@
 
 package model;
 
+import model.api.dto.SquareType;
+
 final class GoToJailSquare extends Square {
 
     GoToJailSquare(final int index, final String name) {
-        super(index, name);
+        super(index, name, SquareType.GO_TO_JAIL);
     }
 
     @Override
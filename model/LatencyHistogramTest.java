@@ -0,0 +1,106 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.metrics.HistogramSnapshot;
+import model.metrics.LatencyHistogram;
+import model.metrics.TurnMetrics;
+import model.metrics.TurnPhase;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    private static final int DEFAULT_TIMEOUT = 5000;
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void emptyHistogram_reportsZeros() {
+        HistogramSnapshot s = new LatencyHistogram("x").snapshot();
+        assertEquals(0, s.count());
+        assertEquals(0, s.percentile(99), 0);
+        assertEquals(0.0, s.mean(), 0.0);
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void percentiles_stayWithinBucketPrecision() {
+        LatencyHistogram h = new LatencyHistogram("x");
+        for (long v = 1; v <= 100_000; v++) h.record(v);
+        HistogramSnapshot s = h.snapshot();
+
+        assertEquals(100_000, s.count());
+        assertEquals(100_000, s.max());
+        assertEquals(1, s.min());
+        assertEquals(50_000.5, s.mean(), 1e-9);
+        // Erro relativo máximo de 1/16 acima do valor exato
+        assertWithin(50_000, s.percentile(50));
+        assertWithin(90_000, s.percentile(90));
+        assertWithin(99_000, s.percentile(99));
+        assertEquals(100_000, s.percentile(100));
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void smallValues_areExact_andOutOfRangeIsClamped() {
+        LatencyHistogram h = new LatencyHistogram("x");
+        h.record(-5);
+        h.record(7);
+        h.record(Long.MAX_VALUE);
+        HistogramSnapshot s = h.snapshot();
+        assertEquals(3, s.count());
+        assertEquals(0, s.min());
+        assertEquals(7, s.percentile(50));
+        assertEquals(LatencyHistogram.MAX_TRACKABLE, s.max());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void recordsFromManyThreads_areMerged() throws InterruptedException {
+        LatencyHistogram h = new LatencyHistogram("x");
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final long value = 1_000L * (t + 1);
+            threads.add(new Thread(() -> { for (int i = 0; i < 10_000; i++) h.record(value); }));
+        }
+        for (Thread t : threads) t.start();
+        for (Thread t : threads) t.join();
+
+        HistogramSnapshot s = h.snapshot();
+        assertEquals(40_000, s.count());
+        assertEquals(4_000, s.max());
+        assertEquals(2_500.0, s.mean(), 1e-9);
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void engine_recordsEachPhaseOfTheTurn() {
+        GameEngine engine = TestFixtures.quietEngine(TestFixtures.noopSquares(10));
+        TurnMetrics metrics = new TurnMetrics();
+        engine.setMetrics(metrics);
+
+        for (int turn = 0; turn < 5; turn++) {
+            engine.beginTurn();
+            engine.setMockedDiceValues(1, 2);
+            engine.rollAndResolve();
+            engine.endTurn();
+        }
+
+        for (TurnPhase phase : new TurnPhase[] { TurnPhase.ROLL, TurnPhase.JAIL_RULES,
+                TurnPhase.MOVE, TurnPhase.LAND, TurnPhase.END_TURN }) {
+            assertEquals(phase.label(), 5, metrics.snapshot(phase).count());
+        }
+        assertEquals(0, metrics.snapshot(TurnPhase.LIQUIDATION).count());
+        assertTrue(metrics.dump().contains("applyJailRules"));
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void disabledMetrics_recordNothing() {
+        long t0 = TurnMetrics.DISABLED.start();
+        TurnMetrics.DISABLED.stop(TurnPhase.ROLL, t0);
+        assertFalse(TurnMetrics.DISABLED.isEnabled());
+        assertEquals(0, TurnMetrics.DISABLED.snapshot(TurnPhase.ROLL).count());
+    }
+
+    private static void assertWithin(long exact, long reported) {
+        assertTrue("percentil " + reported + " abaixo de " + exact, reported >= exact);
+        assertTrue("percentil " + reported + " longe de " + exact, reported <= exact + exact / 16);
+    }
+}
@@ -0,0 +1,266 @@
+/* ===========================================================
+ * LiquidationPlanner ; escolhe o que vender numa venda forçada (Model).
+ * Mochila 0/1 de cobertura: atingir o valor faltante com a menor perda
+ * de investimento (investimento - recompra). O guloso (menor perda por
+ * unidade) limita a busca; branch and bound com orçamento de nós e, se ele
+ * estourar, DP em arrays primitivos sobre o eixo menor (valor ou perda).
+ * =========================================================== */
+
+package model;
+
+final class LiquidationPlanner {
+
+    /* Retorno de plan() quando nem vendendo tudo se cobre o valor. */
+    static final long NOT_ENOUGH = 0L;
+
+    private static final int INF = Integer.MAX_VALUE;
+    // Abaixo disto (células x itens) a DP custa menos que o branch and bound
+    private static final int SMALL_TABLE = 1024;
+
+    // Itens candidatos (reaproveitados entre chamadas; uma instância por partida)
+    private final int[] value = new int[Board.MAX_SQUARES];
+    private final int[] loss = new int[Board.MAX_SQUARES];
+    private final int[] square = new int[Board.MAX_SQUARES];
+    private final int[] order = new int[Board.MAX_SQUARES]; // itens por perda/unidade crescente
+    private final int[] suffix = new int[Board.MAX_SQUARES + 1]; // valor dos itens order[k..]
+
+    // Branch and bound: melhor plano achado e nós restantes no orçamento
+    private long bestMask;
+    private int bestLoss;
+    private int nodesLeft;
+
+    // DP por valor: best[t] = menor perda para obter >= t unidades de valor
+    // DP por perda: best[c] = maior valor com perda <= c unidades
+    // chosen[x] = casas vendidas para isso
+    private int[] best = new int[0];
+    private long[] chosen = new long[0];
+
+    /**
+     * Planeja a venda para cobrir 'missing'.
+     * @return máscara das casas a vender (bit i = casa i), ou NOT_ENOUGH
+     */
+    long plan(final Player player, final int missing) {
+        if (missing <= 0) throw new IllegalArgumentException("missing deve ser > 0");
+
+        int n = 0;
+        for (long m = player.propertiesMask(); m != 0; m &= m - 1) {
+            final int idx = Long.numberOfTrailingZeros(m);
+            final OwnableSquare prop = player.propertyAt(idx);
+            n = addItem(n, idx, prop.getSellValue(), prop.getTotalInvestment());
+        }
+        return solve(n, missing);
+    }
+
+    /**
+     * Mesmo planejamento sobre estado em arrays (simulação em lote):
+     * sellValue[i] e investment[i] são os valores da casa i, para cada bit de ownedMask.
+     */
+    long plan(final long ownedMask, final int[] sellValue, final int[] investment, final int missing) {
+        if (missing <= 0) throw new IllegalArgumentException("missing deve ser > 0");
+
+        int n = 0;
+        for (long m = ownedMask; m != 0; m &= m - 1) {
+            final int idx = Long.numberOfTrailingZeros(m);
+            n = addItem(n, idx, sellValue[idx], investment[idx]);
+        }
+        return solve(n, missing);
+    }
+
+    private int addItem(final int n, final int idx, final int v, final int investment) {
+        if (v <= 0) return n; // vender não ajudaria
+        value[n] = v;
+        loss[n] = investment - v;
+        square[n] = idx;
+        return n + 1;
+    }
+
+    private long solve(final int n, final int missing) {
+        long total = 0;
+        int g = 0;
+        boolean positiveLoss = true;
+        for (int i = 0; i < n; i++) {
+            total += value[i];
+            if (g != 1) g = gcd(g, value[i]);
+            positiveLoss &= loss[i] > 0;
+        }
+        if (total < missing) return NOT_ENOUGH;
+        final int valueCells = (missing + g - 1) / g;
+        // Perda <= 0: o guloso não limita nada; poucas células: a DP custa menos que ordenar
+        if (!positiveLoss || valueCells <= n) return solveByValue(n, missing, g);
+
+        // Guloso: vende na ordem de menor perda por unidade até cobrir
+        sortByLossPerUnit(n);
+        long greedyMask = 0L;
+        int greedyLoss = 0;
+        int sold = 0;
+        int last = -1;
+        for (int k = 0; sold < missing; k++) {
+            last = order[k];
+            sold += value[last];
+            greedyLoss += loss[last];
+            greedyMask |= 1L << square[last];
+        }
+        // Relaxação fracionária (só parte do último item): limite inferior da perda ótima
+        final long lastPart = (long) (missing - (sold - value[last])) * loss[last];
+        final int lowerBound = greedyLoss - loss[last] + (int) ((lastPart + value[last] - 1) / value[last]);
+        if (greedyLoss <= lowerBound) return greedyMask;
+
+        // Uma única casa que cubra sozinha pode ser um limite melhor que o guloso
+        long upperMask = greedyMask;
+        int upperLoss = greedyLoss;
+        for (int i = 0; i < n; i++) {
+            if (value[i] >= missing && loss[i] < upperLoss) {
+                upperLoss = loss[i];
+                upperMask = 1L << square[i];
+            }
+        }
+        if (upperLoss <= lowerBound) return upperMask;
+
+        // Tabela menor vence: perda até o limite, ou valor até o faltante
+        int lossGcd = 0;
+        for (int i = 0; i < n && lossGcd != 1; i++) lossGcd = gcd(lossGcd, loss[i]);
+        final int lossCells = upperLoss / lossGcd;
+        final int tableCost = Math.min(lossCells, valueCells) * n;
+
+        // Preços reais raramente passam de algumas centenas de nós; se passar de metade
+        // do custo da DP (perdas quase proporcionais ao valor), a DP resolve
+        if (tableCost > SMALL_TABLE && branchAndBound(n, missing, upperLoss, upperMask, tableCost / 2)) return bestMask;
+        if (lossCells < valueCells) return solveByLoss(n, missing, lossGcd, lossCells, upperMask);
+        return solveByValue(n, missing, g);
+    }
+
+    /**
+     * Busca exata na ordem do guloso, podada pelo melhor plano conhecido.
+     * @return true se terminou (bestMask é ótimo), false se o orçamento de nós acabou
+     */
+    private boolean branchAndBound(final int n, final int missing, final int upperLoss, final long upperMask,
+                                   final int budget) {
+        suffix[n] = 0;
+        for (int k = n - 1; k >= 0; k--) suffix[k] = suffix[k + 1] + value[order[k]];
+        bestLoss = upperLoss;
+        bestMask = upperMask;
+        nodesLeft = budget;
+        return descend(0, 0, 0, 0L, n, missing);
+    }
+
+    // Decide o item order[k]: primeiro vendendo, depois não; perdas positivas
+    private boolean descend(final int k, final int sold, final int lost, final long mask, final int n,
+                            final int missing) {
+        if (--nodesLeft < 0) return false;
+        if (sold >= missing) {
+            if (lost < bestLoss) {
+                bestLoss = lost;
+                bestMask = mask;
+            }
+            return true;
+        }
+        if (sold + suffix[k] < missing) return true; // nem vendendo o resto cobre
+        final int i = order[k];
+        // Limite inferior: o que falta ao custo do melhor item restante, ceil(need * loss / value)
+        final long need = missing - sold;
+        if (need * loss[i] > (long) (bestLoss - lost - 1) * value[i]) return true;
+        return descend(k + 1, sold + value[i], lost + loss[i], mask | 1L << square[i], n, missing)
+                && descend(k + 1, sold, lost, mask, n, missing);
+    }
+
+    /** Menor perda para cobrir 'missing', em unidades de g (mdc dos valores). */
+    private long solveByValue(final int n, final int missing, final int g) {
+        // Trabalha em unidades do mdc dos valores: menos estados, mesmo resultado
+        final int target = (missing + g - 1) / g;
+        ensureCapacity(target + 1);
+        best[0] = 0;
+        chosen[0] = 0L;
+        for (int t = 1; t <= target; t++) {
+            best[t] = INF;
+            chosen[t] = 0L;
+        }
+
+        for (int i = 0; i < n; i++) {
+            final int units = value[i] / g;
+            final int cost = loss[i];
+            final long bit = 1L << square[i];
+            // Ordem decrescente: cada item é usado no máximo uma vez (t = 0 só melhora com perda negativa)
+            for (int t = target; t >= 0; t--) {
+                final int from = (t > units) ? t - units : 0;
+                final int prev = best[from];
+                if (prev != INF && prev + cost < best[t]) {
+                    best[t] = prev + cost;
+                    chosen[t] = chosen[from] | bit;
+                }
+            }
+        }
+        return chosen[target];
+    }
+
+    /**
+     * Mesma resposta pelo outro eixo: maior valor vendido para cada perda até 'cells'
+     * (unidades do mdc das perdas, todas positivas); a primeira perda que cobre é a ótima.
+     * 'cells' vem de uma solução conhecida (fallback), então alguma célula cobre.
+     */
+    private long solveByLoss(final int n, final int missing, final int g, final int cells, final long fallback) {
+        ensureCapacity(cells + 1);
+        for (int c = 0; c <= cells; c++) {
+            best[c] = 0;
+            chosen[c] = 0L;
+        }
+
+        for (int k = 0; k < n; k++) {
+            final int i = order[k];
+            final int units = loss[i] / g;
+            final int v = value[i];
+            final long bit = 1L << square[i];
+            // Ordem decrescente: cada item é usado no máximo uma vez
+            for (int c = cells; c >= units; c--) {
+                final int candidate = best[c - units] + v;
+                if (candidate > best[c]) {
+                    best[c] = candidate;
+                    chosen[c] = chosen[c - units] | bit;
+                }
+            }
+        }
+        for (int c = 0; c <= cells; c++) {
+            if (best[c] >= missing) return chosen[c];
+        }
+        return fallback;
+    }
+
+    /** Ordena os índices dos itens por perda/valor crescente (inserção: poucos itens). */
+    private void sortByLossPerUnit(final int n) {
+        for (int k = 0; k < n; k++) {
+            final int i = k;
+            int j = k - 1;
+            // loss[i]/value[i] < loss[o]/value[o], sem divisão (valores > 0)
+            while (j >= 0 && (long) loss[i] * value[order[j]] < (long) loss[order[j]] * value[i]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = i;
+        }
+    }
+
+    private void ensureCapacity(final int size) {
+        if (best.length < size) {
+            final int cap = Math.max(size, best.length * 2);
+            best = new int[cap];
+            chosen = new long[cap];
+        }
+    }
+
+    // mdc binário (a, b >= 0): sem divisões, que dominavam o custo com poucas células
+    private static int gcd(int a, int b) {
+        if (a == 0) return b;
+        if (b == 0) return a;
+        final int shift = Integer.numberOfTrailingZeros(a | b);
+        a >>>= Integer.numberOfTrailingZeros(a);
+        do {
+            b >>>= Integer.numberOfTrailingZeros(b);
+            if (a > b) {
+                final int t = a;
+                a = b;
+                b = t;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
+}
@@ -0,0 +1,90 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class LiquidationPlannerTest {
+
+    private static final int DEFAULT_TIMEOUT = 5000;
+    private static final int CASES = 3000;
+    private static final long NONE = Long.MAX_VALUE;
+
+    private final LiquidationPlanner planner = new LiquidationPlanner();
+
+    // Menor perda possível para cobrir 'missing' (força bruta), ou NONE se nada cobre
+    private static long bruteForceLoss(final int[] sell, final int[] investment, final int missing) {
+        final int n = sell.length;
+        long best = NONE;
+        for (int s = 1; s < (1 << n); s++) {
+            long value = 0, loss = 0;
+            for (int i = 0; i < n; i++) {
+                if ((s & (1 << i)) != 0 && sell[i] > 0) {
+                    value += sell[i];
+                    loss += investment[i] - sell[i];
+                }
+            }
+            if (value >= missing && loss < best) best = loss;
+        }
+        return best;
+    }
+
+    // Confere o plano: só casas possuídas, cobre o faltante e tem a perda ótima
+    private void assertOptimal(final int[] sell, final int[] investment, final int missing) {
+        final long owned = (1L << sell.length) - 1;
+        final long plan = planner.plan(owned, sell, investment, missing);
+        final long expected = bruteForceLoss(sell, investment, missing);
+        if (expected == NONE) {
+            assertEquals(LiquidationPlanner.NOT_ENOUGH, plan);
+            return;
+        }
+        assertEquals("plano fora das casas possuídas", 0L, plan & ~owned);
+        long value = 0, loss = 0;
+        for (long m = plan; m != 0; m &= m - 1) {
+            final int i = Long.numberOfTrailingZeros(m);
+            value += sell[i];
+            loss += investment[i] - sell[i];
+        }
+        assertTrue("plano não cobre " + missing, value >= missing);
+        assertEquals("perda do plano", expected, loss);
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void shouldMatchBruteForceWithBankBuybackPrices() {
+        final SplittableRandom rng = new SplittableRandom(39);
+        for (int c = 0; c < CASES; c++) {
+            final int n = 1 + rng.nextInt(12);
+            final int[] sell = new int[n];
+            final int[] investment = new int[n];
+            int total = 0;
+            for (int i = 0; i < n; i++) {
+                // Preços reais não têm mdc útil; casas multiplicam o investimento
+                final int price = 60 + rng.nextInt(341);
+                investment[i] = price + rng.nextInt(5) * (int) Math.round(price * 0.5);
+                sell[i] = EconomyService.buybackValue(investment[i]);
+                total += sell[i];
+            }
+            assertOptimal(sell, investment, 1 + rng.nextInt(total + 200));
+        }
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void shouldMatchBruteForceWithArbitraryLosses() {
+        final SplittableRandom rng = new SplittableRandom(40);
+        for (int c = 0; c < CASES; c++) {
+            final int n = 1 + rng.nextInt(12);
+            final int[] sell = new int[n];
+            final int[] investment = new int[n];
+            int total = 0;
+            for (int i = 0; i < n; i++) {
+                // Inclui casas sem valor de venda e perdas zero ou negativas
+                sell[i] = rng.nextInt(8) == 0 ? 0 : 1 + rng.nextInt(500);
+                investment[i] = sell[i] + rng.nextInt(-50, 200);
+                total += sell[i];
+            }
+            assertOptimal(sell, investment, 1 + rng.nextInt(total + 50));
+        }
+    }
+}
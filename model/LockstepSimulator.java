@@ -0,0 +1,675 @@
+/* ===========================================================
+ * LockstepSimulator ; avança milhares de partidas em passo único (lockstep).
+ * Estado em estrutura de arrays (partida x jogador, partida x casa); o caso
+ * comum do turno é calculado para várias partidas por vez com jdk.incubator.vector.
+ * Compilar e executar com: --add-modules jdk.incubator.vector
+ * =========================================================== */
+
+package model;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import model.api.dto.SquareType;
+
+/**
+ * Simulação em lote para varreduras de balanceamento de regras.
+ *
+ * Todas as partidas usam a política fixa do bot (a mesma do BotPlayer): rola,
+ * compra a casa se puder, senão constrói uma casa na própria rua, e encerra o turno.
+ * As regras são as do GameEngine/EconomyService.
+ *
+ * A cada passo, o jogador da vez de cada partida joga um turno. As partidas são
+ * processadas em blocos de {@code SPECIES.length()} lanes: dados, movimento
+ * ({@link Board#nextPosition}), bônus de partida, aluguel, casas de dinheiro,
+ * "vá para a prisão", compra e construção são vetorizados. Lanes com casos raros
+ * (sorte/revés, cartão de saída da prisão, falta de saldo, banco sem caixa) são
+ * marcadas antes de qualquer escrita e jogadas pelo caminho escalar, que implementa
+ * todas as regras e serve de referência.
+ *
+ * Os dados vêm de um hash de contador (chave da partida, número do lance), calculado
+ * nas lanes; a mesma seed reproduz todas as partidas, em qualquer caminho.
+ */
+final class LockstepSimulator {
+
+    static final int RUNNING = 0;
+    static final int FINISHED = 1; // restou um jogador (ou nenhum)
+    static final int HALTED = 2;   // banco sem caixa: a partida é encerrada, como nas mesas
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int NO_OWNER = -1;
+    // Nível de construção: casas * 2 + hotel (mesma ordem da StreetRentTable)
+    private static final int LEVELS = (StreetRentTable.MAX_HOUSES + 1) * 2;
+    private static final int MAX_HOUSE_LEVEL = StreetRentTable.MAX_HOUSES * 2;
+
+    private static final int STREET = SquareType.STREET.code();
+    private static final int COMPANY = SquareType.COMPANY.code();
+    private static final int MONEY = SquareType.MONEY.code();
+    private static final int GO_TO_JAIL = SquareType.GO_TO_JAIL.code();
+    private static final int CHANCE = SquareType.CHANCE.code();
+
+    // ==== Tabuleiro (somente leitura, por casa) ====
+    private final int squares;
+    private final int jailIndex;
+    private final int[] typeCode;
+    private final int[] price;
+    private final int[] houseCost;
+    private final int[] multiplier;
+    private final int[] amount;
+    private final int[] rent;        // [casa * LEVELS + nível]
+    private final int[] investment;  // [casa * LEVELS + nível]
+    private final int[] sellValue;   // [casa * LEVELS + nível]
+
+    // ==== Estado das partidas ====
+    private final int games;
+    private final int players;
+    private final int[] position;    // [partida * players + jogador]
+    private final int[] money;
+    private final int[] inJail;      // 0/1
+    private final int[] jailCards;
+    private final int[] alive;       // 0/1
+    private final long[] owned;      // bit i = casa i
+    private final int[] owner;       // [partida * squares + casa], NO_OWNER = sem dono
+    private final int[] level;
+    private final int[] current;     // [partida]
+    private final int[] rolls;
+    private final int[] aliveCount;
+    private final int[] bankCash;
+    private final int[] status;
+    private final int[] keys;
+    private final Deck[] decks;
+
+    private final LiquidationPlanner planner = new LiquidationPlanner();
+    private final int[] planSell;
+    private final int[] planInvestment;
+
+    // Rascunho por lane do bloco em andamento (índices, valores e máscaras entre as fases)
+    private final int[] playerIdx = new int[SPECIES.length()];
+    private final int[] squareIdx = new int[SPECIES.length()];
+    private final int[] ownerIdx = new int[SPECIES.length()];
+    private final int[] tableIdx = new int[SPECIES.length()];
+    private final int[] landing = new int[SPECIES.length()];
+    private final int[] sumLane = new int[SPECIES.length()];
+    private final int[] cashLane = new int[SPECIES.length()];
+    private final int[] bankLane = new int[SPECIES.length()];
+    private final int[] dueLane = new int[SPECIES.length()];
+    private final int[] amountLane = new int[SPECIES.length()];
+    private final int[] ownerLane = new int[SPECIES.length()];
+    private final int[] levelLane = new int[SPECIES.length()];
+    private long activeBits;
+    private long stuckBits;
+    private long movingBits;
+    private long specialBits;
+    private long streetBits;
+    private long companyBits;
+    private long rentBits;
+    private long goToJailBits;
+    private long buyBits;
+
+    private boolean vectorized = true;
+    private long turnsPlayed;
+
+    /**
+     * @param board tabuleiro (só lido: tipos, preços e tabelas de aluguel)
+     * @param deck baralho-modelo; cada partida recebe uma cópia embaralhada
+     * @param seed seed mestre: dividida em uma chave de dados e um embaralhamento por partida
+     */
+    LockstepSimulator(final Board board, final Deck deck, final int games, final int players,
+                      final int initialMoney, final int initialBankCash, final long seed) {
+        if (games <= 0) throw new IllegalArgumentException("games deve ser > 0");
+        if (players < 2 || players > 6) throw new IllegalArgumentException("players deve estar entre 2 e 6");
+
+        this.squares = board.size();
+        this.jailIndex = board.jailIndex();
+        this.typeCode = new int[squares];
+        this.price = new int[squares];
+        this.houseCost = new int[squares];
+        this.multiplier = new int[squares];
+        this.amount = new int[squares];
+        this.rent = new int[squares * LEVELS];
+        this.investment = new int[squares * LEVELS];
+        this.sellValue = new int[squares * LEVELS];
+        for (int s = 0; s < squares; s++) {
+            final Square sq = board.squareAt(s);
+            typeCode[s] = sq.kind().code();
+            if (sq instanceof StreetOwnableSquare) {
+                final StreetRentTable table = StreetRentTable.forPrice(((StreetOwnableSquare) sq).getPrice());
+                price[s] = ((StreetOwnableSquare) sq).getPrice();
+                houseCost[s] = table.houseCost();
+                for (int lv = 0; lv < LEVELS; lv++) {
+                    rent[s * LEVELS + lv] = table.rent(lv >> 1, (lv & 1) == 1);
+                    investment[s * LEVELS + lv] = table.investment(lv >> 1, (lv & 1) == 1);
+                    sellValue[s * LEVELS + lv] = table.sellValue(lv >> 1, (lv & 1) == 1);
+                }
+            } else if (sq instanceof CompanyOwnableSquare) {
+                final CompanyOwnableSquare company = (CompanyOwnableSquare) sq;
+                price[s] = company.getPrice();
+                multiplier[s] = company.getMultiplier();
+                investment[s * LEVELS] = company.getTotalInvestment();
+                sellValue[s * LEVELS] = company.getSellValue();
+            } else if (sq instanceof MoneySquare) {
+                amount[s] = ((MoneySquare) sq).amount();
+            }
+        }
+
+        this.games = games;
+        this.players = players;
+        this.position = new int[games * players];
+        this.money = new int[games * players];
+        this.inJail = new int[games * players];
+        this.jailCards = new int[games * players];
+        this.alive = new int[games * players];
+        this.owned = new long[games * players];
+        this.owner = new int[games * squares];
+        this.level = new int[games * squares];
+        this.current = new int[games];
+        this.rolls = new int[games];
+        this.aliveCount = new int[games];
+        this.bankCash = new int[games];
+        this.status = new int[games];
+        this.keys = new int[games];
+        this.decks = new Deck[games];
+        this.planSell = new int[squares];
+        this.planInvestment = new int[squares];
+
+        Arrays.fill(money, initialMoney);
+        Arrays.fill(alive, 1);
+        Arrays.fill(owner, NO_OWNER);
+        Arrays.fill(aliveCount, players);
+        Arrays.fill(bankCash, initialBankCash);
+        final SplittableRandom master = new SplittableRandom(seed);
+        for (int g = 0; g < games; g++) {
+            final SplittableRandom gameRng = master.split();
+            keys[g] = gameRng.nextInt();
+            decks[g] = deck.copy();
+            decks[g].shuffle(gameRng);
+        }
+    }
+
+    /** Liga/desliga o caminho vetorial (desligado: todas as partidas pelo caminho escalar). */
+    void setVectorized(final boolean vectorized) {
+        this.vectorized = vectorized;
+    }
+
+    /** Joga {@code steps} turnos em cada partida ainda em andamento. */
+    void run(final int steps) {
+        for (int i = 0; i < steps; i++) step();
+    }
+
+    /** Um turno em cada partida em andamento (o jogador da vez de cada uma). */
+    void step() {
+        final int lanes = SPECIES.length();
+        for (int g0 = 0; g0 < games; g0 += lanes) {
+            final int limit = Math.min(games, g0 + lanes);
+            if (vectorized && limit - g0 == lanes) {
+                stepBlock(g0);
+            } else {
+                // Bloco final incompleto (ou modo escalar)
+                for (int g = g0; g < limit; g++) {
+                    if (status[g] == RUNNING) playTurnScalar(g);
+                }
+            }
+            for (int g = g0; g < limit; g++) {
+                if (status[g] == RUNNING) endTurn(g);
+            }
+        }
+    }
+
+    // ===== Caminho vetorial =====
+
+    /*
+     * Um bloco completo de partidas [g0, g0 + lanes), em três fases curtas (métodos
+     * pequenos compilam bem no C1 e no C2); os valores por lane passam por arrays de
+     * rascunho e as máscaras por bits (VectorMask.toLong).
+     * Gathers e scatters não usam máscara (com máscara, o C2 do JDK 21 é bem mais lento
+     * e instável nesse padrão): toda lane lê índices válidos e as lanes que não mudam
+     * escrevem de volta o valor lido.
+     */
+    private void stepBlock(final int g0) {
+        if (!rollAndMove(g0)) return;
+        resolveLanding(g0);
+        applyCommonLanes(g0);
+
+        // Bitsets de posse das compras
+        for (long m = buyBits; m != 0; m &= m - 1) {
+            final int lane = Long.numberOfTrailingZeros(m);
+            owned[playerIdx[lane]] |= 1L << landing[lane];
+        }
+        // Casos raros: o turno inteiro pelo caminho escalar (nada mudou para essas lanes)
+        for (long m = specialBits; m != 0; m &= m - 1) {
+            playTurnScalar(g0 + Long.numberOfTrailingZeros(m));
+        }
+    }
+
+    /* Fase 1: dados, regras de prisão, movimento e bônus de partida. */
+    private boolean rollAndMove(final int g0) {
+        final VectorMask<Integer> active = IntVector.fromArray(SPECIES, status, g0)
+                .compare(VectorOperators.EQ, RUNNING);
+        if (!active.anyTrue()) return false;
+
+        final IntVector cur = IntVector.fromArray(SPECIES, current, g0);
+        IntVector.zero(SPECIES).addIndex(players).add(g0 * players).add(cur).intoArray(playerIdx, 0);
+        final IntVector pos = IntVector.fromArray(SPECIES, position, 0, playerIdx, 0);
+        final IntVector jail = IntVector.fromArray(SPECIES, inJail, 0, playerIdx, 0);
+        final IntVector cards = IntVector.fromArray(SPECIES, jailCards, 0, playerIdx, 0);
+        final IntVector bank = IntVector.fromArray(SPECIES, bankCash, g0);
+
+        // Dados: código do par 0..35 -> d1 - 1 = código / 6 (por multiplicação), d2 - 1 = resto
+        final IntVector code = diceCode(IntVector.fromArray(SPECIES, keys, g0), IntVector.fromArray(SPECIES, rolls, g0));
+        final IntVector q = code.mul(43).lanewise(VectorOperators.LSHR, 8);
+        final IntVector r = code.sub(q.mul(6));
+        final IntVector sum = q.add(r).add(2);
+
+        // Prisão: dupla sai; cartão é caso raro; senão fica preso sem mover
+        final VectorMask<Integer> stuck = jail.compare(VectorOperators.NE, 0).and(active)
+                .andNot(q.compare(VectorOperators.EQ, r));
+        final VectorMask<Integer> moving = active.andNot(stuck);
+
+        // Movimento com volta ao início
+        IntVector to = pos.add(sum);
+        final VectorMask<Integer> pass = to.compare(VectorOperators.GE, squares).and(moving);
+        to = to.sub(squares, pass);
+        pos.blend(to, moving).intoArray(landing, 0);
+        sum.intoArray(sumLane, 0);
+        IntVector.fromArray(SPECIES, money, 0, playerIdx, 0)
+                .add(EconomyService.PASS_START_AMOUNT, pass).intoArray(cashLane, 0);
+        bank.sub(EconomyService.PASS_START_AMOUNT, pass).intoArray(bankLane, 0);
+
+        activeBits = active.toLong();
+        stuckBits = stuck.toLong();
+        movingBits = moving.toLong();
+        specialBits = stuck.and(cards.compare(VectorOperators.GT, 0))
+                .or(pass.and(bank.compare(VectorOperators.LT, EconomyService.PASS_START_AMOUNT))).toLong();
+        return true;
+    }
+
+    /* Fase 2: efeito da casa (aluguel, dinheiro, prisão) e lanes que exigem o caminho escalar. */
+    private void resolveLanding(final int g0) {
+        final VectorMask<Integer> moving = VectorMask.fromLong(SPECIES, movingBits);
+        final IntVector newPos = IntVector.fromArray(SPECIES, landing, 0);
+        final IntVector cur = IntVector.fromArray(SPECIES, current, g0);
+        final IntVector cash = IntVector.fromArray(SPECIES, cashLane, 0);
+        final IntVector bank = IntVector.fromArray(SPECIES, bankLane, 0);
+
+        final IntVector type = IntVector.fromArray(SPECIES, typeCode, 0, landing, 0);
+        final VectorMask<Integer> street = type.compare(VectorOperators.EQ, STREET).and(moving);
+        final VectorMask<Integer> company = type.compare(VectorOperators.EQ, COMPANY).and(moving);
+        IntVector.zero(SPECIES).addIndex(squares).add(g0 * squares).add(newPos).intoArray(squareIdx, 0);
+        final IntVector own = IntVector.fromArray(SPECIES, owner, 0, squareIdx, 0);
+        final IntVector lvl = IntVector.fromArray(SPECIES, level, 0, squareIdx, 0);
+
+        // Aluguel: rua pela tabela do nível; companhia = multiplicador x soma dos dados
+        final VectorMask<Integer> rentDue = street.or(company).and(own.compare(VectorOperators.GE, 0))
+                .and(own.compare(VectorOperators.NE, cur));
+        newPos.mul(LEVELS).add(lvl).intoArray(tableIdx, 0);
+        final IntVector streetRent = IntVector.fromArray(SPECIES, rent, 0, tableIdx, 0);
+        final IntVector companyRent = IntVector.fromArray(SPECIES, multiplier, 0, landing, 0)
+                .mul(IntVector.fromArray(SPECIES, sumLane, 0));
+        final IntVector due = IntVector.zero(SPECIES).blend(streetRent.blend(companyRent, company), rentDue);
+
+        // Casas de dinheiro: ganho pago pelo banco, perda paga ao banco
+        final VectorMask<Integer> moneySq = type.compare(VectorOperators.EQ, MONEY).and(moving);
+        final IntVector amt = IntVector.zero(SPECIES).blend(IntVector.fromArray(SPECIES, amount, 0, landing, 0), moneySq);
+
+        final VectorMask<Integer> special = rentDue.and(cash.compare(VectorOperators.LT, due))
+                .or(amt.compare(VectorOperators.GT, 0).and(bank.compare(VectorOperators.LT, amt)))
+                .or(cash.add(amt).compare(VectorOperators.LT, 0))
+                .or(type.compare(VectorOperators.EQ, CHANCE).and(moving));
+
+        due.intoArray(dueLane, 0);
+        amt.intoArray(amountLane, 0);
+        own.intoArray(ownerLane, 0);
+        lvl.intoArray(levelLane, 0);
+        streetBits = street.toLong();
+        companyBits = company.toLong();
+        rentBits = rentDue.toLong();
+        goToJailBits = type.compare(VectorOperators.EQ, GO_TO_JAIL).and(moving).toLong();
+        specialBits |= special.toLong();
+    }
+
+    /* Fase 3: grava as lanes comuns (pagamentos, posição, prisão) e a decisão do bot. */
+    private void applyCommonLanes(final int g0) {
+        final VectorMask<Integer> ok = VectorMask.fromLong(SPECIES, activeBits & ~specialBits);
+        final VectorMask<Integer> street = VectorMask.fromLong(SPECIES, streetBits);
+        final VectorMask<Integer> ownable = street.or(VectorMask.fromLong(SPECIES, companyBits));
+        final VectorMask<Integer> goToJail = VectorMask.fromLong(SPECIES, goToJailBits);
+        final IntVector cur = IntVector.fromArray(SPECIES, current, g0);
+        final IntVector own = IntVector.fromArray(SPECIES, ownerLane, 0);
+        final IntVector lvl = IntVector.fromArray(SPECIES, levelLane, 0);
+        final IntVector due = IntVector.fromArray(SPECIES, dueLane, 0);
+        final IntVector amt = IntVector.fromArray(SPECIES, amountLane, 0);
+        final IntVector cash2 = IntVector.fromArray(SPECIES, cashLane, 0).sub(due).add(amt);
+        final IntVector bank2 = IntVector.fromArray(SPECIES, bankLane, 0).sub(amt);
+
+        final VectorMask<Integer> paid = VectorMask.fromLong(SPECIES, rentBits).and(ok);
+        if (paid.anyTrue()) {
+            // Sem aluguel, a lane relê e regrava o próprio saldo (sobrescrito abaixo)
+            IntVector.zero(SPECIES).addIndex(players).add(g0 * players).add(own.blend(cur, paid.not()))
+                    .intoArray(ownerIdx, 0);
+            IntVector.fromArray(SPECIES, money, 0, ownerIdx, 0).add(due, paid).intoArray(money, 0, ownerIdx, 0);
+        }
+
+        // Bot: compra se puder; senão constrói uma casa na própria rua
+        final IntVector cost = IntVector.fromArray(SPECIES, price, 0, landing, 0);
+        final VectorMask<Integer> buy = ownable.and(ok).and(own.compare(VectorOperators.LT, 0))
+                .and(cash2.compare(VectorOperators.GE, cost));
+        final IntVector build = IntVector.fromArray(SPECIES, houseCost, 0, landing, 0);
+        final VectorMask<Integer> builds = street.and(ok).and(own.compare(VectorOperators.EQ, cur))
+                .and(lvl.compare(VectorOperators.LT, MAX_HOUSE_LEVEL))
+                .and(cash2.compare(VectorOperators.GE, build));
+        final IntVector spent = IntVector.zero(SPECIES).blend(cost, buy).blend(build, builds);
+
+        own.blend(cur, buy).intoArray(owner, 0, squareIdx, 0);
+        lvl.add(2, builds).intoArray(level, 0, squareIdx, 0);
+
+        final IntVector pos = IntVector.fromArray(SPECIES, position, 0, playerIdx, 0);
+        final IntVector finalPos = IntVector.fromArray(SPECIES, landing, 0).blend(jailIndex, goToJail);
+        pos.blend(finalPos, ok).intoArray(position, 0, playerIdx, 0);
+        IntVector.fromArray(SPECIES, money, 0, playerIdx, 0).blend(cash2.sub(spent), ok)
+                .intoArray(money, 0, playerIdx, 0);
+        final IntVector jail2 = IntVector.zero(SPECIES)
+                .blend(1, VectorMask.fromLong(SPECIES, stuckBits).or(goToJail));
+        IntVector.fromArray(SPECIES, inJail, 0, playerIdx, 0).blend(jail2, ok).intoArray(inJail, 0, playerIdx, 0);
+        IntVector.fromArray(SPECIES, bankCash, g0).blend(bank2.add(spent), ok).intoArray(bankCash, g0);
+        IntVector.fromArray(SPECIES, rolls, g0).add(1, ok).intoArray(rolls, g0);
+        turnsPlayed += ok.trueCount();
+        buyBits = buy.toLong();
+    }
+
+    private static IntVector diceCode(final IntVector key, final IntVector counter) {
+        IntVector x = key.add(counter.mul(0x9E3779B9));
+        x = x.lanewise(VectorOperators.XOR, x.lanewise(VectorOperators.LSHR, 16)).mul(0x7FEB352D);
+        x = x.lanewise(VectorOperators.XOR, x.lanewise(VectorOperators.LSHR, 15)).mul(0x846CA68B);
+        x = x.lanewise(VectorOperators.XOR, x.lanewise(VectorOperators.LSHR, 16));
+        return x.lanewise(VectorOperators.LSHR, 8).mul(36).lanewise(VectorOperators.LSHR, 24);
+    }
+
+    /**
+     * Código do par de dados (0..35) para o lance 'counter' da partida de chave 'key'.
+     * Mesma conta das lanes; viés de no máximo 36/2^24 por face.
+     */
+    static int diceCode(final int key, final int counter) {
+        int x = key + counter * 0x9E3779B9;
+        x = (x ^ (x >>> 16)) * 0x7FEB352D;
+        x = (x ^ (x >>> 15)) * 0x846CA68B;
+        x ^= x >>> 16;
+        return ((x >>> 8) * 36) >>> 24;
+    }
+
+    // ===== Caminho escalar (referência: GameEngine + EconomyService) =====
+
+    private void playTurnScalar(final int g) {
+        final int cur = current[g];
+        final int p = g * players + cur;
+        final int code = diceCode(keys[g], rolls[g]++);
+        final int d1 = code / 6 + 1;
+        final int d2 = code % 6 + 1;
+        final int sum = d1 + d2;
+        turnsPlayed++;
+
+        // Regras de prisão (dupla ou cartão)
+        if (inJail[p] != 0) {
+            if (d1 == d2) {
+                inJail[p] = 0;
+            } else if (jailCards[p] > 0) {
+                jailCards[p]--;
+                inJail[p] = 0;
+                decks[g].returnGetOutOfJailCardToBottom();
+            }
+        }
+
+        if (inJail[p] == 0) {
+            final int from = position[p];
+            if (from + sum >= squares && !bankPays(g, p, EconomyService.PASS_START_AMOUNT)) return;
+            position[p] = (from + sum) % squares;
+            land(g, cur, sum);
+            if (status[g] != RUNNING) return;
+        }
+
+        if (alive[p] != 0 && !buy(g, cur)) build(g, cur);
+    }
+
+    private void land(final int g, final int cur, final int sum) {
+        final int p = g * players + cur;
+        final int s = position[p];
+        final int type = typeCode[s];
+        if (type == STREET || type == COMPANY) {
+            final int own = owner[g * squares + s];
+            if (own != NO_OWNER && own != cur) {
+                final int due = (type == STREET) ? rent[s * LEVELS + level[g * squares + s]] : multiplier[s] * sum;
+                chargeRent(g, cur, own, due);
+            }
+        } else if (type == MONEY) {
+            if (amount[s] > 0) bankPays(g, p, amount[s]);
+            else payBank(g, cur, -amount[s]);
+        } else if (type == GO_TO_JAIL) {
+            sendToJail(p);
+        } else if (type == CHANCE) {
+            applyCard(g, cur, decks[g].draw());
+        }
+    }
+
+    private void applyCard(final int g, final int cur, final Card card) {
+        final int p = g * players + cur;
+        switch (card.type()) {
+            case PAY_BANK -> payBank(g, cur, card.value());
+            case RECEIVE_BANK -> bankPays(g, p, card.value());
+            case PAY_ALL -> settleWithAll(g, cur, card.value(), true);
+            case RECEIVE_ALL -> settleWithAll(g, cur, card.value(), false);
+            case GO_TO_JAIL -> sendToJail(p);
+            case GET_OUT_OF_JAIL -> jailCards[p]++;
+            default -> { }
+        }
+    }
+
+    private void sendToJail(final int p) {
+        inJail[p] = 1;
+        position[p] = jailIndex;
+    }
+
+    private void chargeRent(final int g, final int visitor, final int own, final int due) {
+        if (due <= 0) return;
+        if (!ensureCash(g, visitor, due)) return;
+        money[g * players + visitor] -= due;
+        money[g * players + own] += due;
+    }
+
+    private void payBank(final int g, final int pl, final int value) {
+        if (value <= 0) return;
+        if (!ensureCash(g, pl, value)) return;
+        money[g * players + pl] -= value;
+        bankCash[g] += value;
+    }
+
+    /** Banco paga ao jogador; sem caixa, a partida é encerrada (HALTED). */
+    private boolean bankPays(final int g, final int p, final int value) {
+        if (value <= 0) return true;
+        if (bankCash[g] < value) {
+            status[g] = HALTED;
+            return false;
+        }
+        bankCash[g] -= value;
+        money[p] += value;
+        return true;
+    }
+
+    private void settleWithAll(final int g, final int hub, final int each, final boolean hubPays) {
+        final int base = g * players;
+        if (each <= 0 || alive[base + hub] == 0) return;
+        if (hubPays) {
+            final int others = aliveCount[g] - 1;
+            if (others <= 0) return;
+            if (!ensureCash(g, hub, Math.multiplyExact(each, others))) return;
+        } else {
+            for (int i = 0; i < players; i++) {
+                if (i != hub && alive[base + i] != 0) {
+                    ensureCash(g, i, each); // falidos saem do conjunto de ativos
+                    if (status[g] != RUNNING) return;
+                }
+            }
+        }
+        for (int i = 0; i < players; i++) {
+            if (i == hub || alive[base + i] == 0) continue;
+            money[base + (hubPays ? hub : i)] -= each;
+            money[base + (hubPays ? i : hub)] += each;
+        }
+    }
+
+    /** Mesmo fluxo de EconomyService.liquidateOrBankruptIfNeeded. */
+    private boolean ensureCash(final int g, final int pl, final int required) {
+        final int p = g * players + pl;
+        if (money[p] >= required) return true;
+
+        final int missing = required - money[p];
+        final int base = g * squares;
+        for (long m = owned[p]; m != 0; m &= m - 1) {
+            final int s = Long.numberOfTrailingZeros(m);
+            planSell[s] = sellValue[s * LEVELS + level[base + s]];
+            planInvestment[s] = investment[s * LEVELS + level[base + s]];
+        }
+        final long plan = planner.plan(owned[p], planSell, planInvestment, missing);
+        final long toSell = (plan != LiquidationPlanner.NOT_ENOUGH) ? plan : owned[p];
+        for (long m = toSell; m != 0; m &= m - 1) {
+            if (!sellToBank(g, p, Long.numberOfTrailingZeros(m))) return false;
+        }
+        if (plan != LiquidationPlanner.NOT_ENOUGH) return true;
+
+        // Falência
+        owned[p] = 0L;
+        alive[p] = 0;
+        money[p] = 0;
+        aliveCount[g]--;
+        return false;
+    }
+
+    private boolean sellToBank(final int g, final int p, final int s) {
+        final int sq = g * squares + s;
+        if (!bankPays(g, p, sellValue[s * LEVELS + level[sq]])) return false;
+        owned[p] &= ~(1L << s);
+        owner[sq] = NO_OWNER;
+        level[sq] = 0;
+        return true;
+    }
+
+    private boolean buy(final int g, final int cur) {
+        final int p = g * players + cur;
+        final int s = position[p];
+        if (typeCode[s] != STREET && typeCode[s] != COMPANY) return false;
+        if (owner[g * squares + s] != NO_OWNER || money[p] < price[s]) return false;
+        money[p] -= price[s];
+        bankCash[g] += price[s];
+        owner[g * squares + s] = cur;
+        owned[p] |= 1L << s;
+        return true;
+    }
+
+    private void build(final int g, final int cur) {
+        final int p = g * players + cur;
+        final int s = position[p];
+        final int sq = g * squares + s;
+        if (typeCode[s] != STREET || owner[sq] != cur) return;
+        if (level[sq] >= MAX_HOUSE_LEVEL || money[p] < houseCost[s]) return;
+        money[p] -= houseCost[s];
+        bankCash[g] += houseCost[s];
+        level[sq] += 2;
+    }
+
+    /** Partida encerrada com um jogador; senão, próximo jogador ativo. */
+    private void endTurn(final int g) {
+        if (aliveCount[g] <= 1) {
+            status[g] = FINISHED;
+            return;
+        }
+        final int base = g * players;
+        int next = current[g];
+        do {
+            next = (next + 1) % players;
+        } while (alive[base + next] == 0);
+        current[g] = next;
+    }
+
+    // ===== Consultas =====
+
+    int games() { return games; }
+    int players() { return players; }
+    long turnsPlayed() { return turnsPlayed; }
+    int status(final int game) { return status[game]; }
+    int key(final int game) { return keys[game]; }
+    int rolls(final int game) { return rolls[game]; }
+    int currentPlayer(final int game) { return current[game]; }
+    int bankCash(final int game) { return bankCash[game]; }
+    int money(final int game, final int player) { return money[game * players + player]; }
+    int position(final int game, final int player) { return position[game * players + player]; }
+    boolean isAlive(final int game, final int player) { return alive[game * players + player] != 0; }
+    boolean isInJail(final int game, final int player) { return inJail[game * players + player] != 0; }
+    long ownedMask(final int game, final int player) { return owned[game * players + player]; }
+    int ownerAt(final int game, final int square) { return owner[game * squares + square]; }
+    int housesAt(final int game, final int square) { return level[game * squares + square] >> 1; }
+    List<Card> deckOrder(final int game) { return decks[game].getCardsInOrder(); }
+
+    /** Resumo do estado de todas as partidas (compara execuções vetorial x escalar). */
+    long checksum() {
+        long h = 1125899906842597L;
+        for (int v : money) h = 31 * h + v;
+        for (int v : position) h = 31 * h + v;
+        for (int v : owner) h = 31 * h + v;
+        for (int v : level) h = 31 * h + v;
+        for (int v : bankCash) h = 31 * h + v;
+        return h;
+    }
+
+    /**
+     * Mede a vazão em turnos de partida por segundo (executar a partir da raiz com assets/).
+     * Uso: java --add-modules jdk.incubator.vector model.LockstepSimulator [partidas] [jogadores] [turnos] [seed]
+     */
+    public static void main(String[] args) {
+        final int games = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000;
+        final int players = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        final int steps = (args.length > 2) ? Integer.parseInt(args[2]) : 500;
+        final long seed = (args.length > 3) ? Long.parseLong(args[3]) : 42L;
+
+        final Board board = BoardFactory.fromCSV(Paths.get("assets/dados/board.csv"));
+        final Deck deck = DeckFactory.fromCSV(Paths.get("assets/dados/deck.csv"), new SplittableRandom(seed));
+        final int initialMoney = 4000;     // mesmos valores das partidas normais
+        final int initialBankCash = 200_000;
+
+        System.out.printf(Locale.ROOT, "%d games x %d players, %d steps, %d lanes (%s)%n",
+                games, players, steps, SPECIES.length(), SPECIES);
+        long vectorSum = 0L;
+        for (boolean vector : new boolean[] { false, true }) {
+            // Aquecimento com outra seed, depois medição
+            final LockstepSimulator warm = new LockstepSimulator(board, deck, games, players,
+                    initialMoney, initialBankCash, seed + 1);
+            warm.setVectorized(vector);
+            warm.run(steps);
+
+            final LockstepSimulator sim = new LockstepSimulator(board, deck, games, players,
+                    initialMoney, initialBankCash, seed);
+            sim.setVectorized(vector);
+            final long t0 = System.nanoTime();
+            sim.run(steps);
+            final long elapsed = System.nanoTime() - t0;
+
+            int finished = 0;
+            int halted = 0;
+            for (int g = 0; g < games; g++) {
+                if (sim.status(g) == FINISHED) finished++;
+                else if (sim.status(g) == HALTED) halted++;
+            }
+            System.out.printf(Locale.ROOT, "%-7s %,14.0f game-turns/s  (%,d turns in %.3f s; finished %d, halted %d)%n",
+                    vector ? "vector" : "scalar", sim.turnsPlayed() / (elapsed / 1e9), sim.turnsPlayed(),
+                    elapsed / 1e9, finished, halted);
+            if (vector && sim.checksum() != vectorSum) {
+                System.out.println("MISMATCH: vector and scalar runs ended in different states");
+                System.exit(1);
+            }
+            vectorSum = sim.checksum();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import static org.junit.Assert.*;
+import static model.TestFixtures.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.api.dto.SquareType;
+import org.junit.Test;
+
+public class LockstepSimulatorTest {
+
+    private static final int DEFAULT_TIMEOUT = 20000;
+    private static final int STEPS = 300;
+    private static final int INITIAL_MONEY = 600;
+    private static final int BANK_CASH = 1_000_000;
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void vectorAndScalarPathsShouldReachTheSameState() {
+        LockstepSimulator vector = new LockstepSimulator(fullBoard(), fullDeck(), 101, 4, INITIAL_MONEY, BANK_CASH, 9L);
+        LockstepSimulator scalar = new LockstepSimulator(fullBoard(), fullDeck(), 101, 4, INITIAL_MONEY, BANK_CASH, 9L);
+        scalar.setVectorized(false);
+
+        for (int i = 0; i < STEPS; i++) {
+            vector.step();
+            scalar.step();
+            assertEquals("passo " + i, scalar.checksum(), vector.checksum());
+        }
+        assertEquals(scalar.turnsPlayed(), vector.turnsPlayed());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void eachLaneShouldMatchGameEngineWithTheSameDice() {
+        final int players = 3;
+        // Blocos completos e um bloco final incompleto
+        final int games = 2 * jdk.incubator.vector.IntVector.SPECIES_PREFERRED.length() + 3;
+        LockstepSimulator sim = new LockstepSimulator(fullBoard(), fullDeck(), games, players, INITIAL_MONEY, BANK_CASH, 2024L);
+        List<List<Card>> decks = new ArrayList<>();
+        for (int g = 0; g < games; g++) decks.add(sim.deckOrder(g));
+        sim.run(STEPS);
+
+        int bankrupt = 0;
+        for (int g = 0; g < games; g++) {
+            Board board = fullBoard();
+            List<Player> ps = players(players, INITIAL_MONEY);
+            GameEngine engine = new GameEngine(board, ps, new Deck(decks.get(g)),
+                    new EconomyService(new Bank(BANK_CASH)), 0);
+
+            // Mesma política do bot, com os dados da lane injetados
+            int rolls = 0;
+            for (int step = 0; step < STEPS; step++) {
+                final int code = LockstepSimulator.diceCode(sim.key(g), rolls++);
+                engine.setMockedDiceValues(code / 6 + 1, code % 6 + 1);
+                engine.rollAndResolve();
+                if (engine.currentPlayer().isAlive() && !engine.chooseBuy()) engine.chooseBuildHouse();
+                if (engine.roster().aliveCount() <= 1) break;
+                engine.endTurn();
+            }
+
+            final String game = "partida " + g;
+            assertEquals(game, rolls, sim.rolls(g));
+            assertEquals(game, engine.getBank().getCash(), sim.bankCash(g));
+            for (int p = 0; p < players; p++) {
+                assertEquals(game + " saldo P" + p, ps.get(p).getMoney(), sim.money(g, p));
+                assertEquals(game + " posição P" + p, ps.get(p).getPosition(), sim.position(g, p));
+                assertEquals(game + " ativo P" + p, ps.get(p).isAlive(), sim.isAlive(g, p));
+                assertEquals(game + " prisão P" + p, ps.get(p).isInJail(), sim.isInJail(g, p));
+                assertEquals(game + " posses P" + p, ps.get(p).propertiesMask(), sim.ownedMask(g, p));
+            }
+            for (int s = 0; s < board.size(); s++) {
+                assertEquals(game + " dono da casa " + s, board.ownerOrdinalAt(s), sim.ownerAt(g, s));
+                if (board.typeAt(s) == SquareType.STREET) {
+                    assertEquals(game + " casas em " + s,
+                            ((StreetOwnableSquare) board.squareAt(s)).getHouses(), sim.housesAt(g, s));
+                }
+            }
+            for (int p = 0; p < players; p++) {
+                if (!sim.isAlive(g, p)) bankrupt++;
+            }
+        }
+        assertTrue("deve haver falências (liquidação pelo caminho escalar)", bankrupt > 0);
+    }
+}
@@ -0,0 +1,97 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.metrics.Counter;
+import model.metrics.GameMetrics;
+import model.metrics.Gauge;
+import model.metrics.MetricsRegistry;
+import org.junit.Test;
+
+public class MetricsRegistryTest {
+
+    private static final int DEFAULT_TIMEOUT = 5000;
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void counter_isSharedByName_andSumsAllThreads() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter c = registry.counter("x_total", "help");
+        assertSame(c, registry.counter("x_total", "other help"));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> { for (int i = 0; i < 50_000; i++) c.increment(); }));
+        }
+        for (Thread t : threads) t.start();
+        for (Thread t : threads) t.join();
+        assertEquals(400_000, c.value());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void sameNameWithOtherType_isRejected() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("x_total", "help");
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("x_total", "help"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("bad name", "help"));
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void scrape_writesPrometheusText() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("games_total", "Games.").add(3);
+        Gauge active = registry.gauge("active", "Active.");
+        active.increment();
+        active.increment();
+        active.decrement();
+        registry.gauge("answer", "Fixed.", () -> 42);
+        registry.histogram("latency_seconds", "Latency.").record(2_000);
+
+        String text = registry.scrape();
+        assertTrue(text, text.contains("# HELP games_total Games.\n# TYPE games_total counter\ngames_total 3\n"));
+        assertTrue(text, text.contains("# TYPE active gauge\nactive 1\n"));
+        assertTrue(text, text.contains("answer 42\n"));
+        assertTrue(text, text.contains("# TYPE latency_seconds summary\n"));
+        assertTrue(text, text.contains("latency_seconds{quantile=\"0.99\"} 0.000002000\n"));
+        assertTrue(text, text.contains("latency_seconds_sum 0.000002000\nlatency_seconds_count 1\n"));
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void engine_feedsTurnsTransactionsAndLatency() {
+        MetricsRegistry registry = new MetricsRegistry();
+        GameMetrics metrics = new GameMetrics(registry);
+
+        List<Square> squares = TestFixtures.noopSquares(10);
+        squares.set(0, new MoneySquare(0, "Lucro", 100));
+        GameEngine engine = TestFixtures.quietEngine(squares);
+        engine.setGameMetrics(metrics);
+
+        // Cada turno cai na casa 0 (lucro) depois de dar a volta (bônus de partida): 2 transações
+        for (int turn = 0; turn < 4; turn++) {
+            engine.setMockedDiceValues(5, 5);
+            engine.rollAndResolve();
+            engine.endTurn();
+        }
+
+        assertEquals(4, registry.counter("monopoly_turns_total", "").value());
+        assertEquals(8, registry.counter("monopoly_transactions_total", "").value());
+        assertEquals(4, registry.histogram("monopoly_turn_latency_seconds", "").snapshot().count());
+
+        metrics.gameStarted();
+        metrics.gameStarted();
+        metrics.gameFinished();
+        assertEquals(2, registry.counter("monopoly_games_started_total", "").value());
+        assertEquals(1, registry.gauge("monopoly_active_sessions", "").value());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void noneMetrics_ignoreEverything() {
+        GameMetrics.NONE.gameStarted();
+        GameMetrics.NONE.transactions(5);
+        GameMetrics.NONE.turnResolved(GameMetrics.NONE.turnStart());
+        assertFalse(GameMetrics.NONE.isEnabled());
+        assertEquals(0L, GameMetrics.NONE.turnStart());
+    }
+}
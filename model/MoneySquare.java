@@ -6,15 +6,20 @@
 
 package model;
 
+import model.api.dto.SquareType;
+
 final class MoneySquare extends Square {
 
     private final int amount; // positivo = ganho, negativo = perda
 
     MoneySquare(final int index, final String name, final int amount) {
-        super(index, name);
+        super(index, name, SquareType.MONEY);
         this.amount = amount;
     }
 
+    // Valor da casa (positivo = ganho, negativo = perda).
+    int amount() { return amount; }
+
     @Override
     void onLand(final Player player, final GameEngine engine, final EconomyService economy) {
         if (amount == 0) {
@@ -5,18 +5,21 @@
 package model;
 
 import java.util.Objects;
+import model.api.dto.SquareType;
 
 abstract class OwnableSquare extends Square {
 
     private final String id;
     private final int price;
     private Player owner; // null = sem dono
+    private Board board;  // tabuleiro que mantém o índice de posse (null fora de um Board)
 
     protected OwnableSquare(final int index,
                             final String name,
                             final String id,
-                            final int price) {
-        super(index, name);
+                            final int price,
+                            final SquareType kind) {
+        super(index, name, kind);
         this.id = Objects.requireNonNull(id, "id");
         if (price < 0) throw new IllegalArgumentException("price deve ser >= 0");
         this.price = price;
@@ -27,13 +30,25 @@ abstract class OwnableSquare extends Square {
     int getPrice() { return price; }
     String getId() { return id; }
 
-    /** Define o proprietário. */
+    /** Define o proprietário (o investimento acompanha o título). */
     void setOwner(final Player player) {
+        if (owner != null) owner.adjustInvestment(-getTotalInvestment());
         this.owner = player;
+        if (player != null) player.adjustInvestment(getTotalInvestment());
+        if (board != null) board.recordOwner(index(), player);
+    }
+
+    /** Associa a casa ao tabuleiro (chamado pelo construtor de Board). */
+    void attachTo(final Board board) {
+        this.board = board;
+        board.recordOwner(index(), owner);
     }
     
     // Calcula todo o valor investido pelo owner 
     abstract int getTotalInvestment();
+
+    // Quanto o banco paga para recomprar a propriedade (pré-calculado por nível)
+    abstract int getSellValue();
     	
     // Devolve propriedade ao banco (remove dono). 
     abstract void removeOwner(final Player target);
@@ -28,9 +28,16 @@ final class Player {
     private int getOutOfJailCards;
 
     // --- Patrimônio e status ---
-    private final List<OwnableSquare> properties;
+    // Bit i de ownedMask = possui a casa de índice i; ownedSlots[i] guarda a propriedade
+    private long ownedMask;
+    private final OwnableSquare[] ownedSlots;
+    private int investment; // soma de getTotalInvestment() das propriedades (mantida pelas OwnableSquare)
     private boolean alive;
 
+    // Posição do jogador na partida e conjunto de ativos (atribuídos pelo PlayerRoster; -1 = fora de partida)
+    private int ordinal = -1;
+    private PlayerRoster roster;
+
     Player(final String id, final String name, final PlayerColor color, final int initialMoney) {
         this.id = Objects.requireNonNull(id, "id");
         this.name = Objects.requireNonNull(name, "name");
@@ -40,7 +47,8 @@ final class Player {
         this.position = 0;
         this.inJail = false;
         this.getOutOfJailCards = 0;
-        this.properties = new ArrayList<>();
+        this.ownedMask = 0L;
+        this.ownedSlots = new OwnableSquare[Board.MAX_SQUARES];
         this.alive = true;
     }
 
@@ -50,6 +58,7 @@ final class Player {
     void credit(final int amount) {
         if (amount < 0) throw new IllegalArgumentException("amount deve ser >= 0");
         this.money += amount;
+        wealthChanged();
     }
 
     /** Debita valor do jogador (saldo nunca fica negativo - EconomyService garante liquidez). */
@@ -59,6 +68,7 @@ final class Player {
             throw new IllegalStateException("Saldo insuficiente para débito: " + amount + " > " + money);
         }
         this.money -= amount;
+        wealthChanged();
     }
 
     // ===== Movimento/posição =====
@@ -95,12 +105,65 @@ final class Player {
 
     /** Adiciona propriedade ao patrimônio. */
     void addProperty(final OwnableSquare p) {
-        if (!properties.contains(p)) properties.add(p);
+        final int index = p.index();
+        ownedMask |= bit(index);
+        ownedSlots[index] = p;
     }
 
     /** Remove propriedade do patrimônio. */
     void removeProperty(final OwnableSquare p) {
-        properties.remove(p);
+        final int index = p.index();
+        if (ownedSlots[index] != p) return;
+        ownedMask &= ~bit(index);
+        ownedSlots[index] = null;
+    }
+
+    /** Remove todas as propriedades do patrimônio (os títulos devem ser liberados pelo chamador). */
+    void clearProperties() {
+        for (long m = ownedMask; m != 0; m &= m - 1) {
+            ownedSlots[Long.numberOfTrailingZeros(m)] = null;
+        }
+        ownedMask = 0L;
+    }
+
+    /** Possui a propriedade da casa de índice dado? */
+    boolean ownsPropertyAt(final int index) {
+        return index >= 0 && index < Board.MAX_SQUARES && (ownedMask & bit(index)) != 0;
+    }
+
+    /** Propriedade na casa de índice dado, ou null se não pertencer ao jogador. */
+    OwnableSquare propertyAt(final int index) {
+        return ownsPropertyAt(index) ? ownedSlots[index] : null;
+    }
+
+    /** Máscara das casas possuídas (bit i = casa i). Itere com numberOfTrailingZeros / m &= m - 1. */
+    long propertiesMask() { return ownedMask; }
+
+    /** Quantidade de propriedades. */
+    int propertyCount() { return Long.bitCount(ownedMask); }
+
+    /** Ajusta o investimento em propriedades (compra, construção, venda ou devolução). */
+    void adjustInvestment(final int delta) {
+        if (delta == 0) return;
+        this.investment += delta;
+        wealthChanged();
+    }
+
+    /** Valor investido nas propriedades atuais (preço + construções). */
+    int getInvestment() { return investment; }
+
+    /** Patrimônio líquido: dinheiro + investimento em propriedades. */
+    int getNetWorth() { return money + investment; }
+
+    private void wealthChanged() {
+        if (roster != null) roster.wealthChanged(ordinal);
+    }
+
+    private static long bit(final int index) {
+        if (index < 0 || index >= Board.MAX_SQUARES) {
+            throw new IllegalArgumentException("Índice de propriedade fora do suportado: " + index);
+        }
+        return 1L << index;
     }
 
     // ===== Status de vida/bankruptcy =====
@@ -109,11 +172,35 @@ final class Player {
     boolean isBankrupt() { return !alive; }
 
     /** Marca jogador como falido (fora do jogo). */
-    void setBankrupt() { this.alive = false; this.money = 0;}
+    void setBankrupt() {
+        if (alive && roster != null) roster.markBankrupt(ordinal);
+        this.alive = false;
+        this.money = 0;
+        wealthChanged();
+    }
 
     /** Está ativo no jogo? */
     boolean isAlive() { return alive; }
 
+    /**
+     * Sobrescreve o estado escalar do jogador (restauração de um estado salvo).
+     * As propriedades são restauradas à parte, pelas casas.
+     */
+    void restoreState(final int money, final int position, final boolean inJail,
+                      final int getOutOfJailCards, final boolean alive) {
+        if (money < 0 || getOutOfJailCards < 0) throw new IllegalArgumentException("Estado inválido.");
+        if (roster != null && alive != this.alive) {
+            if (alive) roster.markAlive(ordinal);
+            else roster.markBankrupt(ordinal);
+        }
+        this.money = money;
+        this.position = position;
+        this.inJail = inJail;
+        this.getOutOfJailCards = getOutOfJailCards;
+        this.alive = alive;
+        wealthChanged();
+    }
+
     /**
      * Verifica se o jogador possui dinheiro suficiente para pagar um valor.
      */
@@ -147,17 +234,32 @@ final class Player {
     /** Cor do jogador. */
     PlayerColor getColor() { return color; }
 
-    /** Lista imutável das propriedades. */
-    List<OwnableSquare> getProperties() { return Collections.unmodifiableList(properties); }
+    /** Posição do jogador na partida (-1 se ainda não está em um GameEngine). */
+    int ordinal() { return ordinal; }
+
+    /** Definido pelo PlayerRoster ao montar a partida. */
+    void joinRoster(final PlayerRoster roster, final int ordinal) {
+        this.roster = roster;
+        this.ordinal = ordinal;
+    }
+
+    /** Lista imutável das propriedades (em ordem de tabuleiro). */
+    List<OwnableSquare> getProperties() {
+        final List<OwnableSquare> out = new ArrayList<>(propertyCount());
+        for (long m = ownedMask; m != 0; m &= m - 1) {
+            out.add(ownedSlots[Long.numberOfTrailingZeros(m)]);
+        }
+        return Collections.unmodifiableList(out);
+    }
     
-    /* Retorna os índices das propriedades pertencentes ao jogador. */
+    /* Retorna os índices das propriedades pertencentes ao jogador (em ordem de tabuleiro). */
     int[] getPropertiesIndex() {
-    	 final int size = properties.size();
-    	    final int[] indices = new int[size];
-    	    for (int i = 0; i < size; i++) {
-    	        indices[i] = properties.get(i).index();
-    	    }
-    	    return indices;
+        final int[] indices = new int[propertyCount()];
+        int i = 0;
+        for (long m = ownedMask; m != 0; m &= m - 1) {
+            indices[i++] = Long.numberOfTrailingZeros(m);
+        }
+        return indices;
     }
 
 
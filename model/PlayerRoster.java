@@ -0,0 +1,89 @@
+/* ===========================================================
+ * PlayerRoster ; jogadores da partida e conjunto dos ativos (Model).
+ * Mantém um BitSet dos jogadores vivos e a contagem, atualizados
+ * por Player.setBankrupt, para rotação e iteração sem varreduras,
+ * e a classificação (Standings) atualizada a cada mudança de patrimônio.
+ * =========================================================== */
+
+package model;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+final class PlayerRoster {
+
+    private final Player[] players;
+    private final BitSet alive;
+    private int aliveCount;
+    private final Standings standings;
+
+    PlayerRoster(final List<Player> players) {
+        Objects.requireNonNull(players, "players");
+        this.players = players.toArray(new Player[0]);
+        this.alive = new BitSet(this.players.length);
+        for (int i = 0; i < this.players.length; i++) {
+            final Player p = Objects.requireNonNull(this.players[i], "player");
+            p.joinRoster(this, i);
+            if (p.isAlive()) {
+                alive.set(i);
+                aliveCount++;
+            }
+        }
+        this.standings = new Standings(this.players);
+    }
+
+    /* Chamado pelo Player quando dinheiro ou investimento mudam. */
+    void wealthChanged(final int ordinal) {
+        standings.update(ordinal);
+    }
+
+    /* Classificação corrente (por dinheiro e por patrimônio). */
+    Standings standings() { return standings; }
+
+    /* Chamado por Player.setBankrupt (apenas na transição vivo -> falido). */
+    void markBankrupt(final int ordinal) {
+        if (alive.get(ordinal)) {
+            alive.clear(ordinal);
+            aliveCount--;
+        }
+    }
+
+    /* Chamado por Player.restoreState quando um jogador volta a estar ativo. */
+    void markAlive(final int ordinal) {
+        if (!alive.get(ordinal)) {
+            alive.set(ordinal);
+            aliveCount++;
+        }
+    }
+
+    /* Número total de jogadores (vivos ou não). */
+    int size() { return players.length; }
+
+    /* Jogador pelo índice (ordem da partida). */
+    Player get(final int index) { return players[index]; }
+
+    /* Número de jogadores ativos. */
+    int aliveCount() { return aliveCount; }
+
+    /* Jogador ativo? */
+    boolean isAlive(final int index) { return alive.get(index); }
+
+    /* Quantos jogadores ativos existem além de 'p'. */
+    int aliveOthers(final Player p) {
+        final int i = p.ordinal();
+        final boolean member = i >= 0 && i < players.length && players[i] == p && alive.get(i);
+        return member ? aliveCount - 1 : aliveCount;
+    }
+
+    /* Primeiro jogador ativo com índice >= from, ou -1. Ex.: for (i = nextAlive(0); i >= 0; i = nextAlive(i + 1)) */
+    int nextAlive(final int from) {
+        return (from >= players.length) ? -1 : alive.nextSetBit(from);
+    }
+
+    /* Próximo jogador ativo após 'index' (com volta ao início), ou -1 se nenhum estiver ativo. */
+    int nextAliveAfter(final int index) {
+        final int next = nextAlive(index + 1);
+        return (next >= 0) ? next : alive.nextSetBit(0);
+    }
+}
@@ -39,6 +39,36 @@ public class PlayerTest {
 		assertFalse("propriedade não deve permanecer na lista do jogador", p.getProperties().contains(s));
 	}
 
+	@Test(timeout = DEFAULT_TIMEOUT)
+	public void testOwnershipMaskAndBoardIndex() {
+		Player p = new Player("p1", "Alice", RED, 100);
+		StreetOwnableSquare s2 = new StreetOwnableSquare(2, "Rua 2", "R2", 100);
+		StreetOwnableSquare s5 = new StreetOwnableSquare(5, "Rua 5", "R5", 100);
+		java.util.List<Square> squares = new java.util.ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			squares.add(i == 2 ? s2 : i == 5 ? s5 : new StreetOwnableSquareTest.NoopSquare(i));
+		}
+		Board board = new Board(squares, 3);
+		p.joinRoster(null, 1);
+
+		s5.setOwner(p); p.addProperty(s5);
+		s2.setOwner(p); p.addProperty(s2);
+		assertEquals(2, p.propertyCount());
+		assertEquals((1L << 2) | (1L << 5), p.propertiesMask());
+		assertArrayEquals("índices em ordem de tabuleiro", new int[] { 2, 5 }, p.getPropertiesIndex());
+		assertSame(s5, p.propertyAt(5));
+		assertEquals(1, board.ownerOrdinalAt(5));
+		assertEquals(Board.NO_OWNER, board.ownerOrdinalAt(4));
+
+		s2.removeOwner(p); p.removeProperty(s2);
+		assertFalse(p.ownsPropertyAt(2));
+		assertEquals(Board.NO_OWNER, board.ownerOrdinalAt(2));
+
+		p.clearProperties();
+		assertEquals(0, p.propertyCount());
+		assertNull(p.propertyAt(5));
+	}
+
 	@Test(timeout = DEFAULT_TIMEOUT)
 	public void testBankruptcyFlag() {
 		Player p = new Player("p1", "Alice", RED, 0);
@@ -6,16 +6,23 @@
 package model;
 
 import java.util.Objects;
+import model.api.dto.SquareType;
 
 abstract class Square {
 
     private final int index;
     private final String name;
+    private final SquareType kind;
 
     protected Square(final int index, final String name) {
+        this(index, name, SquareType.OTHER);
+    }
+
+    protected Square(final int index, final String name, final SquareType kind) {
         if (index < 0) throw new IllegalArgumentException("index deve ser >= 0");
         this.index = index;
         this.name = Objects.requireNonNull(name, "name");
+        this.kind = Objects.requireNonNull(kind, "kind");
     }
 
     /* Efeito ao cair nesta casa. */
@@ -25,9 +32,9 @@ abstract class Square {
     String name() { return name; }
     
     /**
-     * Retorna um identificador simples do tipo desta Square (classe concreta).
-     * Ex.: "ChanceSquare", "GoToJailSquare", "JailSquare", "MoneySquare", "StreetOwnableSquare", "StartSquare"
+     * Retorna o tipo desta Square (o Board guarda o código em um byte[] por casa).
+     * Ex.: CHANCE, GO_TO_JAIL, JAIL, MONEY, STREET, START
      */
-    String type() { return this.getClass().getSimpleName(); }
+    SquareType kind() { return kind; }
 }
 
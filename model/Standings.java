@@ -0,0 +1,75 @@
+/* ===========================================================
+ * Standings ; classificação dos jogadores mantida incrementalmente (Model).
+ * Duas ordenações sempre prontas: por dinheiro (critério de vitória) e
+ * por patrimônio líquido (dinheiro + investimento em propriedades).
+ * =========================================================== */
+
+package model;
+
+final class Standings {
+
+    private final Player[] players;
+
+    // order[k] = ordinal do jogador na posição k; rank[ordinal] = posição k
+    private final int[] cashOrder;
+    private final int[] cashRank;
+    private final int[] worthOrder;
+    private final int[] worthRank;
+
+    Standings(final Player[] players) {
+        this.players = players;
+        final int n = players.length;
+        this.cashOrder = new int[n];
+        this.cashRank = new int[n];
+        this.worthOrder = new int[n];
+        this.worthRank = new int[n];
+        for (int i = 0; i < n; i++) {
+            cashOrder[i] = i;
+            cashRank[i] = i;
+            worthOrder[i] = i;
+            worthRank[i] = i;
+        }
+        for (int i = 0; i < n; i++) {
+            update(i);
+        }
+    }
+
+    /* Reposiciona o jogador após mudança de dinheiro ou investimento (poucas trocas por evento). */
+    void update(final int ordinal) {
+        reposition(cashOrder, cashRank, ordinal, false);
+        reposition(worthOrder, worthRank, ordinal, true);
+    }
+
+    /* Ordinal do jogador na posição k do ranking por dinheiro. */
+    int byCash(final int k) { return cashOrder[k]; }
+
+    /* Ordinal do jogador na posição k do ranking por patrimônio. */
+    int byNetWorth(final int k) { return worthOrder[k]; }
+
+    int size() { return players.length; }
+
+    private void reposition(final int[] order, final int[] rank, final int ordinal, final boolean netWorth) {
+        int k = rank[ordinal];
+        // Sobe enquanto for melhor que o anterior
+        while (k > 0 && ahead(ordinal, order[k - 1], netWorth)) {
+            order[k] = order[k - 1];
+            rank[order[k]] = k;
+            k--;
+        }
+        // Desce enquanto o próximo for melhor
+        while (k < order.length - 1 && ahead(order[k + 1], ordinal, netWorth)) {
+            order[k] = order[k + 1];
+            rank[order[k]] = k;
+            k++;
+        }
+        order[k] = ordinal;
+        rank[ordinal] = k;
+    }
+
+    /* a fica à frente de b? (maior valor; empate pela ordem da partida) */
+    private boolean ahead(final int a, final int b, final boolean netWorth) {
+        final long va = netWorth ? players[a].getNetWorth() : players[a].getMoney();
+        final long vb = netWorth ? players[b].getNetWorth() : players[b].getMoney();
+        return va > vb || (va == vb && a < b);
+    }
+}
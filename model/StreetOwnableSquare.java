@@ -1,25 +1,29 @@
 /* ===========================================================
- * StreetOwnableSquare ; ruas construtíveis; aluguel calculado por fórmula
+ * StreetOwnableSquare ; ruas construtíveis; aluguel por fórmula (pré-calculada em StreetRentTable)
  * =========================================================== */
 package model;
 
+import model.api.dto.SquareType;
+
 final class StreetOwnableSquare extends OwnableSquare {
 
     private int houses;             // 0–4
     private boolean hasHotel;       // true = 1 hotel (só pode existir após ter 1 casa)
+    private final StreetRentTable rents; // aluguel/investimento por nível (compartilhada por preço)
     
     StreetOwnableSquare(final int index,
                         final String name,
                         final String id,
                         final int price) {
-        super(index, name, id, price);
+        super(index, name, id, price, SquareType.STREET);
+        this.rents = StreetRentTable.forPrice(price);
         this.houses = 0;
         this.hasHotel = false;
     }
 
     // Pode construir casa (até 4 casas). 
     boolean canBuildHouse() {
-        return houses < 4;
+        return houses < StreetRentTable.MAX_HOUSES;
     }
 
     // Pode construir hotel (precisa ter pelo menos 1 casa e ainda não ter hotel). 
@@ -29,7 +33,7 @@ final class StreetOwnableSquare extends OwnableSquare {
 
     // Custo de construção de uma casa (50% do preço). 
     int getHouseCost() { 
-        return (int) Math.round(getPrice() * 0.5); 
+        return rents.houseCost(); 
     }
 
     // Custo de construção do hotel (100% do preço). 
@@ -47,21 +51,32 @@ final class StreetOwnableSquare extends OwnableSquare {
     void buildHouse() {
         if (!canBuildHouse()) throw new IllegalStateException("Não é possível construir mais casas aqui.");
         houses++;
+        if (hasOwner()) getOwner().adjustInvestment(getHouseCost());
     }
 
     // Constrói o hotel. 
     void buildHotel() {
         if (!canBuildHotel()) throw new IllegalStateException("Não é possível construir hotel aqui.");
         hasHotel = true;
+        if (hasOwner()) getOwner().adjustInvestment(getHotelCost());
     }
     
+    // Define as construções (restauração de um estado salvo); o investimento do dono acompanha.
+    void restoreBuildings(final int houses, final boolean hotel) {
+        if (houses < 0 || houses > StreetRentTable.MAX_HOUSES) throw new IllegalArgumentException("Casas inválidas: " + houses);
+        final int before = getTotalInvestment();
+        this.houses = houses;
+        this.hasHotel = hotel;
+        if (hasOwner()) getOwner().adjustInvestment(getTotalInvestment() - before);
+    }
+
     // Remove o dono (caso seja o atual) e reseta construções. 
     @Override
     void removeOwner(final Player target) {
         if (this.getOwner() != null && this.getOwner().equals(target)) {
+            setOwner(null); // antes do reset, para descontar também as construções
             this.houses = 0;
             this.hasHotel = false;
-            setOwner(null);
         }
     }
 
@@ -69,9 +84,14 @@ final class StreetOwnableSquare extends OwnableSquare {
     @Override
     int getTotalInvestment() {
         if (this.getOwner() == null) return 0;
+        return rents.investment(houses, hasHotel);
+    }
 
-        int spentOnBuilds = houses * getHouseCost() + (hasHotel ? getHotelCost() : 0) + (this.getOwner() != null ? getPrice() : 0);
-        return spentOnBuilds;
+    // Valor de recompra pelo banco no nível atual (tabela pré-calculada). 
+    @Override
+    int getSellValue() {
+        if (this.getOwner() == null) return 0;
+        return rents.sellValue(houses, hasHotel);
     }
 
     // Calcula o aluguel conforme fórmula: Va = Vb + Vc*n + Vh
@@ -80,11 +100,7 @@ final class StreetOwnableSquare extends OwnableSquare {
     // Vh = valor do hotel (30% do preço)
     @Override
     int calcRent(final GameEngine engine) {
-        int price = getPrice();
-        int vb = (int) Math.round(price * 0.1);  // valor base
-        int vc = (int) Math.round(price * 0.15); // valor por casa
-        int vh = hasHotel ? (int) Math.round(price * 0.3) : 0; // valor do hotel
-        return vb + (vc * houses) + vh;
+        return rents.rent(houses, hasHotel);
     }
 
     // Efeito ao cair na casa. 
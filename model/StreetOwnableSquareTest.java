@@ -134,4 +134,28 @@ public class StreetOwnableSquareTest {
         assertEquals(4, prop.getHouses());
         assertTrue(prop.hasHotel());
     }
+
+    @Test
+    public void rentAndInvestmentShouldMatchFormulaForAllLevels() {
+        for (int price : new int[] { 60, 140, 199, 350, 401 }) {
+            int vb = (int) Math.round(price * 0.1);
+            int vc = (int) Math.round(price * 0.15);
+            int vh = (int) Math.round(price * 0.3);
+            int houseCost = (int) Math.round(price * 0.5);
+
+            for (int h = 0; h <= 4; h++) {
+                for (boolean hotel : new boolean[] { false, true }) {
+                    if (hotel && h == 0) continue;
+                    StreetOwnableSquare prop = makeStreet(0, price);
+                    prop.setOwner(p1);
+                    for (int k = 0; k < h; k++) prop.buildHouse();
+                    if (hotel) prop.buildHotel();
+
+                    assertEquals(houseCost, prop.getHouseCost());
+                    assertEquals(vb + vc * h + (hotel ? vh : 0), prop.calcRent(null));
+                    assertEquals(price + h * houseCost + (hotel ? price : 0), prop.getTotalInvestment());
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
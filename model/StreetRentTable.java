@@ -0,0 +1,70 @@
+/* ===========================================================
+ * StreetRentTable ; aluguel, investimento e valor de recompra pré-calculados por nível de construção.
+ * Tabelas são internadas por preço: ruas de mesmo preço (em qualquer partida
+ * que use o mesmo tabuleiro) compartilham a mesma instância.
+ * =========================================================== */
+
+package model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+final class StreetRentTable {
+
+    static final int MAX_HOUSES = 4;
+
+    // Níveis: (casas 0..4) x (hotel não/sim) -> slot = casas * 2 + (hotel ? 1 : 0)
+    private static final int LEVELS = (MAX_HOUSES + 1) * 2;
+    private static final int RENT_OFFSET = 1;
+    private static final int INVESTMENT_OFFSET = RENT_OFFSET + LEVELS;
+    private static final int SELL_OFFSET = INVESTMENT_OFFSET + LEVELS;
+
+    private static final ConcurrentHashMap<Integer, StreetRentTable> BY_PRICE = new ConcurrentHashMap<>();
+
+    // [0] = custo da casa; [1..10] = aluguel; [11..20] = investimento; [21..30] = recompra pelo banco
+    private final int[] values;
+
+    private StreetRentTable(final int price) {
+        this.values = new int[SELL_OFFSET + LEVELS];
+
+        // Mesmas fórmulas de antes, calculadas uma única vez por preço
+        final int houseCost = (int) Math.round(price * 0.5);  // casa = 50% do preço
+        final int hotelCost = price;                           // hotel = 100% do preço
+        final int vb = (int) Math.round(price * 0.1);         // valor base
+        final int vc = (int) Math.round(price * 0.15);        // valor por casa
+        final int vh = (int) Math.round(price * 0.3);         // valor do hotel
+
+        values[0] = houseCost;
+        for (int houses = 0; houses <= MAX_HOUSES; houses++) {
+            for (int h = 0; h <= 1; h++) {
+                final int slot = houses * 2 + h;
+                values[RENT_OFFSET + slot] = vb + vc * houses + (h == 1 ? vh : 0);
+                values[INVESTMENT_OFFSET + slot] = price + houses * houseCost + (h == 1 ? hotelCost : 0);
+                values[SELL_OFFSET + slot] = EconomyService.buybackValue(values[INVESTMENT_OFFSET + slot]);
+            }
+        }
+    }
+
+    /** Retorna a tabela (compartilhada) para o preço dado. */
+    static StreetRentTable forPrice(final int price) {
+        return BY_PRICE.computeIfAbsent(price, StreetRentTable::new);
+    }
+
+    int houseCost() {
+        return values[0];
+    }
+
+    /** Aluguel para o nível (casas 0..4, hotel). */
+    int rent(final int houses, final boolean hotel) {
+        return values[RENT_OFFSET + houses * 2 + (hotel ? 1 : 0)];
+    }
+
+    /** Investimento total do dono (preço + construções) para o nível. */
+    int investment(final int houses, final boolean hotel) {
+        return values[INVESTMENT_OFFSET + houses * 2 + (hotel ? 1 : 0)];
+    }
+
+    /** Quanto o banco paga pela rua (com construções) no nível. */
+    int sellValue(final int houses, final boolean hotel) {
+        return values[SELL_OFFSET + houses * 2 + (hotel ? 1 : 0)];
+    }
+}
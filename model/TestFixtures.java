@@ -0,0 +1,88 @@
+package model;
+
+import static model.api.dto.PlayerColor.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import model.api.dto.PlayerColor;
+import model.api.dto.SquareType;
+
+/**
+ * Tabuleiros, baralhos e engines compartilhados pelos testes do modelo.
+ * Cada chamada devolve objetos novos: os testes podem alterá-los à vontade.
+ */
+final class TestFixtures {
+
+    private static final String[][] NAMES = {
+            { "P1", "Alice" }, { "P2", "Bob" }, { "P3", "Carol" }, { "P4", "Dave" } };
+    private static final PlayerColor[] COLORS = { RED, BLUE, YELLOW, PURPLE };
+
+    private TestFixtures() { }
+
+    // Square sem efeito para testes
+    static class NoopSquare extends Square {
+        NoopSquare(int index) { super(index, "S" + index); }
+        @Override void onLand(Player player, GameEngine engine, EconomyService economy) { /* no-op */ }
+    }
+
+    // Tabuleiro com todos os tipos de casa (ruas, companhias, dinheiro, prisão, sorte)
+    static Board fullBoard() {
+        List<Square> squares = new ArrayList<>();
+        squares.add(new DummySquare(0, "Start", SquareType.START));
+        squares.add(new StreetOwnableSquare(1, "R1", "r1", 100));
+        squares.add(new ChanceSquare(2, "Sorte"));
+        squares.add(new StreetOwnableSquare(3, "R3", "r3", 120));
+        squares.add(new MoneySquare(4, "Imposto", -400));
+        squares.add(new DummySquare(5, "Prisão", SquareType.JAIL));
+        squares.add(new CompanyOwnableSquare(6, "C6", "c6", 150, 4));
+        squares.add(new StreetOwnableSquare(7, "R7", "r7", 200));
+        squares.add(new GoToJailSquare(8, "Vá para a prisão"));
+        squares.add(new MoneySquare(9, "Lucro", 100));
+        squares.add(new StreetOwnableSquare(10, "R10", "r10", 300));
+        squares.add(new ChanceSquare(11, "Sorte"));
+        squares.add(new StreetOwnableSquare(12, "R12", "r12", 260));
+        squares.add(new CompanyOwnableSquare(13, "C13", "c13", 200, 5));
+        squares.add(new DummySquare(14, "Parada", SquareType.PARKING));
+        squares.add(new StreetOwnableSquare(15, "R15", "r15", 350));
+        return new Board(squares, 5);
+    }
+
+    // Todos os tipos de carta
+    static Deck fullDeck() {
+        return new Deck(Arrays.asList(
+                new Card(1, Card.CardType.RECEIVE_BANK, 50),
+                new Card(2, Card.CardType.PAY_BANK, 120),
+                new Card(3, Card.CardType.PAY_ALL, 30),
+                new Card(4, Card.CardType.RECEIVE_ALL, 25),
+                new Card(5, Card.CardType.GO_TO_JAIL, 0),
+                new Card(6, Card.CardType.GET_OUT_OF_JAIL, 0),
+                new Card(7, Card.CardType.PAY_BANK, 200)));
+    }
+
+    /** Até 4 jogadores (Alice, Bob, Carol, Dave), todos com o mesmo saldo. */
+    static List<Player> players(final int count, final int money) {
+        if (count < 1 || count > NAMES.length) throw new IllegalArgumentException("Jogadores: " + count);
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) players.add(new Player(NAMES[i][0], NAMES[i][1], COLORS[i], money));
+        return players;
+    }
+
+    /** Casas sem efeito, numeradas de 0 a size-1. */
+    static List<Square> noopSquares(final int size) {
+        List<Square> squares = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) squares.add(new NoopSquare(i));
+        return squares;
+    }
+
+    /**
+     * Engine mínimo para medir o turno: as casas dadas (prisão na 3),
+     * Alice e Bob com 1500, uma carta neutra e banco folgado.
+     */
+    static GameEngine quietEngine(final List<Square> squares) {
+        return new GameEngine(new Board(squares, 3), players(2, 1500),
+                new Deck(Arrays.asList(new Card(0, Card.CardType.RECEIVE_BANK, 0))),
+                new EconomyService(new Bank(1_000_000)), 0);
+    }
+}
@@ -0,0 +1,97 @@
+package model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+
+import model.metrics.TraceRecorder;
+import model.metrics.TurnMetrics;
+import org.junit.Test;
+
+public class TraceRecorderTest {
+
+    private static final int DEFAULT_TIMEOUT = 5000;
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void disabledRecorder_ignoresEverything() throws IOException {
+        TraceRecorder trace = TraceRecorder.DISABLED;
+        assertEquals(0L, trace.begin());
+        trace.record("c", "n", null, 1, 2);
+        trace.end("c", "n", 5L);
+        assertEquals(0, trace.size());
+        assertThrows(IllegalStateException.class, () -> TurnMetrics.DISABLED.setTrace(new TraceRecorder(4)));
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void ring_keepsNewestSpans_andCountsDropped() throws IOException {
+        TraceRecorder trace = new TraceRecorder(3);
+        assertEquals(4, trace.capacity());
+
+        String[] names = { "a", "b", "c", "d", "e", "f" };
+        for (String name : names) {
+            long t0 = trace.begin();
+            trace.end("controller", name, t0);
+        }
+        assertEquals(4, trace.size());
+        assertEquals(2, trace.dropped());
+
+        StringBuilder json = new StringBuilder();
+        trace.writeJson(json);
+        String text = json.toString();
+        assertFalse(text, text.contains("\"name\":\"a\""));
+        assertFalse(text, text.contains("\"name\":\"b\""));
+        assertTrue(text, text.indexOf("\"name\":\"c\"") < text.indexOf("\"name\":\"f\""));
+
+        trace.clear();
+        assertEquals(0, trace.size());
+        assertEquals(0, trace.dropped());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void json_usesCompleteEvents_threadNames_andEscapesDetail() throws IOException {
+        TraceRecorder trace = new TraceRecorder(16);
+        long t0 = trace.begin();
+        trace.record("observer", "onGameMessage", "Obs\"1", t0, t0 + 2_500);
+
+        StringBuilder json = new StringBuilder();
+        trace.writeJson(json);
+        String text = json.toString();
+        assertTrue(text, text.startsWith("{\"displayTimeUnit\":\"ns\",\"traceEvents\":["));
+        assertTrue(text, text.contains("\"name\":\"onGameMessage\",\"cat\":\"observer\",\"ph\":\"X\""));
+        assertTrue(text, text.contains("\"dur\":2.500"));
+        assertTrue(text, text.contains("\"args\":{\"detail\":\"Obs\\\"1\"}"));
+        assertTrue(text, text.contains("\"name\":\"thread_name\",\"ph\":\"M\""));
+        assertTrue(text, text.contains("\"args\":{\"name\":\"" + Thread.currentThread().getName() + "\"}"));
+        assertTrue(text, text.trim().endsWith("]}"));
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void spansStartedBeforeRecording_areIgnored() {
+        long before = System.nanoTime();
+        TraceRecorder trace = new TraceRecorder(8);
+        trace.record("phase", "roll", null, before - 1_000_000, System.nanoTime());
+        assertEquals(0, trace.size());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void engine_writesOnePhaseSpanPerStep() throws IOException {
+        GameEngine engine = TestFixtures.quietEngine(TestFixtures.noopSquares(10));
+        TurnMetrics metrics = new TurnMetrics();
+        TraceRecorder trace = new TraceRecorder(64);
+        metrics.setTrace(trace);
+        engine.setMetrics(metrics);
+
+        engine.setMockedDiceValues(1, 2);
+        engine.rollAndResolve();
+        engine.endTurn();
+
+        // roll, applyJailRules, moveBy, onLand, endTurn
+        assertEquals(5, trace.size());
+        StringBuilder json = new StringBuilder();
+        trace.writeJson(json);
+        String text = json.toString();
+        for (String phase : new String[] { "roll", "applyJailRules", "moveBy", "onLand", "endTurn" }) {
+            assertTrue(phase, text.contains("\"name\":\"" + phase + "\",\"cat\":\"phase\""));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package model;
+
+import static org.junit.Assert.*;
+import static model.TestFixtures.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+import model.metrics.TurnMetrics;
+import model.metrics.TurnPhase;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Regressão de alocação do turno em modo simulação
+ * (rollAndResolve → Square.onLand → EconomyService → Bank), com e sem
+ * liquidação (LiquidationPlanner) e falência.
+ * Falha se qualquer janela de turnos alocar depois do aquecimento.
+ */
+public class TurnAllocationTest {
+
+    private static final int DEFAULT_TIMEOUT = 20000;
+    // Cobre o crescimento das tabelas do LiquidationPlanner e as compilações tardias do JIT
+    // (código recém-compilado ainda resolve constantes, alocando uma vez)
+    private static final int WARMUP_TURNS = 1_000_000;
+    private static final int WINDOW_TURNS = 2_000;
+    private static final int WINDOWS = 10;
+    private static final int RICH_MONEY = 5_000_000; // ninguém quebra: só o turno comum
+    private static final int POOR_MONEY = 300;       // dezenas de liquidações e falências por janela
+    private static final int MATCH_TURNS = 60;       // depois disso a partida recomeça
+    private static final int BANK_CASH = 1_000_000_000;
+
+    private GameEngine makeEngine(final boolean simulation, final int money) {
+        // Todos os tipos de casa e de carta passam pelo caminho medido
+        GameEngine engine = new GameEngine(fullBoard(), players(4, money), fullDeck(), new EconomyService(new Bank(BANK_CASH)), 0,
+                new DiceTape(new SplittableRandom(31L), DiceTape.SIMULATION_CAPACITY));
+        engine.setSimulationMode(simulation);
+        return engine;
+    }
+
+    // Mesma política do bot
+    private static void playTurns(final GameEngine engine, final int turns) {
+        for (int t = 0; t < turns; t++) {
+            engine.beginTurn();
+            engine.rollAndResolve();
+            if (!engine.chooseBuy() && !engine.chooseBuildHouse()) engine.chooseBuildHotel();
+            engine.endTurn();
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("JVM sem contagem de alocação por thread",
+                bean instanceof com.sun.management.ThreadMXBean hs && hs.isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean hs = (com.sun.management.ThreadMXBean) bean;
+        hs.setThreadAllocatedMemoryEnabled(true);
+        return hs;
+    }
+
+    /**
+     * Partidas curtas em sequência no mesmo engine: a cada falência (ou a cada
+     * MATCH_TURNS turnos) a partida inicial é restaurada no lugar (GameStateArena)
+     * e o jogo segue com os próximos dados. Sem o recomeço o dinheiro das voltas
+     * acaba com as falências.
+     */
+    private static final class ShortMatches implements IntConsumer {
+        private final GameEngine engine;
+        private final GameStateArena start;
+        private int turnsInMatch;
+        int bankruptcies;
+
+        ShortMatches(final GameEngine engine, final GameStateArena start) {
+            this.engine = engine;
+            this.start = start;
+            start.store(0, engine);
+        }
+
+        @Override
+        public void accept(final int turns) {
+            for (int t = 0; t < turns; t++) {
+                final int alive = engine.roster().aliveCount();
+                engine.beginTurn();
+                engine.rollAndResolve();
+                if (engine.currentPlayer().isAlive() && !engine.chooseBuy() && !engine.chooseBuildHouse()) {
+                    engine.chooseBuildHotel();
+                }
+                final int lost = alive - engine.roster().aliveCount();
+                if (lost > 0 || ++turnsInMatch == MATCH_TURNS) {
+                    bankruptcies += lost;
+                    start.load(0, engine);
+                    turnsInMatch = 0;
+                } else {
+                    engine.endTurn();
+                }
+            }
+        }
+    }
+
+    /** Aquece e exige zero bytes em cada uma das janelas seguintes. */
+    private static void assertEveryWindowAllocationFree(final com.sun.management.ThreadMXBean hs, final IntConsumer play) {
+        play.accept(WARMUP_TURNS);
+        for (int w = 0; w < WINDOWS; w++) {
+            assertEquals("janela " + w + " de " + WINDOW_TURNS + " turnos (bytes)", 0L, allocatedBy(hs, play, WINDOW_TURNS));
+        }
+    }
+
+    /** Bytes alocados pela thread durante os turnos, descontado o custo da própria medição. */
+    private static long allocatedBy(final com.sun.management.ThreadMXBean hs, final IntConsumer play, final int turns) {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            final long a = hs.getCurrentThreadAllocatedBytes();
+            overhead = Math.min(overhead, hs.getCurrentThreadAllocatedBytes() - a);
+        }
+        final long before = hs.getCurrentThreadAllocatedBytes();
+        play.accept(turns);
+        return hs.getCurrentThreadAllocatedBytes() - before - overhead;
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void simulationTurnsShouldNotAllocateInSteadyState() {
+        final com.sun.management.ThreadMXBean hs = threads();
+        GameEngine engine = makeEngine(true, RICH_MONEY);
+
+        assertEveryWindowAllocationFree(hs, turns -> playTurns(engine, turns));
+        assertEquals("regime sem falências", 4, engine.roster().aliveCount());
+        assertTrue("modo simulação não registra transações", engine.collectTransactions().isEmpty());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void liquidationAndBankruptcyShouldNotAllocateInSteadyState() {
+        final com.sun.management.ThreadMXBean hs = threads();
+        GameEngine engine = makeEngine(true, POOR_MONEY);
+        TurnMetrics metrics = new TurnMetrics(); // conta as liquidações
+        engine.setMetrics(metrics);
+
+        try (GameStateArena start = GameStateArena.forEngine(engine, 1)) {
+            final ShortMatches matches = new ShortMatches(engine, start);
+            assertEveryWindowAllocationFree(hs, matches);
+
+            assertTrue("o regime deve ter falências", matches.bankruptcies > 0);
+            // Cada falência passa pela liquidação; as demais foram vendas do LiquidationPlanner
+            assertTrue("o regime deve ter liquidações sem falência",
+                    metrics.snapshot(TurnPhase.LIQUIDATION).count() > matches.bankruptcies);
+        }
+        assertTrue("modo simulação não registra transações", engine.collectTransactions().isEmpty());
+    }
+
+    @Test(timeout = DEFAULT_TIMEOUT)
+    public void transactionLogShouldStillAllocateOutsideSimulation() {
+        // Controle: garante que a medição enxerga a alocação do registro de transações
+        final com.sun.management.ThreadMXBean hs = threads();
+        GameEngine engine = makeEngine(false, RICH_MONEY);
+        playTurns(engine, 1_000);
+        engine.collectTransactions();
+
+        assertTrue(allocatedBy(hs, turns -> playTurns(engine, turns), 1_000) > 0);
+        assertFalse(engine.collectTransactions().isEmpty());
+    }
+}
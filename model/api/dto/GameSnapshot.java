@@ -0,0 +1,52 @@
+package model.api.dto;
+
+/**
+ * DTO imutável com o estado visível da partida em um instante
+ * (posições, saldos, jogadores ativos, dados e última transação).
+ * Usado para atualizações em lote da View (ex.: modo auto-play).
+ */
+public final class GameSnapshot {
+
+    private final int[] positions;
+    private final int[] money;
+    private final boolean[] alive;
+    private final int currentPlayerIndex;
+    private final String currentPlayerName;
+    private final int dice1;
+    private final int dice2;
+    private final Transaction lastTransaction; // pode ser null
+    private final long turnsPlayed;            // turnos jogados no auto-play atual
+    private final boolean autoPlaying;         // false no último snapshot do auto-play
+
+    public GameSnapshot(int[] positions, int[] money, boolean[] alive,
+                        int currentPlayerIndex, String currentPlayerName,
+                        int dice1, int dice2, Transaction lastTransaction,
+                        long turnsPlayed, boolean autoPlaying) {
+        if (positions == null || money == null || alive == null)
+            throw new IllegalArgumentException("Arrays obrigatórios");
+        if (positions.length != money.length || positions.length != alive.length)
+            throw new IllegalArgumentException("Arrays devem ter o mesmo tamanho");
+        this.positions = positions.clone();
+        this.money = money.clone();
+        this.alive = alive.clone();
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.currentPlayerName = currentPlayerName;
+        this.dice1 = dice1;
+        this.dice2 = dice2;
+        this.lastTransaction = lastTransaction;
+        this.turnsPlayed = turnsPlayed;
+        this.autoPlaying = autoPlaying;
+    }
+
+    public int playerCount() { return positions.length; }
+    public int position(int playerIndex) { return positions[playerIndex]; }
+    public int money(int playerIndex) { return money[playerIndex]; }
+    public boolean isAlive(int playerIndex) { return alive[playerIndex]; }
+    public int currentPlayerIndex() { return currentPlayerIndex; }
+    public String currentPlayerName() { return currentPlayerName; }
+    public int dice1() { return dice1; }
+    public int dice2() { return dice2; }
+    public Transaction lastTransaction() { return lastTransaction; }
+    public long turnsPlayed() { return turnsPlayed; }
+    public boolean autoPlaying() { return autoPlaying; }
+}
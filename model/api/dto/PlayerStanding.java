@@ -0,0 +1,38 @@
+package model.api.dto;
+
+/**
+ * DTO imutável com a posição de um jogador na classificação:
+ * dinheiro, investimento em propriedades (preço + construções) e patrimônio líquido.
+ */
+public final class PlayerStanding {
+
+    private final int rank;          // 1 = primeiro colocado
+    private final int playerIndex;
+    private final String name;
+    private final PlayerColor color;
+    private final int cash;
+    private final int investment;
+    private final int netWorth;
+    private final boolean alive;
+
+    public PlayerStanding(int rank, int playerIndex, String name, PlayerColor color,
+                          int cash, int investment, int netWorth, boolean alive) {
+        this.rank = rank;
+        this.playerIndex = playerIndex;
+        this.name = name;
+        this.color = color;
+        this.cash = cash;
+        this.investment = investment;
+        this.netWorth = netWorth;
+        this.alive = alive;
+    }
+
+    public int rank() { return rank; }
+    public int playerIndex() { return playerIndex; }
+    public String name() { return name; }
+    public PlayerColor color() { return color; }
+    public int cash() { return cash; }
+    public int investment() { return investment; }
+    public int netWorth() { return netWorth; }
+    public boolean isAlive() { return alive; }
+}
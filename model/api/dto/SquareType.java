@@ -0,0 +1,21 @@
+package model.api.dto;
+
+/**
+ * Tipo de uma casa do tabuleiro, usado para despachar efeitos e notificações
+ * sem reflexão nem comparação de strings. O Board guarda o ordinal de cada casa
+ * em um byte[]; use {@link #fromCode(int)} para voltar ao enum sem alocar.
+ */
+public enum SquareType {
+    START, JAIL, PARKING, STREET, COMPANY, MONEY, GO_TO_JAIL, CHANCE, OTHER;
+
+    private static final SquareType[] BY_CODE = values();
+
+    /** Código compacto (ordinal) do tipo. */
+    public byte code() { return (byte) ordinal(); }
+
+    /** Tipo correspondente ao código. */
+    public static SquareType fromCode(final int code) { return BY_CODE[code]; }
+
+    /** Casa que pode ter dono (rua ou companhia)? */
+    public boolean isOwnable() { return this == STREET || this == COMPANY; }
+}
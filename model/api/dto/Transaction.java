@@ -15,8 +15,21 @@ public final class Transaction {
     public final int amount;      // valor positivo da transferência
     public final int fromBalanceAfter; // saldo do pagador após a operação (ou caixa do banco se from==BANK)
     public final int toBalanceAfter;   // saldo do recebedor após a operação (ou caixa do banco se to==BANK)
+    public final int legCount;    // número de pernas de um lançamento múltiplo (0 se simples)
+
+    /** Contraparte de um lançamento múltiplo (ex.: carta "paga a todos"). */
+    public static final String ALL_PLAYERS = "ALL";
 
     public Transaction(String fromId, PlayerColor fromColor, String toId, PlayerColor toColor, int amount, int fromBalanceAfter, int toBalanceAfter) {
+        this(fromId, fromColor, toId, toColor, amount, fromBalanceAfter, toBalanceAfter, 0);
+    }
+
+    /**
+     * Lançamento múltiplo: um jogador contra vários (id ALL_PLAYERS do outro lado).
+     * amount é o total (amount / legCount por perna); o saldo de ALL_PLAYERS é a soma
+     * dos saldos das contrapartes. As pernas não são copiadas uma a uma.
+     */
+    public Transaction(String fromId, PlayerColor fromColor, String toId, PlayerColor toColor, int amount, int fromBalanceAfter, int toBalanceAfter, int legCount) {
         this.fromId = fromId;
         this.fromColor = fromColor;
         this.toId = toId;
@@ -24,10 +37,19 @@ public final class Transaction {
         this.amount = amount;
         this.fromBalanceAfter = fromBalanceAfter;
         this.toBalanceAfter = toBalanceAfter;
+        this.legCount = legCount;
+    }
+
+    /** É um lançamento com várias pernas? */
+    public boolean isMultiLeg() {
+        return legCount > 0;
     }
 
     @Override
     public String toString() {
+        if (isMultiLeg()) {
+            return String.format("Transaction{from=%s,to=%s,amt=%d,legs=%d}", fromId, toId, amount, legCount);
+        }
         return String.format("Transaction{from=%s,to=%s,amt=%d}", fromId, toId, amount);
     }
 }
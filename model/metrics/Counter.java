@@ -0,0 +1,29 @@
+/* ===========================================================
+ * Counter ; contador monotônico (LongAdder: células por thread sob disputa).
+ * =========================================================== */
+
+package model.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Counter {
+
+    private final LongAdder adder = new LongAdder();
+
+    Counter() {
+        // Criado pelo MetricsRegistry
+    }
+
+    public void increment() {
+        adder.increment();
+    }
+
+    public void add(final long amount) {
+        if (amount < 0) throw new IllegalArgumentException("Contador não pode diminuir: " + amount);
+        adder.add(amount);
+    }
+
+    public long value() {
+        return adder.sum();
+    }
+}
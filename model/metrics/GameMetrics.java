@@ -0,0 +1,97 @@
+/* ===========================================================
+ * GameMetrics ; métricas de operação do jogo (todas as partidas do processo).
+ * Alimentado pelo GameController/MatchTable (sessões), GameEngine/EconomyService
+ * (turnos, latência, falências) e Bank (transações).
+ * =========================================================== */
+
+package model.metrics;
+
+/**
+ * Taxas por segundo saem do Prometheus: rate(monopoly_turns_total[1m]),
+ * rate(monopoly_transactions_total[1m]); falências por partida:
+ * rate(monopoly_bankruptcies_total[5m]) / rate(monopoly_games_finished_total[5m]).
+ * GameMetrics.NONE não grava nada nem lê o relógio (padrão do motor).
+ */
+public final class GameMetrics {
+
+    /** Instância desligada. */
+    public static final GameMetrics NONE = new GameMetrics();
+
+    private static final GameMetrics GLOBAL = new GameMetrics(MetricsRegistry.global());
+
+    private final boolean enabled;
+    private final Counter gamesStarted;
+    private final Counter gamesFinished;
+    private final Gauge activeSessions;
+    private final Counter turns;
+    private final Counter transactions;
+    private final Counter bankruptcies;
+    private final LatencyHistogram turnLatency;
+
+    private GameMetrics() {
+        this.enabled = false;
+        this.gamesStarted = null;
+        this.gamesFinished = null;
+        this.activeSessions = null;
+        this.turns = null;
+        this.transactions = null;
+        this.bankruptcies = null;
+        this.turnLatency = null;
+    }
+
+    public GameMetrics(final MetricsRegistry registry) {
+        this.enabled = true;
+        this.gamesStarted = registry.counter("monopoly_games_started_total", "Partidas iniciadas.");
+        this.gamesFinished = registry.counter("monopoly_games_finished_total", "Partidas encerradas.");
+        this.activeSessions = registry.gauge("monopoly_active_sessions", "Partidas em andamento.");
+        this.turns = registry.counter("monopoly_turns_total", "Turnos encerrados.");
+        this.transactions = registry.counter("monopoly_transactions_total", "Transações do banco (incluindo pernas de cartas).");
+        this.bankruptcies = registry.counter("monopoly_bankruptcies_total", "Jogadores falidos.");
+        this.turnLatency = registry.histogram("monopoly_turn_latency_seconds",
+                "Tempo do motor para resolver a jogada (rolar, mover, casa, carta, liquidação).");
+    }
+
+    /** Métricas do registro global do processo. */
+    public static GameMetrics global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    // ===== Sessões (Controller) =====
+
+    public void gameStarted() {
+        if (!enabled) return;
+        gamesStarted.increment();
+        activeSessions.increment();
+    }
+
+    public void gameFinished() {
+        if (!enabled) return;
+        gamesFinished.increment();
+        activeSessions.decrement();
+    }
+
+    // ===== Motor e banco =====
+
+    /** Instante de início da jogada (0 se desligado). */
+    public long turnStart() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void turnResolved(final long start) {
+        if (enabled) turnLatency.record(System.nanoTime() - start);
+    }
+
+    public void turnCompleted() {
+        if (enabled) turns.increment();
+    }
+
+    public void transactions(final int count) {
+        if (enabled) transactions.add(count);
+    }
+
+    public void bankruptcy() {
+        if (enabled) bankruptcies.increment();
+    }
+}
@@ -0,0 +1,35 @@
+/* ===========================================================
+ * Gauge ; valor que sobe e desce (LongAdder) ou lido de uma função.
+ * =========================================================== */
+
+package model.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public final class Gauge {
+
+    private final LongAdder adder = new LongAdder();
+    private final LongSupplier supplier; // null = ajustado por increment/decrement/add
+
+    Gauge(final LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void decrement() {
+        add(-1);
+    }
+
+    public void add(final long delta) {
+        if (supplier != null) throw new IllegalStateException("Gauge lido de uma função não pode ser ajustado.");
+        adder.add(delta);
+    }
+
+    public long value() {
+        return (supplier != null) ? supplier.getAsLong() : adder.sum();
+    }
+}
@@ -0,0 +1,62 @@
+/* ===========================================================
+ * HistogramSnapshot ; retrato imutável de um LatencyHistogram.
+ * =========================================================== */
+
+package model.metrics;
+
+public final class HistogramSnapshot {
+
+    private final String name;
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(final String name, final long[] counts, final long count, final long sum, final long max) {
+        this.name = name;
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public String name() { return name; }
+
+    /** Quantidade de gravações. */
+    public long count() { return count; }
+
+    /** Soma das durações gravadas, em ns. */
+    public long sum() { return sum; }
+
+    /** Maior duração gravada (exata), em ns. */
+    public long max() { return max; }
+
+    /** Média em ns (0 se vazio). */
+    public double mean() {
+        return (count == 0) ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Percentil (0..100) em ns: maior valor do balde que o contém,
+     * limitado ao máximo gravado. 0 se vazio.
+     */
+    public long percentile(final double percent) {
+        if (percent < 0.0 || percent > 100.0) throw new IllegalArgumentException("Percentil fora de 0..100: " + percent);
+        if (count == 0) return 0L;
+        final long rank = Math.max(1L, (long) Math.ceil(percent / 100.0 * count));
+        long seen = 0;
+        for (int b = 0; b < counts.length; b++) {
+            seen += counts[b];
+            if (seen >= rank) return Math.min(LatencyHistogram.highestIn(b), max);
+        }
+        return max;
+    }
+
+    /** Menor duração gravada (limite inferior do primeiro balde não vazio), em ns. */
+    public long min() {
+        for (int b = 0; b < counts.length; b++) {
+            if (counts[b] != 0) return LatencyHistogram.lowestIn(b);
+        }
+        return 0L;
+    }
+}
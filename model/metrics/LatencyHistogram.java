@@ -0,0 +1,99 @@
+/* ===========================================================
+ * LatencyHistogram ; histograma de latências (ns) em baldes logarítmicos.
+ * Estilo HDR: 16 sub-baldes por potência de 2 (erro relativo <= 6,25%).
+ * Cada thread grava no seu próprio gravador, sem locks nem CAS;
+ * a leitura soma os gravadores de todas as threads.
+ * =========================================================== */
+
+package model.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class LatencyHistogram {
+
+    // Valores < SUB_BUCKETS são exatos; acima disso, HALF sub-baldes por potência de 2
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int HALF = SUB_BUCKETS >> 1;
+
+    /** Maior valor distinguível (~68 s); acima disso cai no último balde. */
+    public static final long MAX_TRACKABLE = (1L << 36) - 1;
+
+    static final int BUCKETS = bucketOf(MAX_TRACKABLE) + 1;
+
+    // Posições extras no fim do array de cada gravador
+    private static final int COUNT = BUCKETS;
+    private static final int SUM = BUCKETS + 1;
+    private static final int MAX = BUCKETS + 2;
+    private static final int SLOTS = BUCKETS + 3;
+
+    private final String name;
+    private final List<AtomicLongArray> recorders = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<AtomicLongArray> local = ThreadLocal.withInitial(this::newRecorder);
+
+    public LatencyHistogram(final String name) {
+        this.name = name;
+    }
+
+    public String name() { return name; }
+
+    /**
+     * Registra uma duração em nanossegundos (negativos contam como 0).
+     * Só a thread dona escreve no seu gravador: leitura simples + escrita com release.
+     */
+    public void record(final long nanos) {
+        final long v = Math.max(0L, Math.min(nanos, MAX_TRACKABLE));
+        final AtomicLongArray r = local.get();
+        final int b = bucketOf(v);
+        r.setRelease(b, r.getPlain(b) + 1);
+        r.setRelease(COUNT, r.getPlain(COUNT) + 1);
+        r.setRelease(SUM, r.getPlain(SUM) + v);
+        if (v > r.getPlain(MAX)) r.setRelease(MAX, v);
+    }
+
+    /** Soma os gravadores de todas as threads (pode não incluir gravações em andamento). */
+    public HistogramSnapshot snapshot() {
+        final long[] counts = new long[BUCKETS];
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+        for (AtomicLongArray r : recorders) {
+            for (int b = 0; b < BUCKETS; b++) counts[b] += r.getAcquire(b);
+            count += r.getAcquire(COUNT);
+            sum += r.getAcquire(SUM);
+            max = Math.max(max, r.getAcquire(MAX));
+        }
+        return new HistogramSnapshot(name, counts, count, sum, max);
+    }
+
+    private AtomicLongArray newRecorder() {
+        final AtomicLongArray r = new AtomicLongArray(SLOTS);
+        recorders.add(r);
+        return r;
+    }
+
+    // ===== Baldes =====
+
+    /** Balde do valor: exato abaixo de SUB_BUCKETS; depois, pelos 5 bits mais altos. */
+    static int bucketOf(final long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        final int shift = 63 - Long.numberOfLeadingZeros(v) - (SUB_BITS - 1);
+        return shift * HALF + (int) (v >>> shift);
+    }
+
+    /** Menor valor que cai no balde. */
+    static long lowestIn(final int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        final int shift = bucket / HALF - 1;
+        return (long) (bucket % HALF + HALF) << shift;
+    }
+
+    /** Maior valor que cai no balde. */
+    static long highestIn(final int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        final int shift = bucket / HALF - 1;
+        return ((long) (bucket % HALF + HALF + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,107 @@
+/* ===========================================================
+ * MetricsRegistry ; contadores, gauges e histogramas com nome,
+ * exportados no formato de texto do Prometheus (versão 0.0.4).
+ * =========================================================== */
+
+package model.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Registro de métricas. O registro (get-or-create por nome) é sincronizado,
+ * mas só acontece na criação; gravar nas métricas não passa pelo registro.
+ * A exportação lê os valores sem bloquear quem grava.
+ * Histogramas são exportados como summary em segundos (quantis 0.5, 0.9, 0.99, 0.999).
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(); // guardado por this
+
+    private record Entry(String name, String help, String type, Object metric) {}
+
+    /** Registro do processo (alimentado pelo jogo e exportado pelo MetricsServer). */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(final String name, final String help) {
+        return register(name, help, "counter", Counter.class, Counter::new);
+    }
+
+    /** Gauge ajustado com increment/decrement/add. */
+    public Gauge gauge(final String name, final String help) {
+        return register(name, help, "gauge", Gauge.class, () -> new Gauge(null));
+    }
+
+    /** Gauge lido de uma função a cada exportação. */
+    public Gauge gauge(final String name, final String help, final LongSupplier supplier) {
+        if (supplier == null) throw new IllegalArgumentException("supplier não pode ser nulo");
+        return register(name, help, "gauge", Gauge.class, () -> new Gauge(supplier));
+    }
+
+    /** Histograma de latências em ns (exportado em segundos). */
+    public LatencyHistogram histogram(final String name, final String help) {
+        return register(name, help, "summary", LatencyHistogram.class, () -> new LatencyHistogram(name));
+    }
+
+    private synchronized <T> T register(final String name, final String help, final String type,
+                                        final Class<T> kind, final Supplier<T> factory) {
+        if (name == null || !NAME.matcher(name).matches()) throw new IllegalArgumentException("Nome de métrica inválido: " + name);
+        final Entry existing = entries.get(name);
+        if (existing != null) {
+            if (!kind.isInstance(existing.metric())) {
+                throw new IllegalArgumentException("Métrica já registrada com outro tipo: " + name);
+            }
+            return kind.cast(existing.metric());
+        }
+        final T metric = factory.get();
+        entries.put(name, new Entry(name, help == null ? "" : help, type, metric));
+        return metric;
+    }
+
+    /** Todas as métricas no formato de texto do Prometheus. */
+    public String scrape() {
+        final List<Entry> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(entries.values());
+        }
+        final StringBuilder sb = new StringBuilder(snapshot.size() * 128);
+        for (Entry e : snapshot) {
+            sb.append("# HELP ").append(e.name()).append(' ').append(escapeHelp(e.help())).append('\n');
+            sb.append("# TYPE ").append(e.name()).append(' ').append(e.type()).append('\n');
+            if (e.metric() instanceof Counter c) {
+                sb.append(e.name()).append(' ').append(c.value()).append('\n');
+            } else if (e.metric() instanceof Gauge g) {
+                sb.append(e.name()).append(' ').append(g.value()).append('\n');
+            } else if (e.metric() instanceof LatencyHistogram h) {
+                final HistogramSnapshot s = h.snapshot();
+                for (double q : QUANTILES) {
+                    sb.append(e.name()).append("{quantile=\"").append(q).append("\"} ")
+                      .append(seconds(s.percentile(q * 100.0))).append('\n');
+                }
+                sb.append(e.name()).append("_sum ").append(seconds(s.sum())).append('\n');
+                sb.append(e.name()).append("_count ").append(s.count()).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String seconds(final long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+    }
+
+    private static String escapeHelp(final String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,225 @@
+/* ===========================================================
+ * TraceRecorder ; linha do tempo de uma partida no formato Trace Event
+ * do Chrome (chrome://tracing, ui.perfetto.dev).
+ * Alimentado pelo GameController (ações e callbacks dos observers),
+ * pelo TurnMetrics (fases do motor) e pela View (entrega na EDT).
+ * =========================================================== */
+
+package model.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Uso: {@code final long t0 = trace.begin(); ...; trace.end("controller", "endTurn", t0);}
+ * Cada trecho (início e duração) ocupa uma posição de um anel pré-alocado; cheio,
+ * o anel sobrescreve os trechos mais antigos. Gravar não aloca: nomes, categorias
+ * e detalhes devem ser strings já existentes (constantes, nomes de classe).
+ * O JSON só é montado em writeJson, a pedido.
+ * TraceRecorder.DISABLED não lê o relógio nem grava nada.
+ */
+public final class TraceRecorder {
+
+    /** Capacidade padrão do anel (trechos). */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** Instância desligada. */
+    public static final TraceRecorder DISABLED = new TraceRecorder();
+
+    private final boolean enabled;
+    private final int mask;
+    // Anel de trechos (guardado por this)
+    private final long[] starts;
+    private final long[] durations;
+    private final String[] categories;
+    private final String[] names;
+    private final String[] details;
+    private final Thread[] threads;
+    private long written;
+    private long origin = System.nanoTime();
+
+    private TraceRecorder() {
+        this.enabled = false;
+        this.mask = 0;
+        this.starts = null;
+        this.durations = null;
+        this.categories = null;
+        this.names = null;
+        this.details = null;
+        this.threads = null;
+    }
+
+    /**
+     * @param capacity número máximo de trechos guardados (arredondado para potência de 2)
+     */
+    public TraceRecorder(final int capacity) {
+        if (capacity <= 0 || capacity > (1 << 24)) throw new IllegalArgumentException("Capacidade inválida: " + capacity);
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.enabled = true;
+        this.mask = size - 1;
+        this.starts = new long[size];
+        this.durations = new long[size];
+        this.categories = new String[size];
+        this.names = new String[size];
+        this.details = new String[size];
+        this.threads = new Thread[size];
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    public int capacity() { return mask + 1; }
+
+    /** Instante de início do trecho (0 se desligado). */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /** Fecha o trecho iniciado em {@code start} na thread atual. */
+    public void end(final String category, final String name, final long start) {
+        if (start != 0L) record(category, name, null, start, System.nanoTime());
+    }
+
+    /** Fecha o trecho com um detalhe (exportado em args.detail). */
+    public void end(final String category, final String name, final String detail, final long start) {
+        if (start != 0L) record(category, name, detail, start, System.nanoTime());
+    }
+
+    /**
+     * Grava um trecho já medido (instantes de System.nanoTime) na thread atual.
+     * Trechos iniciados antes do início da gravação (ou do último clear) são ignorados.
+     */
+    public void record(final String category, final String name, final String detail,
+                       final long start, final long end) {
+        if (!enabled) return;
+        final Thread thread = Thread.currentThread();
+        synchronized (this) {
+            if (start - origin < 0) return;
+            final int slot = (int) (written++ & mask);
+            starts[slot] = start;
+            durations[slot] = end - start;
+            categories[slot] = category;
+            names[slot] = name;
+            details[slot] = detail;
+            threads[slot] = thread;
+        }
+    }
+
+    /** Trechos guardados no anel. */
+    public synchronized int size() {
+        return (int) Math.min(written, capacity());
+    }
+
+    /** Trechos sobrescritos por falta de espaço desde o último clear. */
+    public synchronized long dropped() {
+        return Math.max(0L, written - capacity());
+    }
+
+    /** Descarta os trechos gravados e reinicia a origem da linha do tempo. */
+    public synchronized void clear() {
+        if (!enabled) return;
+        written = 0;
+        origin = System.nanoTime();
+        Arrays.fill(categories, null);
+        Arrays.fill(names, null);
+        Arrays.fill(details, null);
+        Arrays.fill(threads, null);
+    }
+
+    /** Grava o JSON (Trace Event Format) no arquivo, substituindo o conteúdo. */
+    public void writeJson(final Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeJson(out);
+        }
+    }
+
+    /**
+     * Escreve os trechos como eventos completos ("ph":"X", tempos em µs desde a
+     * origem), mais o nome de cada thread. A cópia do anel é feita sob o lock;
+     * a escrita, fora dele.
+     */
+    public void writeJson(final Appendable out) throws IOException {
+        final int n;
+        final long base;
+        final long[] s, d;
+        final String[] c, nm, dt;
+        final Thread[] th;
+        synchronized (this) {
+            n = size();
+            base = origin;
+            s = new long[n];
+            d = new long[n];
+            c = new String[n];
+            nm = new String[n];
+            dt = new String[n];
+            th = new Thread[n];
+            final long first = written - n; // mais antigo ainda no anel
+            for (int i = 0; i < n; i++) {
+                final int slot = (int) ((first + i) & mask);
+                s[i] = starts[slot];
+                d[i] = durations[slot];
+                c[i] = categories[slot];
+                nm[i] = names[slot];
+                dt[i] = details[slot];
+                th[i] = threads[slot];
+            }
+        }
+
+        final Map<Thread, Long> tids = new LinkedHashMap<>();
+        out.append("{\"displayTimeUnit\":\"ns\",\"traceEvents\":[\n");
+        out.append("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":1,\"tid\":0,\"args\":{\"name\":\"Monopoly\"}}");
+        for (int i = 0; i < n; i++) {
+            final long tid = tids.computeIfAbsent(th[i], Thread::threadId);
+            out.append(",\n{\"name\":");
+            appendString(out, nm[i]);
+            out.append(",\"cat\":");
+            appendString(out, c[i]);
+            out.append(",\"ph\":\"X\",\"ts\":").append(micros(s[i] - base))
+               .append(",\"dur\":").append(micros(d[i]))
+               .append(",\"pid\":1,\"tid\":").append(Long.toString(tid));
+            if (dt[i] != null) {
+                out.append(",\"args\":{\"detail\":");
+                appendString(out, dt[i]);
+                out.append('}');
+            }
+            out.append('}');
+        }
+        for (Map.Entry<Thread, Long> e : tids.entrySet()) {
+            out.append(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(Long.toString(e.getValue()))
+               .append(",\"args\":{\"name\":");
+            appendString(out, e.getKey().getName());
+            out.append("}}");
+        }
+        out.append("\n]}\n");
+    }
+
+    private static String micros(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000.0);
+    }
+
+    private static void appendString(final Appendable out, final String value) throws IOException {
+        out.append('"');
+        final String v = value == null ? "" : value;
+        for (int i = 0; i < v.length(); i++) {
+            final char ch = v.charAt(i);
+            switch (ch) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (ch < 0x20) out.append(String.format(Locale.ROOT, "\\u%04x", (int) ch));
+                    else out.append(ch);
+                }
+            }
+        }
+        out.append('"');
+    }
+}
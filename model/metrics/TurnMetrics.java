@@ -0,0 +1,86 @@
+/* ===========================================================
+ * TurnMetrics ; histogramas de latência por fase do turno.
+ * Gravado pelo GameEngine/EconomyService (fases do motor) e pelo
+ * GameController (repasse das notificações aos observers).
+ * =========================================================== */
+
+package model.metrics;
+
+import java.util.Locale;
+
+/**
+ * Uso: {@code final long t0 = metrics.start(); ...; metrics.stop(TurnPhase.ROLL, t0);}
+ * Desligado, start/stop não leem o relógio nem gravam nada.
+ * A gravação não aloca (após a primeira gravação de cada thread).
+ * Com um TraceRecorder anexado (setTrace), cada fase vira também um trecho da linha do tempo.
+ */
+public final class TurnMetrics {
+
+    private static final TurnPhase[] PHASES = TurnPhase.values();
+    private static final String TRACE_CATEGORY = "phase";
+
+    /** Instância desligada (padrão do motor). */
+    public static final TurnMetrics DISABLED = new TurnMetrics(false);
+
+    private final boolean enabled;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private volatile TraceRecorder trace = TraceRecorder.DISABLED;
+
+    public TurnMetrics() {
+        this(true);
+    }
+
+    private TurnMetrics(final boolean enabled) {
+        this.enabled = enabled;
+        for (TurnPhase phase : PHASES) histograms[phase.ordinal()] = new LatencyHistogram(phase.label());
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /** Anexa a linha do tempo das fases (TraceRecorder.DISABLED desanexa). */
+    public void setTrace(final TraceRecorder trace) {
+        if (trace == null) throw new IllegalArgumentException("trace não pode ser nulo");
+        if (!enabled) throw new IllegalStateException("Métricas desligadas: não é possível anexar trace");
+        this.trace = trace;
+    }
+
+    /** Instante de início da fase (0 se desligado). */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /** Grava a duração da fase iniciada em {@code start}. */
+    public void stop(final TurnPhase phase, final long start) {
+        if (!enabled) return;
+        final long end = System.nanoTime();
+        histograms[phase.ordinal()].record(end - start);
+        trace.record(TRACE_CATEGORY, phase.label(), null, start, end);
+    }
+
+    public LatencyHistogram histogram(final TurnPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public HistogramSnapshot snapshot(final TurnPhase phase) {
+        return histograms[phase.ordinal()].snapshot();
+    }
+
+    /** Tabela de texto com contagem, média, percentis e máximo por fase (em µs). */
+    public String dump() {
+        final StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "%-15s %10s %10s %10s %10s %10s %10s %10s%n",
+                "phase", "count", "mean(us)", "p50", "p90", "p99", "p99.9", "max"));
+        for (TurnPhase phase : PHASES) {
+            final HistogramSnapshot s = snapshot(phase);
+            sb.append(String.format(Locale.ROOT, "%-15s %10d %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    phase.label(), s.count(), s.mean() / 1_000.0,
+                    micros(s.percentile(50)), micros(s.percentile(90)), micros(s.percentile(99)),
+                    micros(s.percentile(99.9)), micros(s.max())));
+        }
+        return sb.toString();
+    }
+
+    private static double micros(final long nanos) {
+        return nanos / 1_000.0;
+    }
+}
@@ -0,0 +1,24 @@
+/* ===========================================================
+ * TurnPhase ; fases do turno medidas pelo TurnMetrics.
+ * =========================================================== */
+
+package model.metrics;
+
+public enum TurnPhase {
+    ROLL("roll"),
+    JAIL_RULES("applyJailRules"),
+    MOVE("moveBy"),
+    LAND("onLand"),
+    CARD("cardEffect"),
+    LIQUIDATION("liquidation"),
+    END_TURN("endTurn"),
+    NOTIFY("notify");
+
+    private final String label;
+
+    TurnPhase(final String label) {
+        this.label = label;
+    }
+
+    public String label() { return label; }
+}
@@ -10,9 +10,9 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.text.Normalizer;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import model.api.dto.Ownables;
@@ -28,8 +28,8 @@ public class BoardPanel extends JPanel {
     private static final long serialVersionUID = 1L;
     
     // Dimensões do painel
-    private static final int PANEL_WIDTH = 1000;
-    private static final int PANEL_HEIGHT = 800;
+    static final int PANEL_WIDTH = 1000;
+    static final int PANEL_HEIGHT = 800;
     
     // Configuração geométrica do tabuleiro (imagem 700x700)
     private static final int TOTAL_SQUARES = 40; // casas no tabuleiro
@@ -61,12 +61,28 @@ public class BoardPanel extends JPanel {
     private Ownables.Street currentStreetInfo = null;
     private Ownables.Company currentCompanyInfo = null;
     
-    // Cache de imagens
-    private Map<String, BufferedImage> imageCache;
+    // Cache de imagens (compartilhado entre instâncias; carregado uma única vez)
+    private static volatile Map<String, BufferedImage> sharedImageCache;
+    private final Map<String, BufferedImage> imageCache;
     
     // Última transação a ser exibida e para qual jogador (nome)
     private Transaction lastTransaction = null;
     private String lastTransactionForPlayer = null; // ex: "Player 1"
+    
+    // Mapa de calor de pousos: camada em cache, reconstruída no máximo a cada HEAT_REBUILD_MS
+    private static final int HEAT_REBUILD_MS = 250;
+    private long[] heatCounts = null; // null = overlay desligado
+    private boolean heatDirty = false;
+    private BufferedImage heatLayer = null;
+    private long heatBuiltAt = 0L;
+    private Timer heatRebuildTimer = null;
+    
+    // Tabuleiro já escalado para BOARD_SIZE com o mapa de calor aplicado (opaco, em cache)
+    private BufferedImage boardLayer = null;
+    
+    // Cronômetros da instrumentação (ativos apenas com UiTimings ligado)
+    private final UiTimings.Lap frameLap = new UiTimings.Lap();
+    private final UiTimings.Lap drawLap = new UiTimings.Lap();
 
     public BoardPanel() {
         setPreferredSize(new Dimension(PANEL_WIDTH, PANEL_HEIGHT));
@@ -84,15 +100,30 @@ public class BoardPanel extends JPanel {
         // Inicialmente todos os jogadores estão vivos/visíveis
         for (int i = 0; i < playerAlive.length; i++) playerAlive[i] = true;
         
-        // Inicializa cache de imagens
-        imageCache = new HashMap<>();
-        loadImages();
+        // Usa o cache de imagens compartilhado (vários painéis, ex.: galeria de mesas)
+        imageCache = sharedImages();
+    }
+
+    /** Retorna o cache compartilhado, carregando as imagens na primeira chamada. */
+    private static Map<String, BufferedImage> sharedImages() {
+        Map<String, BufferedImage> cache = sharedImageCache;
+        if (cache == null) {
+            synchronized (BoardPanel.class) {
+                cache = sharedImageCache;
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<>();
+                    loadImages(cache);
+                    sharedImageCache = cache;
+                }
+            }
+        }
+        return cache;
     }
 
     /**
      * Carrega as imagens dos assets.
      */
-    private void loadImages() {
+    private static void loadImages(Map<String, BufferedImage> imageCache) {
         try {
             // Carrega tabuleiro
             File boardFile = new File("src/view/assets/tabuleiro.png");
@@ -226,8 +257,28 @@ public class BoardPanel extends JPanel {
         repaint();
     }
     
+    /**
+     * Define os contadores de pouso por casa para o mapa de calor (null desliga o overlay).
+     * Pode ser chamado a cada atualização: a camada só é refeita algumas vezes por segundo.
+     */
+    public void setHeatMap(long[] counts) {
+        this.heatCounts = (counts != null) ? counts.clone() : null;
+        this.heatDirty = true;
+        repaint();
+    }
+    
     @Override
     protected void paintComponent(Graphics g) {
+        frameLap.start();
+        try {
+            paintBoard(g);
+        } finally {
+            frameLap.split("BoardPanel.paintComponent");
+        }
+    }
+
+    /** Desenha todo o conteúdo do painel (chamado por paintComponent). */
+    private void paintBoard(Graphics g) {
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
         
@@ -238,23 +289,34 @@ public class BoardPanel extends JPanel {
         // Centraliza o tabuleiro
         int offsetX = (PANEL_WIDTH - BOARD_SIZE) / 2;
         int offsetY = (PANEL_HEIGHT - BOARD_SIZE) / 2;
+        drawLap.start();
         // Desenha caixa de transação no topo (se houver)
         drawTransactionBox(g2d, offsetX, offsetY);
+        drawLap.split("BoardPanel.drawTransactionBox");
+        
+        // Atualiza a camada do mapa de calor (se mudou e já pode ser refeita)
+        updateHeatLayer();
+        drawLap.split("BoardPanel.updateHeatLayer");
         
-        // Desenha o tabuleiro
+        // Desenha o tabuleiro (com o mapa de calor, se ligado)
         drawBoard(g2d, offsetX, offsetY);
+        drawLap.split("BoardPanel.drawBoard");
         
         // Desenha os jogadores
         drawPlayers(g2d, offsetX, offsetY);
+        drawLap.split("BoardPanel.drawPlayers");
         
         // Desenha os dados
         drawDice(g2d, offsetX, offsetY);
+        drawLap.split("BoardPanel.drawDice");
 
         // Se houver propriedade, desenha a caixa de informações entre os dados e a carta
         if (propertyName != null && !propertyName.isBlank()) {
             drawOwnableStreetInfo(g2d, offsetX, offsetY);
+            drawLap.split("BoardPanel.drawOwnableStreetInfo");
             // Desenha uma segunda caixa menor por cima (overlay)
             drawOwnableCompanyInfo(g2d, offsetX, offsetY);
+            drawLap.split("BoardPanel.drawOwnableCompanyInfo");
         }
 
         // Desenha a carta da vez (se houver)
@@ -263,17 +325,21 @@ public class BoardPanel extends JPanel {
         {
         	drawCard(g2d, offsetX, offsetY, imgChance);
         }
+        drawLap.split("BoardPanel.drawCard(chance)");
         
         // Desenha a propriedade/companhia atual (se houver)
         BufferedImage imgProperty = getPropertyCard();
         if (imgProperty != null)
         {
         	drawCard(g2d, offsetX, offsetY, imgProperty);
+        	drawLap.split("BoardPanel.drawCard(property)");
         	
             if (currentStreetInfo != null) {
                 drawOwnableStreetInfo(g2d, offsetX, offsetY);
+                drawLap.split("BoardPanel.drawOwnableStreetInfo");
             } else if (currentCompanyInfo != null) {
                 drawOwnableCompanyInfo(g2d, offsetX, offsetY);
+                drawLap.split("BoardPanel.drawOwnableCompanyInfo");
             }
             
         }
@@ -586,11 +652,9 @@ public class BoardPanel extends JPanel {
      * Desenha o tabuleiro (40 casas em formato quadrado).
      */
     private void drawBoard(Graphics2D g2d, int offsetX, int offsetY) {
-        // Usa a imagem do tabuleiro se disponível
+        // Usa a imagem do tabuleiro se disponível (já escalada e com o mapa de calor)
         if (imageCache.containsKey("board")) {
-            BufferedImage boardImg = imageCache.get("board");
-            // Desenha a imagem do tabuleiro ajustada ao tamanho
-            g2d.drawImage(boardImg, offsetX, offsetY, BOARD_SIZE, BOARD_SIZE, null);
+            g2d.drawImage(getBoardLayer(), offsetX, offsetY, null);
         } else {
             // Fallback: Desenha o tabuleiro proceduralmente
             
@@ -604,6 +668,93 @@ public class BoardPanel extends JPanel {
                 Point pos = getSquarePosition(i, offsetX, offsetY);
                 drawSquare(g2d, pos.x, pos.y, i);
             }
+            if (heatLayer != null) {
+                g2d.drawImage(heatLayer, offsetX, offsetY, null);
+            }
+        }
+    }
+
+    /** Retorna o tabuleiro em cache (imagem escalada + mapa de calor), criando se preciso. */
+    private BufferedImage getBoardLayer() {
+        if (boardLayer == null) {
+            boardLayer = new BufferedImage(BOARD_SIZE, BOARD_SIZE, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = boardLayer.createGraphics();
+            try {
+                g.drawImage(imageCache.get("board"), 0, 0, BOARD_SIZE, BOARD_SIZE, null);
+                if (heatLayer != null) {
+                    g.drawImage(heatLayer, 0, 0, null);
+                }
+            } finally {
+                g.dispose();
+            }
+        }
+        return boardLayer;
+    }
+    
+    /**
+     * Reconstrói a camada do mapa de calor se os dados mudaram. Se a última
+     * reconstrução foi há menos de HEAT_REBUILD_MS, mantém a camada atual e
+     * agenda um novo repaint.
+     */
+    private void updateHeatLayer() {
+        if (!heatDirty) return;
+
+        long now = System.currentTimeMillis();
+        long wait = heatBuiltAt + HEAT_REBUILD_MS - now;
+        if (wait > 0 && heatCounts != null && heatLayer != null) {
+            scheduleHeatRebuild((int) wait);
+            return;
+        }
+
+        if (heatCounts == null) {
+            heatLayer = null;
+        } else {
+            rebuildHeatLayer();
+        }
+        heatBuiltAt = now;
+        heatDirty = false;
+        boardLayer = null; // recompõe o tabuleiro com a nova camada
+    }
+
+    /** Redesenha a camada: cada casa recebe amarelo→vermelho proporcional ao máximo. */
+    private void rebuildHeatLayer() {
+        if (heatLayer == null) {
+            heatLayer = new BufferedImage(BOARD_SIZE, BOARD_SIZE, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        Graphics2D g = heatLayer.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, BOARD_SIZE, BOARD_SIZE);
+            g.setComposite(AlphaComposite.SrcOver);
+
+            int n = Math.min(TOTAL_SQUARES, heatCounts.length);
+            long max = 0;
+            for (int i = 0; i < n; i++) max = Math.max(max, heatCounts[i]);
+            if (max == 0) return;
+
+            for (int i = 0; i < n; i++) {
+                if (heatCounts[i] <= 0) continue;
+                float t = (float) heatCounts[i] / max;
+                int green = Math.round(255 * (1f - t));
+                int alpha = 40 + Math.round(140 * t);
+                g.setColor(new Color(255, green, 0, alpha));
+                Rectangle r = getCellRect(i, 0, 0);
+                g.fillRect(r.x, r.y, r.width, r.height);
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /** Agenda um repaint para quando a camada puder ser reconstruída. */
+    private void scheduleHeatRebuild(int delayMs) {
+        if (heatRebuildTimer == null) {
+            heatRebuildTimer = new Timer(delayMs, e -> repaint());
+            heatRebuildTimer.setRepeats(false);
+        }
+        if (!heatRebuildTimer.isRunning()) {
+            heatRebuildTimer.setInitialDelay(Math.max(1, delayMs));
+            heatRebuildTimer.start();
         }
     }
     
@@ -0,0 +1,166 @@
+/* ===========================================================
+ * BoardPanelRenderBenchmark ; mede o custo de renderização do BoardPanel sem display.
+ * Pinta em um BufferedImage (java.awt.headless=true) em vários tamanhos,
+ * números de jogadores e estados (inclui o mapa de calor), reportando quadros/s e alocação por quadro.
+ * =========================================================== */
+
+package view;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+import model.api.dto.OwnableInfo;
+import model.api.dto.Ownables;
+import model.api.dto.PlayerColor;
+import model.api.dto.PlayerRef;
+import model.api.dto.Transaction;
+
+/**
+ * Benchmark de renderização (executar a partir da raiz que contém src/view/assets).
+ *
+ * Uso: java view.BoardPanelRenderBenchmark [quadros] [limiteMsPorQuadro]
+ *  - quadros: quadros medidos por cenário (padrão 300; o aquecimento usa o mesmo número)
+ *  - limiteMsPorQuadro: se informado, termina com código 1 quando algum cenário
+ *    ultrapassar a média (útil como teste de regressão)
+ *
+ * Cada cenário roda duas vezes: sem instrumentação (quadros/s e bytes/quadro do
+ * paintComponent) e com UiTimings ligado (tempo e alocação de cada draw*).
+ */
+public final class BoardPanelRenderBenchmark {
+
+    private static final double[] SCALES = { 0.5, 1.0, 1.5 };
+    private static final int[] PLAYER_COUNTS = { 2, 6 };
+
+    /** Estados representativos do painel. */
+    private enum State { IDLE, STREET, COMPANY, CHANCE, HEATMAP }
+
+    private BoardPanelRenderBenchmark() {
+        // Utility class
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        final int frames = (args.length > 0) ? Integer.parseInt(args[0]) : 300;
+        final double limitMs = (args.length > 1) ? Double.parseDouble(args[1]) : Double.NaN;
+
+        final boolean allocation = UiTimings.setAllocationTracking(true);
+        if (!allocation) {
+            System.out.println("Allocation tracking not supported by this JVM; bytes will be reported as n/a.");
+        }
+
+        boolean failed = false;
+        for (State state : State.values()) {
+            for (int players : PLAYER_COUNTS) {
+                for (double scale : SCALES) {
+                    final BoardPanel panel = newPanel(players, state);
+                    if (panel == null) {
+                        System.out.println("Skipping " + state + ": required asset not found (run from the project root).");
+                        break;
+                    }
+                    final double avgMs = runScenario(panel, state, players, scale, frames);
+                    if (!Double.isNaN(limitMs) && avgMs > limitMs) {
+                        System.out.printf(Locale.ROOT, "  REGRESSION: %.3f ms/frame > limit %.3f ms%n", avgMs, limitMs);
+                        failed = true;
+                    }
+                }
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    /** Mede um cenário e retorna a média em ms por quadro (sem instrumentação). */
+    private static double runScenario(BoardPanel panel, State state, int players, double scale, int frames) {
+        final int width = (int) Math.round(BoardPanel.PANEL_WIDTH * scale);
+        final int height = (int) Math.round(BoardPanel.PANEL_HEIGHT * scale);
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        // 1) Sem instrumentação: aquecimento + medição
+        UiTimings.setEnabled(false);
+        paintFrames(panel, image, scale, frames);
+        final long bytes0 = UiTimings.currentThreadAllocatedBytes();
+        final long t0 = System.nanoTime();
+        paintFrames(panel, image, scale, frames);
+        final long elapsed = System.nanoTime() - t0;
+        final long bytes = (bytes0 >= 0) ? UiTimings.currentThreadAllocatedBytes() - bytes0 : -1L;
+
+        final double avgMs = elapsed / 1e6 / frames;
+        System.out.printf(Locale.ROOT, "%-8s players=%d size=%4dx%-4d  %8.1f fps  %7.3f ms/frame  %s/frame%n",
+                state, players, width, height, frames / (elapsed / 1e9), avgMs,
+                (bytes >= 0) ? formatBytes(bytes / frames) : "n/a");
+
+        // 2) Com instrumentação: detalhamento por seção
+        UiTimings.reset();
+        UiTimings.setEnabled(true);
+        paintFrames(panel, image, scale, frames);
+        UiTimings.setEnabled(false);
+        for (UiTimings.Stats s : UiTimings.snapshot()) {
+            System.out.printf(Locale.ROOT, "    %-36s avg %8.1fus  max %9.1fus  %s/call%n",
+                    s.name(), s.avgMicros(), s.maxMicros(),
+                    (s.avgBytes() >= 0) ? formatBytes(s.avgBytes()) : "n/a");
+        }
+        return avgMs;
+    }
+
+    private static void paintFrames(BoardPanel panel, BufferedImage image, double scale, int frames) {
+        for (int i = 0; i < frames; i++) {
+            final Graphics2D g = image.createGraphics();
+            try {
+                g.scale(scale, scale);
+                panel.paintComponent(g);
+            } finally {
+                g.dispose();
+            }
+        }
+    }
+
+    /**
+     * Monta um painel com estado representativo.
+     * Retorna null se algum asset necessário ao estado não existir.
+     */
+    private static BoardPanel newPanel(int players, State state) {
+        final BoardPanel panel = new BoardPanel();
+        panel.setSize(BoardPanel.PANEL_WIDTH, BoardPanel.PANEL_HEIGHT);
+        panel.setNumberOfPlayers(players);
+        for (int i = 0; i < players; i++) {
+            panel.movePlayer(i, (i * 7) % 40);
+        }
+        panel.setDiceValues(3, 5);
+
+        final PlayerColor[] colors = PlayerColor.values();
+        final PlayerRef owner = new PlayerRef("P2", "Player 2", colors[1 % colors.length]);
+        panel.setTransaction(new Transaction("Player 1", colors[0], "Player 2", colors[1 % colors.length], 220, 1280, 1720), "Player 1");
+
+        switch (state) {
+            case STREET -> {
+                panel.setPropertyInfo("Av. Brasil", "street");
+                panel.setStreetInfo(new Ownables.Street(new OwnableInfo.Core(owner, "Av. Brasil", 21, 160, 144), 40, 2, false));
+            }
+            case COMPANY -> {
+                panel.setPropertyInfo("Companhia Ferroviária", "company");
+                panel.setCompanyInfo(new Ownables.Company(new OwnableInfo.Core(owner, "Companhia Ferroviária", 5, 200, 180), 50));
+            }
+            case CHANCE -> panel.setCard(0);
+            case HEATMAP -> {
+                final long[] counts = new long[40];
+                for (int i = 0; i < counts.length; i++) counts[i] = (i * 37L) % 101;
+                panel.setHeatMap(counts);
+            }
+            case IDLE -> { }
+        }
+
+        // Valida os assets com um quadro de teste (getChanceCard/getPropertyCard lançam se faltar imagem)
+        try {
+            final BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+            paintFrames(panel, probe, 1.0, 1);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+        return panel;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 10_000) return bytes + " B";
+        return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+    }
+}
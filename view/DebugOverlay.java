@@ -0,0 +1,85 @@
+/* ===========================================================
+ * DebugOverlay ; painel translúcido com a latência da EDT e tempos da UI.
+ * Instalado como glass pane da GameWindow quando o watchdog está ativo.
+ * =========================================================== */
+
+package view;
+
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.List;
+import javax.swing.*;
+
+/**
+ * Overlay de depuração. Não consome eventos de mouse (sem listeners),
+ * então os cliques passam para os componentes abaixo.
+ */
+final class DebugOverlay extends JComponent {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int REFRESH_MS = 500;
+    private static final int MAX_SECTIONS = 8;
+
+    private final transient EdtWatchdog watchdog;
+    private final Font font = new Font("Monospaced", Font.PLAIN, 11);
+    private final Color background = new Color(0, 0, 0, 170);
+
+    DebugOverlay(final EdtWatchdog watchdog) {
+        this.watchdog = watchdog;
+        setOpaque(false);
+
+        // Atualiza os números periodicamente
+        Timer refresh = new Timer(REFRESH_MS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                repaint();
+            }
+        });
+        refresh.start();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        try {
+            g2d.setFont(font);
+            FontMetrics fm = g2d.getFontMetrics();
+
+            // Linhas a exibir
+            List<UiTimings.Stats> stats = UiTimings.snapshot();
+            int sections = Math.min(MAX_SECTIONS, stats.size());
+            String[] lines = new String[3 + sections];
+            lines[0] = String.format("EDT last %.1fms  p99 %.1fms  max %.1fms",
+                    watchdog.lastLatencyMillis(), watchdog.percentileMillis(0.99), watchdog.maxLatencyMillis());
+            String stall = watchdog.lastStallSummary();
+            lines[1] = "stalls " + watchdog.stallCount() + (stall != null ? "  last @ " + stall : "");
+            lines[2] = "log: " + watchdog.logPath().toAbsolutePath();
+            for (int i = 0; i < sections; i++) {
+                UiTimings.Stats s = stats.get(i);
+                lines[3 + i] = String.format("%-34.34s avg %7.1fus max %8.1fus", s.name(), s.avgMicros(), s.maxMicros());
+            }
+
+            // Caixa no canto inferior esquerdo
+            int width = 0;
+            for (String l : lines) width = Math.max(width, fm.stringWidth(l));
+            int pad = 6;
+            int boxW = width + 2 * pad;
+            int boxH = lines.length * fm.getHeight() + 2 * pad;
+            int x = 8;
+            int y = getHeight() - boxH - 8;
+
+            g2d.setColor(background);
+            g2d.fillRoundRect(x, y, boxW, boxH, 8, 8);
+            g2d.setColor(Color.GREEN);
+            int ty = y + pad + fm.getAscent();
+            for (String l : lines) {
+                g2d.drawString(l, x + pad, ty);
+                ty += fm.getHeight();
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+}
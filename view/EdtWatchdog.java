@@ -0,0 +1,207 @@
+/* ===========================================================
+ * EdtWatchdog ; mede a latência da Event Dispatch Thread e detecta travamentos.
+ * Opcional: só é iniciado com -Dmonopoly.debug.edt=true.
+ * =========================================================== */
+
+package view;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.SwingUtilities;
+
+/**
+ * Watchdog da EDT.
+ * Periodicamente posta um evento "sonda" na fila da EDT e mede quanto tempo ele
+ * esperou para ser executado. Se uma sonda passar do limite sem rodar, captura
+ * a pilha da EDT e grava no log. Também registra, a cada intervalo, o resumo
+ * dos tempos coletados por UiTimings.
+ *
+ * Propriedades de sistema:
+ *  - monopoly.debug.edt=true        liga o watchdog, o overlay e a coleta de tempos
+ *  - monopoly.debug.edt.stallMs=N   limite de travamento (padrão 500 ms)
+ *  - monopoly.debug.edt.log=arquivo caminho do log (padrão monopoly-edt.log)
+ */
+final class EdtWatchdog {
+
+    static final String ENABLE_PROPERTY = "monopoly.debug.edt";
+    static final String STALL_PROPERTY = "monopoly.debug.edt.stallMs";
+    static final String LOG_PROPERTY = "monopoly.debug.edt.log";
+
+    private static final long PROBE_INTERVAL_MS = 100;
+    private static final long SUMMARY_INTERVAL_MS = 5_000;
+    private static final long DEFAULT_STALL_MS = 500;
+    private static final int RECENT_SAMPLES = 256;
+
+    private static EdtWatchdog instance;
+
+    private final long stallThresholdNanos;
+    private final Path logPath;
+    private final ScheduledExecutorService scheduler;
+
+    // Sonda em voo (0 = nenhuma); escrita pelo watchdog, limpa pela EDT
+    private volatile long probePostedAt = 0L;
+    private volatile Thread edtThread;
+    private boolean stallReported; // somente thread do watchdog
+
+    // Estatísticas (lidas pelo overlay e pelo log)
+    private final AtomicLong probes = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    private volatile long lastLatencyNanos;
+    private volatile long maxLatencyNanos;
+    private volatile String lastStallSummary;
+    private final long[] recent = new long[RECENT_SAMPLES]; // escrito só pela EDT
+    private int recentCount;
+
+    private BufferedWriter log;
+
+    private EdtWatchdog(final long stallThresholdMs, final Path logPath) {
+        this.stallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(stallThresholdMs);
+        this.logPath = logPath;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "edt-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Indica se o watchdog foi solicitado via propriedade de sistema. */
+    static boolean isRequested() {
+        return Boolean.getBoolean(ENABLE_PROPERTY);
+    }
+
+    /**
+     * Inicia o watchdog (uma única vez por processo) e liga a coleta de UiTimings.
+     * Retorna a instância em execução.
+     */
+    static synchronized EdtWatchdog start() {
+        if (instance == null) {
+            long stallMs = Long.getLong(STALL_PROPERTY, DEFAULT_STALL_MS);
+            Path path = Paths.get(System.getProperty(LOG_PROPERTY, "monopoly-edt.log"));
+            instance = new EdtWatchdog(stallMs, path);
+            instance.begin();
+        }
+        return instance;
+    }
+
+    private void begin() {
+        UiTimings.setEnabled(true);
+        try {
+            log = Files.newBufferedWriter(logPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            writeLog("=== EDT watchdog started (stall threshold " + TimeUnit.NANOSECONDS.toMillis(stallThresholdNanos) + " ms) ===");
+        } catch (IOException e) {
+            System.err.println("EDT watchdog: cannot open log " + logPath + ": " + e.getMessage());
+        }
+        scheduler.scheduleWithFixedDelay(this::tick, PROBE_INTERVAL_MS, PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(this::writeSummary, SUMMARY_INTERVAL_MS, SUMMARY_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /** Executado pelo watchdog: posta uma nova sonda ou verifica a que está pendente. */
+    private void tick() {
+        final long postedAt = probePostedAt;
+        final long now = System.nanoTime();
+
+        if (postedAt != 0L) {
+            // Sonda ainda na fila: EDT ocupada
+            if (!stallReported && now - postedAt > stallThresholdNanos) {
+                stallReported = true;
+                reportStall(now - postedAt);
+            }
+            return;
+        }
+
+        stallReported = false;
+        probePostedAt = now;
+        SwingUtilities.invokeLater(this::onProbe);
+    }
+
+    /** Executado na EDT: mede o atraso da sonda. */
+    private void onProbe() {
+        final long latency = System.nanoTime() - probePostedAt;
+        edtThread = Thread.currentThread();
+        probes.incrementAndGet();
+        lastLatencyNanos = latency;
+        if (latency > maxLatencyNanos) maxLatencyNanos = latency;
+        synchronized (recent) {
+            recent[recentCount % RECENT_SAMPLES] = latency;
+            recentCount++;
+        }
+        UiTimings.record("EDT.queueDelay", latency);
+        probePostedAt = 0L;
+    }
+
+    /** Captura a pilha atual da EDT e grava no log. */
+    private void reportStall(final long blockedNanos) {
+        stalls.incrementAndGet();
+        final Thread edt = edtThread;
+        final StringBuilder sb = new StringBuilder();
+        sb.append("STALL: EDT blocked for ").append(TimeUnit.NANOSECONDS.toMillis(blockedNanos)).append(" ms");
+        if (edt != null) {
+            final StackTraceElement[] stack = edt.getStackTrace();
+            lastStallSummary = (stack.length > 0) ? stack[0].toString() : "(empty stack)";
+            for (StackTraceElement el : stack) {
+                sb.append("\n    at ").append(el);
+            }
+        } else {
+            lastStallSummary = "(EDT not seen yet)";
+        }
+        writeLog(sb.toString());
+    }
+
+    /** Grava no log o resumo da latência da EDT e dos tempos por seção. */
+    private void writeSummary() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format("SUMMARY: probes=%d stalls=%d last=%.2fms p50=%.2fms p99=%.2fms max=%.2fms",
+                probes.get(), stalls.get(),
+                lastLatencyNanos / 1e6, percentileMillis(0.50), percentileMillis(0.99), maxLatencyNanos / 1e6));
+        for (UiTimings.Stats s : UiTimings.snapshot()) {
+            sb.append(String.format("%n    %-45s n=%-8d avg=%8.1fus max=%9.1fus",
+                    s.name(), s.count(), s.avgMicros(), s.maxMicros()));
+        }
+        writeLog(sb.toString());
+    }
+
+    private synchronized void writeLog(final String message) {
+        if (log == null) return;
+        try {
+            log.write(LocalDateTime.now() + " " + message);
+            log.newLine();
+            log.flush();
+        } catch (IOException e) {
+            System.err.println("EDT watchdog: error writing log: " + e.getMessage());
+        }
+    }
+
+    // ===== Leitura para o overlay =====
+
+    long probeCount() { return probes.get(); }
+    long stallCount() { return stalls.get(); }
+    double lastLatencyMillis() { return lastLatencyNanos / 1e6; }
+    double maxLatencyMillis() { return maxLatencyNanos / 1e6; }
+    String lastStallSummary() { return lastStallSummary; }
+    Path logPath() { return logPath; }
+
+    /** Percentil aproximado das últimas amostras de latência (em ms). */
+    double percentileMillis(final double p) {
+        final long[] copy;
+        synchronized (recent) {
+            final int n = Math.min(recentCount, RECENT_SAMPLES);
+            if (n == 0) return 0.0;
+            copy = Arrays.copyOf(recent, n);
+        }
+        Arrays.sort(copy);
+        final int idx = (int) Math.min(copy.length - 1, Math.round(p * (copy.length - 1)));
+        return copy[idx] / 1e6;
+    }
+}
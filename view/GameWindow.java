@@ -15,8 +15,10 @@ import java.awt.event.WindowEvent;
 import java.util.List;
 import javax.swing.*;
 import model.api.dto.OwnableInfo;
+import model.api.dto.GameSnapshot;
 import model.api.dto.Ownables;
 import model.api.dto.PlayerColor;
+import model.api.dto.SquareType;
 import view.ui.PlayerColorAwt;
 
 /**
@@ -44,14 +46,42 @@ public class GameWindow extends JFrame implements GameObserver {
     private JTextField dice1Field;
     private JTextField dice2Field;
     
+    // Auto-play (demonstração/QA)
+    private static final int DEFAULT_AUTO_TURNS = 1000;
+    private static final int DEFAULT_AUTO_FPS = 30;
+    private JTextField autoTurnsField;
+    private JTextField autoFpsField;
+    private JButton autoPlayButton;
+    private JButton stopAutoPlayButton;
+    private JLabel autoPlayStatusLabel;
+    
+    // Mapa de calor de pousos (fonte escolhida no seletor)
+    private static final String HEAT_OFF = "Heat map: off";
+    private static final String HEAT_MATCH = "Heat map: this match";
+    private static final String HEAT_SESSION = "Heat map: session";
+    private static final String HEAT_LOADED = "Heat map: load file...";
+    private JComboBox<String> heatMapSelector;
+    private long[] matchLandings;
+    private long[] sessionLandings;
+    private long[] loadedLandings;
+    
     // Botão de salvamento (precisa ser desabilitado durante a jogada)
     private JButton interruptButton;
     
+    // Estado "ocupado": botões de ação ficam desabilitados enquanto a thread do jogo processa
+    private static final int BUSY_INDICATOR_DELAY_MS = 150;
+    private final List<JButton> actionButtons = new java.util.ArrayList<>();
+    private JLabel busyLabel;
+    private Timer busyTimer;
+    private boolean interruptAllowed = true;
+    
     private List<OwnableInfo> currentProps = java.util.List.of(); // Propriedades do jogador atual
+    private PlayerPropertiesWindow propertiesWindow; // Janela de propriedades aberta (se houver)
     
     public GameWindow(GameController controller, int numberOfPlayers) {
         this.controller = controller;
-        this.controller.addObserver(this); // Registra como observador
+        // Registra como observador; as notificações chegam da thread do jogo e são repassadas à EDT
+        this.controller.addObserver(new SwingGameObserver(this, controller));
         initializeUI(numberOfPlayers);
     }
     
@@ -78,6 +108,13 @@ public class GameWindow extends JFrame implements GameObserver {
         JPanel sidePanel = createSidePanel();
         add(sidePanel, BorderLayout.EAST);
 
+        // Instrumentação opcional da EDT (-Dmonopoly.debug.edt=true)
+        if (EdtWatchdog.isRequested()) {
+            DebugOverlay overlay = new DebugOverlay(EdtWatchdog.start());
+            setGlassPane(overlay);
+            overlay.setVisible(true);
+        }
+
         // Ao fechar a janela principal, mostrar a tela final (vencedores)
         addWindowListener(new WindowAdapter() {
             @Override
@@ -132,7 +169,9 @@ public class GameWindow extends JFrame implements GameObserver {
             public void actionPerformed(ActionEvent e) {
                 PlayerPropertiesWindow dlg = new PlayerPropertiesWindow(GameWindow.this, currentProps);
                 dlg.setLocationRelativeTo(GameWindow.this);
+                propertiesWindow = dlg;
                 dlg.setVisible(true);
+                propertiesWindow = null; // diálogo modal: retorna ao fechar
             }
         });
         infoPanel.add(seePropsBtn);
@@ -143,6 +182,9 @@ public class GameWindow extends JFrame implements GameObserver {
         // Painel de Mock de Dados (para testes)
         JPanel diceTestPanel = createDiceTestPanel();
         
+        // Painel de auto-play
+        JPanel autoPlayPanel = createAutoPlayPanel();
+        
         // Botões de controle
         JPanel buttonPanel = new JPanel();
         buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.Y_AXIS));
@@ -236,11 +278,12 @@ public class GameWindow extends JFrame implements GameObserver {
                     if (!filePath.toLowerCase().endsWith(".txt")) {
                         filePath += ".txt";
                     }
-                    boolean saved = controller.saveGame(java.nio.file.Paths.get(filePath));
-                    if (saved) {
-                        // Fecha o jogo após salvar com sucesso
-                        System.exit(0);
-                    }
+                    controller.saveGame(java.nio.file.Paths.get(filePath)).thenAcceptAsync(saved -> {
+                        if (saved) {
+                            // Fecha o jogo após salvar com sucesso
+                            System.exit(0);
+                        }
+                    }, SwingUtilities::invokeLater);
                 }
             }
         });
@@ -254,6 +297,29 @@ public class GameWindow extends JFrame implements GameObserver {
             }
         });
         
+        // Botões que disparam ações no jogo (desabilitados enquanto ocupado)
+        actionButtons.add(rollButton);
+        actionButtons.add(buyButton);
+        actionButtons.add(buildHouseButton);
+        actionButtons.add(buildHotelButton);
+        actionButtons.add(endTurnButton);
+        actionButtons.add(finishButton);
+        actionButtons.add(autoPlayButton);
+
+        // Indicador de processamento (exibido só se a ação demorar)
+        busyLabel = new JLabel("Processing...");
+        busyLabel.setFont(new Font("Arial", Font.ITALIC, 12));
+        busyLabel.setForeground(Color.DARK_GRAY);
+        busyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        busyLabel.setVisible(false);
+        busyTimer = new Timer(BUSY_INDICATOR_DELAY_MS, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                showBusy(true);
+            }
+        });
+        busyTimer.setRepeats(false);
+        
         buttonPanel.add(Box.createVerticalStrut(10));
 	    buttonPanel.add(rollButton);
 	    buttonPanel.add(Box.createVerticalStrut(10));
@@ -271,6 +337,9 @@ public class GameWindow extends JFrame implements GameObserver {
         buttonPanel.add(Box.createVerticalStrut(10));
         buttonPanel.add(finishButton);
         buttonPanel.add(Box.createVerticalStrut(10));
+        buttonPanel.add(createHeatMapSelector());
+        buttonPanel.add(Box.createVerticalStrut(10));
+        buttonPanel.add(busyLabel);
         
         // Log de eventos (vertical)
         bottomPanel = createLogPanel();
@@ -278,7 +347,9 @@ public class GameWindow extends JFrame implements GameObserver {
         panel.add(infoPanel);
         panel.add(Box.createVerticalStrut(20));
         panel.add(diceTestPanel);
-        panel.add(Box.createVerticalStrut(20));
+        panel.add(Box.createVerticalStrut(10));
+        panel.add(autoPlayPanel);
+        panel.add(Box.createVerticalStrut(10));
         panel.add(buttonPanel);
         panel.add(Box.createVerticalStrut(20));
         panel.add(bottomPanel);
@@ -336,6 +407,134 @@ public class GameWindow extends JFrame implements GameObserver {
         return dicePanel;
     }
     
+    /**
+     * Cria o painel de auto-play: joga N turnos automaticamente,
+     * atualizando a tela no máximo "FPS" vezes por segundo.
+     */
+    private JPanel createAutoPlayPanel() {
+        JPanel autoPanel = new JPanel();
+        autoPanel.setLayout(new BoxLayout(autoPanel, BoxLayout.Y_AXIS));
+        autoPanel.setBackground(Color.WHITE);
+        autoPanel.setBorder(BorderFactory.createTitledBorder("Auto Play"));
+        autoPanel.setPreferredSize(new Dimension(230, 95));
+        autoPanel.setMaximumSize(new Dimension(230, 95));
+
+        JPanel fieldsPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 6, 2));
+        fieldsPanel.setBackground(Color.WHITE);
+        autoTurnsField = new JTextField(String.valueOf(DEFAULT_AUTO_TURNS), 5);
+        autoTurnsField.setHorizontalAlignment(JTextField.CENTER);
+        autoFpsField = new JTextField(String.valueOf(DEFAULT_AUTO_FPS), 3);
+        autoFpsField.setHorizontalAlignment(JTextField.CENTER);
+        fieldsPanel.add(new JLabel("Turns:"));
+        fieldsPanel.add(autoTurnsField);
+        fieldsPanel.add(new JLabel("FPS:"));
+        fieldsPanel.add(autoFpsField);
+
+        JPanel buttonsPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 6, 2));
+        buttonsPanel.setBackground(Color.WHITE);
+        autoPlayButton = new JButton("Start");
+        autoPlayButton.setFocusPainted(false);
+        autoPlayButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                Integer turns = parsePositive(autoTurnsField.getText());
+                Integer fps = parsePositive(autoFpsField.getText());
+                if (turns == null || fps == null) {
+                    addToLog("Auto-play: turns and FPS must be positive integers.");
+                    return;
+                }
+                stopAutoPlayButton.setEnabled(true);
+                controller.startAutoPlay(turns, fps);
+            }
+        });
+        stopAutoPlayButton = new JButton("Stop");
+        stopAutoPlayButton.setFocusPainted(false);
+        stopAutoPlayButton.setEnabled(false);
+        stopAutoPlayButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                controller.stopAutoPlay();
+            }
+        });
+        buttonsPanel.add(autoPlayButton);
+        buttonsPanel.add(stopAutoPlayButton);
+
+        autoPlayStatusLabel = new JLabel(" ");
+        autoPlayStatusLabel.setFont(new Font("Arial", Font.ITALIC, 10));
+        autoPlayStatusLabel.setForeground(Color.GRAY);
+        autoPlayStatusLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        autoPanel.add(fieldsPanel);
+        autoPanel.add(buttonsPanel);
+        autoPanel.add(autoPlayStatusLabel);
+        return autoPanel;
+    }
+    
+    /**
+     * Cria o seletor da fonte do mapa de calor (partida, sessão ou arquivo CSV).
+     */
+    private JComboBox<String> createHeatMapSelector() {
+        heatMapSelector = new JComboBox<>(new String[] { HEAT_OFF, HEAT_MATCH, HEAT_SESSION, HEAT_LOADED });
+        heatMapSelector.setFont(new Font("Arial", Font.PLAIN, 11));
+        heatMapSelector.setAlignmentX(Component.CENTER_ALIGNMENT);
+        heatMapSelector.setMaximumSize(new Dimension(200, 26));
+        heatMapSelector.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (HEAT_LOADED.equals(heatMapSelector.getSelectedItem()) && !loadHeatMapFile()) {
+                    heatMapSelector.setSelectedItem(HEAT_OFF);
+                    return;
+                }
+                applyHeatMap();
+            }
+        });
+        return heatMapSelector;
+    }
+
+    /** Envia ao tabuleiro os contadores da fonte selecionada. */
+    private void applyHeatMap() {
+        Object source = heatMapSelector.getSelectedItem();
+        if (HEAT_MATCH.equals(source)) {
+            boardPanel.setHeatMap(matchLandings);
+        } else if (HEAT_SESSION.equals(source)) {
+            boardPanel.setHeatMap(sessionLandings);
+        } else if (HEAT_LOADED.equals(source)) {
+            boardPanel.setHeatMap(loadedLandings);
+        } else {
+            boardPanel.setHeatMap(null);
+        }
+    }
+
+    /**
+     * Carrega contadores de um CSV (resultado de simulação) no formato "casa,contagem".
+     * Linhas que não começam com número (ex.: cabeçalho) são ignoradas.
+     * @return true se o arquivo foi carregado
+     */
+    private boolean loadHeatMapFile() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Load Landing Counts");
+        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("CSV Files (*.csv)", "csv"));
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return false;
+
+        java.nio.file.Path path = fileChooser.getSelectedFile().toPath();
+        try {
+            long[] counts = new long[0];
+            for (String line : java.nio.file.Files.readAllLines(path)) {
+                String[] parts = line.split("[,;]");
+                if (parts.length < 2 || !parts[0].trim().matches("\\d+")) continue;
+                int square = Integer.parseInt(parts[0].trim());
+                if (square >= counts.length) counts = java.util.Arrays.copyOf(counts, square + 1);
+                counts[square] += Long.parseLong(parts[1].trim());
+            }
+            loadedLandings = counts;
+            addToLog("Heat map loaded from " + path);
+            return true;
+        } catch (java.io.IOException | NumberFormatException ex) {
+            addToLog("Error loading heat map: " + ex.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Cria o painel de log de eventos.
      */
@@ -355,6 +554,24 @@ public class GameWindow extends JFrame implements GameObserver {
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
         
         panel.add(scrollPane, BorderLayout.CENTER);
+
+        // Tabela de latência por fase do turno (contagem, média e percentis)
+        JButton metricsButton = new JButton("Turn Metrics");
+        metricsButton.setFont(new Font("Arial", Font.PLAIN, 10));
+        metricsButton.setFocusPainted(false);
+        metricsButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                JTextArea table = new JTextArea(controller.dumpMetrics());
+                table.setEditable(false);
+                table.setFont(new Font("Monospaced", Font.PLAIN, 12));
+                JOptionPane.showMessageDialog(GameWindow.this, new JScrollPane(table),
+                        "Turn Metrics", JOptionPane.PLAIN_MESSAGE);
+            }
+        });
+        JPanel metricsRow = new JPanel(new FlowLayout(FlowLayout.RIGHT, 4, 2));
+        metricsRow.add(metricsButton);
+        panel.add(metricsRow, BorderLayout.SOUTH);
         
         return panel;
     }
@@ -381,6 +598,16 @@ public class GameWindow extends JFrame implements GameObserver {
         logArea.setCaretPosition(logArea.getDocument().getLength());
     }
     
+    /** Faz parse de um inteiro positivo; retorna null se vazio ou inválido. */
+    private Integer parsePositive(String text) {
+        try {
+            int value = Integer.parseInt(text.trim());
+            return (value > 0) ? value : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
      /**
      * Tenta fazer parse de um valor de dado do campo de texto.
      * Retorna null se o campo estiver vazio ou inválido.
@@ -401,14 +628,17 @@ public class GameWindow extends JFrame implements GameObserver {
     }
 
     /**
-     * Centraliza a atualização do label de dinheiro quando receber
+     * Exibe/oculta o estado "ocupado": desabilita as ações e mostra o indicador.
      */
-    private void handlePlayerMoneyUpdate(int playerIndex) {
-        int money = controller.getPlayerMoney(playerIndex);
-        if (moneyLabel != null) {
-            moneyLabel.setText("Money: $" + money);
-            moneyLabel.setForeground(Color.BLACK);
+    private void showBusy(boolean show) {
+        for (JButton b : actionButtons) {
+            b.setEnabled(!show);
+        }
+        if (interruptButton != null) {
+            interruptButton.setEnabled(!show && interruptAllowed);
         }
+        busyLabel.setVisible(show);
+        setCursor(show ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
     }
 
     // ========== Implementação de GameObserver ==========
@@ -425,7 +655,8 @@ public class GameWindow extends JFrame implements GameObserver {
             if (c != null) currentPlayerLabel.setForeground(c);
         }
         // Reabilita o botão de salvamento no início do turno
-        if (interruptButton != null) {
+        interruptAllowed = true;
+        if (interruptButton != null && !busyLabel.isVisible()) {
             interruptButton.setEnabled(true);
         }
     }
@@ -433,11 +664,15 @@ public class GameWindow extends JFrame implements GameObserver {
     @Override
     public void onCurrentPlayerPropertyDataUpdated(List<OwnableInfo> items) {
         this.currentProps = (items != null) ? items : List.of();
+        // Se a janela de propriedades estiver aberta, aplica apenas o diff
+        if (propertiesWindow != null && propertiesWindow.isDisplayable()) {
+            propertiesWindow.updateItems(currentProps);
+        }
     }
 
     @Override
     public void onPropertySold(int playerIndex) {
-        handlePlayerMoneyUpdate(playerIndex);
+        // Saldo chega via onPlayerMoneyChanged
     }
 
     @Override
@@ -446,6 +681,7 @@ public class GameWindow extends JFrame implements GameObserver {
         diceLabel.setText("Dice: " + dice1 + " + " + dice2 + doubleText);
         boardPanel.setDiceValues(dice1, dice2);
         // Desabilita o botão de salvamento após os dados serem lançados
+        interruptAllowed = false;
         if (interruptButton != null) {
             interruptButton.setEnabled(false);
         }
@@ -457,13 +693,12 @@ public class GameWindow extends JFrame implements GameObserver {
     }
     
     @Override
-    public void onSquareLanded(int playerIndex, int squareIndex, String squareName, String squareType) {
+    public void onSquareLanded(int playerIndex, int squareIndex, String squareName, SquareType squareType) {
     }
 
     @Override
     public void onChanceSquareLand(int playerIndex, int cardIndex) {
         boardPanel.setCard(cardIndex);
-        handlePlayerMoneyUpdate(playerIndex);
     }
 
     @Override
@@ -481,13 +716,11 @@ public class GameWindow extends JFrame implements GameObserver {
     @Override
     public void onStreetOwnableUpdate(int playerIndex, Ownables.Street streetInfo) {
         boardPanel.setStreetInfo(streetInfo);
-        handlePlayerMoneyUpdate(playerIndex);
     }
 
     @Override
     public void onCompanyOwnableUpdate(int playerIndex, Ownables.Company companyInfo) {
         boardPanel.setCompanyInfo(companyInfo);
-        handlePlayerMoneyUpdate(playerIndex);
     }
     
     @Override
@@ -541,4 +774,60 @@ public class GameWindow extends JFrame implements GameObserver {
         });
     }
 
+    @Override
+    public void onPlayerMoneyChanged(int playerIndex, int money) {
+        if (moneyLabel != null) {
+            moneyLabel.setText("Money: $" + money);
+            moneyLabel.setForeground(Color.BLACK);
+        }
+    }
+
+    @Override
+    public void onGameSnapshot(GameSnapshot snapshot) {
+        // Aplica o estado mais recente de uma vez (o BoardPanel coalesce os repaints)
+        for (int i = 0; i < snapshot.playerCount(); i++) {
+            if (snapshot.isAlive(i)) {
+                boardPanel.movePlayer(i, snapshot.position(i));
+            } else {
+                boardPanel.setPlayerAlive(i, false);
+            }
+        }
+        if (snapshot.dice1() > 0) {
+            boardPanel.setDiceValues(snapshot.dice1(), snapshot.dice2());
+            diceLabel.setText("Dice: " + snapshot.dice1() + " + " + snapshot.dice2());
+        }
+        boardPanel.setTransaction(snapshot.lastTransaction(), snapshot.currentPlayerName());
+
+        int current = snapshot.currentPlayerIndex();
+        currentPlayerLabel.setText(snapshot.currentPlayerName());
+        moneyLabel.setText("Money: $" + snapshot.money(current));
+        moneyLabel.setForeground(Color.BLACK);
+
+        autoPlayStatusLabel.setText((snapshot.autoPlaying() ? "Running: " : "Done: ") + snapshot.turnsPlayed() + " turns");
+        stopAutoPlayButton.setEnabled(snapshot.autoPlaying());
+    }
+
+    @Override
+    public void onLandingStatsUpdated(int[] matchCounts, long[] sessionCounts) {
+        long[] match = new long[matchCounts.length];
+        for (int i = 0; i < matchCounts.length; i++) match[i] = matchCounts[i];
+        this.matchLandings = match;
+        this.sessionLandings = sessionCounts;
+        Object source = heatMapSelector.getSelectedItem();
+        if (HEAT_MATCH.equals(source) || HEAT_SESSION.equals(source)) {
+            applyHeatMap();
+        }
+    }
+
+    @Override
+    public void onBusyStateChanged(boolean busy) {
+        if (busy) {
+            // Só mostra o indicador se o processamento demorar (evita piscar em ações rápidas)
+            busyTimer.restart();
+        } else {
+            busyTimer.stop();
+            showBusy(false);
+        }
+    }
+
 }
@@ -117,27 +117,29 @@ public class InitialWindow extends JFrame {
      * Inicia o jogo com o número de jogadores selecionado.
      */
     private void startGame() {
-        try {
-            int numberOfPlayers = Integer.parseInt((String) playerCountCombo.getSelectedItem());
-            
-            // Cria a janela principal
-            GameWindow gameWindow = new GameWindow(numberOfPlayers);
+        int numberOfPlayers = Integer.parseInt((String) playerCountCombo.getSelectedItem());
 
-            // Inicia o jogo através do controller
-            controller.startNewGame(numberOfPlayers);
+        // Cria a janela principal
+        GameWindow gameWindow = new GameWindow(numberOfPlayers);
 
-            // Fecha esta janela e mostra a janela principal
-            this.dispose();
-            gameWindow.setVisible(true);
-            
-        } catch (Exception ex) {
+        // Inicia o jogo através do controller (sem bloquear a EDT); o resultado volta na EDT
+        setEnabled(false);
+        controller.startNewGame(numberOfPlayers).whenCompleteAsync((ignored, error) -> {
+            if (error == null) {
+                // Fecha esta janela e mostra a janela principal
+                dispose();
+                gameWindow.setVisible(true);
+                return;
+            }
+            gameWindow.dispose();
+            setEnabled(true);
             JOptionPane.showMessageDialog(
                 this,
-                "Error starting game: " + ex.getMessage(),
+                "Error starting game: " + error.getMessage(),
                 "Error",
                 JOptionPane.ERROR_MESSAGE
             );
-        }
+        }, SwingUtilities::invokeLater);
     }
     
     /**
@@ -170,22 +172,24 @@ public class InitialWindow extends JFrame {
                 // Cria a janela principal
                 GameWindow gameWindow = new GameWindow(numberOfPlayers);
                 
-                // Carrega o jogo através do controller
-                boolean success = controller.loadGame(loadPath);
-                
-                if (success) {
-                    // Fecha esta janela e mostra a janela principal
-                    this.dispose();
-                    gameWindow.setVisible(true);
-                } else {
+                // Carrega o jogo através do controller (sem bloquear a EDT); o resultado volta na EDT
+                setEnabled(false);
+                controller.loadGame(loadPath).whenCompleteAsync((success, error) -> {
+                    if (error == null && success) {
+                        // Fecha esta janela e mostra a janela principal
+                        dispose();
+                        gameWindow.setVisible(true);
+                        return;
+                    }
                     gameWindow.dispose();
+                    setEnabled(true);
                     JOptionPane.showMessageDialog(
                         this,
-                        "Failed to load game. Check the log for details.",
+                        error == null ? "Failed to load game. Check the log for details." : "Error loading game: " + error.getMessage(),
                         "Load Error",
                         JOptionPane.ERROR_MESSAGE
                     );
-                }
+                }, SwingUtilities::invokeLater);
             }
         } catch (Exception ex) {
             JOptionPane.showMessageDialog(
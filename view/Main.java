@@ -5,6 +5,8 @@
 
 package view;
 
+import controller.GameController;
+import java.io.IOException;
 import javax.swing.*;
 
 /**
@@ -12,13 +14,18 @@ import javax.swing.*;
  */
 public class Main {
     
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // Configura o Look and Feel do sistema operacional
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
             System.err.println("Error setting Look and Feel: " + e.getMessage());
         }
+
+        // Endpoint de métricas (só com -Dmonopoly.metrics.port=<porta>)
+        GameController.getInstance().startMetricsIfConfigured();
+        // Linha do tempo da partida (só com -Dmonopoly.trace=<arquivo.json>)
+        GameController.getInstance().startTraceIfConfigured();
         
         // Inicia a aplicação na Event Dispatch Thread
         SwingUtilities.invokeLater(new Runnable() {
@@ -2,7 +2,12 @@ package view;
 
 import controller.GameController;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import model.api.dto.OwnableInfo;
@@ -11,9 +16,16 @@ import model.api.dto.Ownables;
 public final class PlayerPropertiesWindow extends JDialog {
 
     private final GameController controller;
-    private List<OwnableInfo> items; 
+    private volatile List<OwnableInfo> items;
     private final JPanel listPanel;
 
+    // Linhas exibidas, indexadas por boardIndex (chave estável do diff)
+    private final Map<Integer, PropertyRow> rows = new LinkedHashMap<>();
+    private JComponent emptyState;
+
+    // Coalescência: várias atualizações seguidas geram um único passe de layout
+    private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+
     public PlayerPropertiesWindow(Frame owner, List<OwnableInfo> items) {
         this(owner, GameController.getInstance(), items);
     }
@@ -36,39 +48,96 @@ public final class PlayerPropertiesWindow extends JDialog {
         scroll.setBorder(null);
         add(scroll, BorderLayout.CENTER);
 
-        reloadList();
+        applyItems();
     }
 
-    /** Atualiza os itens e redesenha */
+    /**
+     * Atualiza os itens e agenda o diff na EDT.
+     * Rajadas de chamadas são coalescidas: apenas a lista mais recente é aplicada.
+     */
     public void updateItems(List<OwnableInfo> newItems) {
         this.items = (newItems != null) ? newItems : List.of();
-        if (SwingUtilities.isEventDispatchThread()) {
-            reloadList();
-        } else {
-            SwingUtilities.invokeLater(new Runnable() {
-                @Override
-                public void run() {
-                    reloadList();
-                }
-            });
-        }
+        if (!refreshPending.compareAndSet(false, true)) return; // já há um refresh agendado
+
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                refreshPending.set(false);
+                applyItems();
+            }
+        });
     }
 
-    private void reloadList() {
-        listPanel.removeAll();
+    /**
+     * Aplica um diff chaveado por boardIndex: remove linhas que saíram,
+     * cria as novas, atualiza apenas os campos alterados e reordena se preciso.
+     */
+    private void applyItems() {
+        final List<OwnableInfo> current = this.items;
+        boolean structureChanged = false;
+
+        // Chaves presentes na nova lista
+        final Map<Integer, OwnableInfo> byIndex = new LinkedHashMap<>();
+        for (OwnableInfo it : current) {
+            byIndex.put(it.core().boardIndex(), it);
+        }
+
+        // 1) Remove linhas que não existem mais
+        for (Iterator<Map.Entry<Integer, PropertyRow>> iter = rows.entrySet().iterator(); iter.hasNext(); ) {
+            Map.Entry<Integer, PropertyRow> e = iter.next();
+            if (!byIndex.containsKey(e.getKey())) {
+                listPanel.remove(e.getValue().container);
+                iter.remove();
+                structureChanged = true;
+            }
+        }
 
-        if (items.isEmpty()) {
-            listPanel.add(renderEmptyState());
-        } else {
-            int n = 1;
-            for (OwnableInfo it : items) {
-                listPanel.add(buildPropertyCard(n++, it));
-                listPanel.add(Box.createVerticalStrut(10));
+        // 2) Estado vazio
+        if (byIndex.isEmpty()) {
+            if (emptyState == null) {
+                emptyState = renderEmptyState();
+                listPanel.add(emptyState);
+                structureChanged = true;
             }
+        } else if (emptyState != null) {
+            listPanel.remove(emptyState);
+            emptyState = null;
+            structureChanged = true;
         }
 
-        listPanel.revalidate();
-        listPanel.repaint();
+        // 3) Insere/atualiza na ordem recebida
+        final List<PropertyRow> ordered = new ArrayList<>(byIndex.size());
+        int n = 1;
+        for (OwnableInfo it : byIndex.values()) {
+            final int key = it.core().boardIndex();
+            PropertyRow row = rows.get(key);
+            if (row == null) {
+                row = new PropertyRow(key);
+                row.update(n, it);
+                rows.put(key, row);
+            } else {
+                row.update(n, it);
+            }
+            ordered.add(row);
+            n++;
+        }
+
+        // 4) Garante a posição de cada linha (move apenas as que estão fora do lugar)
+        for (int i = 0; i < ordered.size(); i++) {
+            final JComponent c = ordered.get(i).container;
+            if (i < listPanel.getComponentCount() && listPanel.getComponent(i) == c) continue;
+            if (c.getParent() == listPanel) listPanel.remove(c);
+            listPanel.add(c, i);
+            structureChanged = true;
+        }
+
+        // Mantém o mapa na ordem de exibição
+        if (structureChanged) {
+            rows.clear();
+            for (PropertyRow row : ordered) rows.put(row.boardIndex, row);
+            listPanel.revalidate();
+            listPanel.repaint();
+        }
     }
 
     // ===== UI helpers =====
@@ -82,92 +151,129 @@ public final class PlayerPropertiesWindow extends JDialog {
         return empty;
     }
 
-    private JComponent buildPropertyCard(int number, OwnableInfo it) {
-        // Card: contêiner
-        JPanel card = new JPanel(new BorderLayout(10, 10));
-        card.setBorder(
-        	    javax.swing.BorderFactory.createCompoundBorder(
-        	        new javax.swing.border.LineBorder(new java.awt.Color(200, 200, 200), 1, true),
-        	        new javax.swing.border.EmptyBorder(12, 12, 12, 12)
-        	    )
-        	);
-        card.setMaximumSize(new java.awt.Dimension(Integer.MAX_VALUE, 160));
-
-        card.setBackground(Color.WHITE);
-        
-        var core = it.core(); // info comum
-        
-        // Cabeçalho
-        JLabel title = new JLabel("[" + number + "] " + core.propertyName());
-        title.setFont(title.getFont().deriveFont(Font.BOLD, 15f));
-
-        // Subtítulo com dados comuns
- 
-        String ownerText = (core.owner() != null)
-                ? core.owner().id() + " (" + core.owner().color().name() + ")"
-                : "—";
-        JLabel subtitle = new JLabel(
-                html(
-                        "Index: <b>" + core.boardIndex() + "</b>  &nbsp;&nbsp;|&nbsp;&nbsp; " +
-                        "Owner: <b>" + ownerText + "</b>"
-                )
-        );
-        subtitle.setFont(subtitle.getFont().deriveFont(Font.PLAIN, 12f));
-        subtitle.setForeground(new Color(80, 80, 80));
-
-        JPanel header = new JPanel();
-        header.setLayout(new BoxLayout(header, BoxLayout.Y_AXIS));
-        header.setOpaque(false);
-        header.add(title);
-        header.add(Box.createVerticalStrut(4));
-        header.add(subtitle);
-
-        card.add(header, BorderLayout.NORTH);
-
-        // Corpo com grid de atributos
-        JPanel body = new JPanel(new GridBagLayout());
-        body.setOpaque(false);
-        GridBagConstraints gc = new GridBagConstraints();
-        gc.gridx = 0; gc.gridy = 0;
-        gc.anchor = GridBagConstraints.WEST;
-        gc.insets = new Insets(2, 0, 2, 16);
-
-        // Campos comuns
-        addField(body, gc, "Price", "$" + core.propertyPrice());
-        addField(body, gc, "Sell Value", "$" + core.propertySellValue());
-
-        // Específicos por tipo
-        if (it instanceof Ownables.Street s) {
-            addField(body, gc, "Rent (now)", "$" + s.propertyActualRent());
-            addField(body, gc, "Houses", String.valueOf(s.propertyHouseNumber()));
-            addField(body, gc, "Hotel", s.propertyHasHotel() ? "yes" : "no");
-        } else if (it instanceof Ownables.Company c) {
-            addField(body, gc, "Multiplier", String.valueOf(c.propertyMultiplier()));
+    /**
+     * Linha (card) de uma propriedade. Os componentes são criados uma única vez;
+     * atualizações só alteram os textos que mudaram.
+     */
+    private final class PropertyRow {
+
+        private final int boardIndex;
+        private final JPanel container;
+        private final JPanel body;
+        private final GridBagConstraints gc;
+        private final JLabel title;
+        private final JLabel subtitle;
+        private final JButton sellButton;
+        private final Map<String, JLabel> values = new LinkedHashMap<>();
+
+        PropertyRow(int boardIndex) {
+            this.boardIndex = boardIndex;
+
+            // Card: contêiner
+            JPanel card = new JPanel(new BorderLayout(10, 10));
+            card.setBorder(
+            	    javax.swing.BorderFactory.createCompoundBorder(
+            	        new javax.swing.border.LineBorder(new java.awt.Color(200, 200, 200), 1, true),
+            	        new javax.swing.border.EmptyBorder(12, 12, 12, 12)
+            	    )
+            	);
+            card.setMaximumSize(new java.awt.Dimension(Integer.MAX_VALUE, 160));
+            card.setBackground(Color.WHITE);
+
+            // Cabeçalho
+            title = new JLabel();
+            title.setFont(title.getFont().deriveFont(Font.BOLD, 15f));
+
+            subtitle = new JLabel();
+            subtitle.setFont(subtitle.getFont().deriveFont(Font.PLAIN, 12f));
+            subtitle.setForeground(new Color(80, 80, 80));
+
+            JPanel header = new JPanel();
+            header.setLayout(new BoxLayout(header, BoxLayout.Y_AXIS));
+            header.setOpaque(false);
+            header.add(title);
+            header.add(Box.createVerticalStrut(4));
+            header.add(subtitle);
+            card.add(header, BorderLayout.NORTH);
+
+            // Corpo com grid de atributos (linhas criadas sob demanda)
+            body = new JPanel(new GridBagLayout());
+            body.setOpaque(false);
+            gc = new GridBagConstraints();
+            gc.gridx = 0; gc.gridy = 0;
+            gc.anchor = GridBagConstraints.WEST;
+            gc.insets = new Insets(2, 0, 2, 16);
+            card.add(body, BorderLayout.CENTER);
+
+            // Ações (lado direito)
+            sellButton = new JButton();
+            sellButton.setFocusPainted(false);
+            sellButton.addActionListener(new java.awt.event.ActionListener() {
+                @Override
+                public void actionPerformed(java.awt.event.ActionEvent e) {
+                    controller.attemptSell(PropertyRow.this.boardIndex);
+                    dispose(); // Fecha após vender
+                }
+            });
+            JPanel actions = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 0));
+            actions.setOpaque(false);
+            actions.add(sellButton);
+            card.add(actions, BorderLayout.EAST);
+
+            // Espaçamento entre cards faz parte da linha (um componente por item na lista)
+            container = new JPanel(new BorderLayout());
+            container.setOpaque(false);
+            container.setBorder(new EmptyBorder(0, 0, 10, 0));
+            container.setMaximumSize(new java.awt.Dimension(Integer.MAX_VALUE, 170));
+            container.add(card, BorderLayout.CENTER);
         }
 
-        card.add(body, BorderLayout.CENTER);
-        
-        // Ações (lado direito)
-        JButton sellButton = new JButton("Sell ($" + core.propertySellValue() + ")");
-        sellButton.setFocusPainted(false);
+        /** Atualiza os textos da linha; JLabel.setText ignora valores idênticos. */
+        void update(int number, OwnableInfo it) {
+            var core = it.core(); // info comum
 
-        sellButton.addActionListener(new java.awt.event.ActionListener() {
-            @Override
-            public void actionPerformed(java.awt.event.ActionEvent e) {
-                controller.attemptSell(core.boardIndex());
-                dispose(); // Fecha após vender
+            setIfChanged(title, "[" + number + "] " + core.propertyName());
+
+            String ownerText = (core.owner() != null)
+                    ? core.owner().id() + " (" + core.owner().color().name() + ")"
+                    : "—";
+            setIfChanged(subtitle, html(
+                    "Index: <b>" + core.boardIndex() + "</b>  &nbsp;&nbsp;|&nbsp;&nbsp; " +
+                    "Owner: <b>" + ownerText + "</b>"
+            ));
+
+            // Campos comuns
+            setField("Price", "$" + core.propertyPrice());
+            setField("Sell Value", "$" + core.propertySellValue());
+
+            // Específicos por tipo
+            if (it instanceof Ownables.Street s) {
+                setField("Rent (now)", "$" + s.propertyActualRent());
+                setField("Houses", String.valueOf(s.propertyHouseNumber()));
+                setField("Hotel", s.propertyHasHotel() ? "yes" : "no");
+            } else if (it instanceof Ownables.Company c) {
+                setField("Multiplier", String.valueOf(c.propertyMultiplier()));
             }
-        });
-        JPanel actions = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 0));
-        actions.setOpaque(false);
-        actions.add(sellButton);
 
-        card.add(actions, BorderLayout.EAST);
+            String sellText = "Sell ($" + core.propertySellValue() + ")";
+            if (!sellText.equals(sellButton.getText())) sellButton.setText(sellText);
+        }
+
+        private void setField(String label, String value) {
+            JLabel v = values.get(label);
+            if (v == null) {
+                values.put(label, addField(body, gc, label, value));
+                return;
+            }
+            setIfChanged(v, value);
+        }
+    }
 
-        return card;
+    private static void setIfChanged(JLabel label, String text) {
+        if (!text.equals(label.getText())) label.setText(text);
     }
 
-    private static void addField(JPanel body, GridBagConstraints gc, String label, String value) {
+    private static JLabel addField(JPanel body, GridBagConstraints gc, String label, String value) {
         JLabel l = new JLabel(label + ": ");
         l.setFont(l.getFont().deriveFont(Font.BOLD, 12f));
         JLabel v = new JLabel(value);
@@ -183,6 +289,7 @@ public final class PlayerPropertiesWindow extends JDialog {
 
         // próxima linha
         gc.gridy++;
+        return v;
     }
 
     private static String html(String s) { return "<html>" + s + "</html>"; }
@@ -0,0 +1,256 @@
+/* ===========================================================
+ * SpectatorGalleryWindow ; galeria de mesas ao vivo em miniatura.
+ * Cada mesa é desenhada por um BoardPanel fora da tela, em um pool de
+ * renderização, e só é redesenhada quando sua versão muda.
+ * =========================================================== */
+
+package view;
+
+import controller.MatchRunner;
+import controller.MatchTable;
+import controller.MetricsServer;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.*;
+import model.api.dto.GameSnapshot;
+
+/**
+ * Janela de espectador com uma grade de miniaturas das mesas.
+ *
+ * O custo é limitado independentemente do número de mesas:
+ *  - um agendador verifica as versões {@code TICKS_PER_SECOND} vezes por segundo;
+ *  - no máximo {@code maxRendersPerSecond} miniaturas são redesenhadas por segundo
+ *    (rodízio entre as mesas alteradas, para nenhuma ficar para trás);
+ *  - a renderização roda em um pool pequeno, fora da EDT; a EDT só copia a imagem pronta.
+ */
+public final class SpectatorGalleryWindow extends JFrame {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final double THUMB_SCALE = 0.25;
+    private static final int THUMB_WIDTH = (int) (BoardPanel.PANEL_WIDTH * THUMB_SCALE);
+    private static final int THUMB_HEIGHT = (int) (BoardPanel.PANEL_HEIGHT * THUMB_SCALE);
+    private static final int MAX_COLUMNS = 5;
+    private static final int TICKS_PER_SECOND = 20;
+    static final int DEFAULT_MAX_RENDERS_PER_SECOND = 60;
+
+    private final List<Thumbnail> thumbnails = new ArrayList<>();
+    private final transient ExecutorService renderPool;
+    private final transient ScheduledExecutorService refreshScheduler;
+    private final transient AutoCloseable owned; // fechado junto com a janela (pode ser null)
+    private final int rendersPerTick;
+    private int nextThumbnail; // rodízio; só a thread do agendador
+
+    /**
+     * @param tables mesas a exibir (ao menos uma)
+     * @param maxRendersPerSecond limite global de miniaturas redesenhadas por segundo
+     * @param owned recurso fechado quando a janela for fechada (ex.: MatchRunner), ou null
+     */
+    public SpectatorGalleryWindow(List<MatchTable> tables, int maxRendersPerSecond, AutoCloseable owned) {
+        super("Spectator Gallery (" + tables.size() + " tables)");
+        if (tables.isEmpty()) throw new IllegalArgumentException("At least one table is required");
+        if (maxRendersPerSecond <= 0) throw new IllegalArgumentException("Max renders per second must be > 0");
+        this.owned = owned;
+        this.rendersPerTick = Math.max(1, maxRendersPerSecond / TICKS_PER_SECOND);
+
+        // Grade de miniaturas
+        int columns = Math.min(MAX_COLUMNS, Math.max(1, (int) Math.ceil(Math.sqrt(tables.size()))));
+        JPanel grid = new JPanel(new GridLayout(0, columns, 6, 6));
+        grid.setBorder(BorderFactory.createEmptyBorder(6, 6, 6, 6));
+        grid.setBackground(new Color(60, 60, 60));
+        for (MatchTable table : tables) {
+            Thumbnail t = new Thumbnail(table);
+            thumbnails.add(t);
+            grid.add(t);
+        }
+        JScrollPane scroll = new JScrollPane(grid);
+        scroll.getVerticalScrollBar().setUnitIncrement(THUMB_HEIGHT / 4);
+        add(scroll, BorderLayout.CENTER);
+
+        int visibleRows = Math.min(3, (tables.size() + columns - 1) / columns);
+        scroll.setPreferredSize(new Dimension(columns * (THUMB_WIDTH + 6) + 30, visibleRows * (THUMB_HEIGHT + 6) + 12));
+        pack();
+        setLocationRelativeTo(null);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        // Pool de renderização e agendador
+        final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        final AtomicInteger count = new AtomicInteger();
+        renderPool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "gallery-render-" + count.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+        refreshScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "gallery-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        refreshScheduler.scheduleAtFixedRate(this::refreshTick, 0, 1000 / TICKS_PER_SECOND, TimeUnit.MILLISECONDS);
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                shutdown();
+            }
+        });
+    }
+
+    /** Agenda a renderização das mesas alteradas, respeitando o orçamento por tick. */
+    private void refreshTick() {
+        final int n = thumbnails.size();
+        int budget = rendersPerTick;
+        int k = 0;
+        for (; k < n && budget > 0; k++) {
+            final Thumbnail t = thumbnails.get((nextThumbnail + k) % n);
+            if (t.isStale() && t.rendering.compareAndSet(false, true)) {
+                budget--;
+                renderPool.execute(t::render);
+            }
+        }
+        nextThumbnail = (nextThumbnail + k) % n;
+    }
+
+    private void shutdown() {
+        refreshScheduler.shutdownNow();
+        renderPool.shutdownNow();
+        if (owned != null) {
+            try {
+                owned.close();
+            } catch (Exception e) {
+                System.err.println("Error closing gallery resources: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Miniatura de uma mesa. O BoardPanel e o buffer de trás só são usados pela
+     * thread que está renderizando (garantido pela flag {@code rendering});
+     * a troca de buffers é feita sob o monitor da miniatura.
+     */
+    private static final class Thumbnail extends JComponent {
+
+        private static final long serialVersionUID = 1L;
+        private static final Font CAPTION_FONT = new Font("Arial", Font.BOLD, 11);
+
+        private final transient MatchTable table;
+        private final BoardPanel board = new BoardPanel();
+        private final AtomicBoolean rendering = new AtomicBoolean(false);
+        private volatile long renderedVersion = -1L;
+        private transient BufferedImage front = newImage();
+        private transient BufferedImage back = newImage();
+        private String caption;
+
+        Thumbnail(MatchTable table) {
+            this.table = table;
+            this.caption = "Table " + table.id();
+            board.setSize(BoardPanel.PANEL_WIDTH, BoardPanel.PANEL_HEIGHT);
+            setPreferredSize(new Dimension(THUMB_WIDTH, THUMB_HEIGHT));
+        }
+
+        private static BufferedImage newImage() {
+            return new BufferedImage(THUMB_WIDTH, THUMB_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        }
+
+        boolean isStale() {
+            return table.version() != renderedVersion;
+        }
+
+        /** Executado no pool: aplica o snapshot ao BoardPanel e desenha no buffer de trás. */
+        void render() {
+            try {
+                final long version = table.version();
+                final GameSnapshot s = table.snapshot();
+
+                for (int i = 0; i < s.playerCount(); i++) {
+                    board.setPlayerAlive(i, s.isAlive(i));
+                    if (s.isAlive(i)) board.movePlayer(i, s.position(i));
+                }
+                if (s.dice1() > 0) board.setDiceValues(s.dice1(), s.dice2());
+                board.setTransaction(s.lastTransaction(), s.currentPlayerName());
+
+                final Graphics2D g = back.createGraphics();
+                try {
+                    g.scale(THUMB_SCALE, THUMB_SCALE);
+                    board.paintComponent(g);
+                } finally {
+                    g.dispose();
+                }
+
+                final RuntimeException failure = table.failure();
+                final String lastEnd = table.lastEndReason();
+                final String text = (failure != null)
+                        ? "Table " + table.id() + "  FAILED: " + failure
+                        : "Table " + table.id() + "  turn " + s.turnsPlayed() + "  games " + table.matchesFinished()
+                                + (lastEnd == null ? "" : " (last: " + lastEnd + ")");
+                synchronized (this) {
+                    final BufferedImage done = back;
+                    back = front;
+                    front = done;
+                    caption = text;
+                }
+                renderedVersion = version;
+                repaint();
+            } catch (RuntimeException e) {
+                System.err.println("Error rendering table " + table.id() + ": " + e.getMessage());
+            } finally {
+                rendering.set(false);
+            }
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            final String text;
+            synchronized (this) {
+                g.drawImage(front, 0, 0, null);
+                text = caption;
+            }
+            g.setFont(CAPTION_FONT);
+            g.setColor(new Color(0, 0, 0, 150));
+            g.fillRect(0, 0, getWidth(), 16);
+            g.setColor(Color.WHITE);
+            g.drawString(text, 4, 12);
+        }
+    }
+
+    /**
+     * Demonstração local: inicia N mesas jogadas por bots e abre a galeria.
+     * Uso: java view.SpectatorGalleryWindow [mesas] [jogadores] [turnos/s por mesa] [renders/s]
+     */
+    public static void main(String[] args) throws IOException {
+        final int tables = (args.length > 0) ? Integer.parseInt(args[0]) : 24;
+        final int players = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        final int turnsPerSecond = (args.length > 2) ? Integer.parseInt(args[2]) : 5;
+        final int rendersPerSecond = (args.length > 3) ? Integer.parseInt(args[3]) : DEFAULT_MAX_RENDERS_PER_SECOND;
+
+        final MetricsServer metrics = MetricsServer.startIfConfigured(); // null sem -Dmonopoly.metrics.port
+        final MatchRunner runner = new MatchRunner(tables, players, turnsPerSecond);
+        runner.start();
+        // A janela fecha as mesas e depois o endpoint
+        final AutoCloseable owned = () -> {
+            try (metrics; runner) {
+                // só fecha
+            }
+        };
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                SpectatorGalleryWindow window = new SpectatorGalleryWindow(runner.tables(), rendersPerSecond, owned);
+                window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+                window.setVisible(true);
+            }
+        });
+    }
+}
@@ -0,0 +1,254 @@
+/* ===========================================================
+ * SwingGameObserver ; repassa notificações do Controller para a EDT.
+ * As callbacks chegam da thread do jogo, são enfileiradas e entregues
+ * em lote por um único SwingUtilities.invokeLater.
+ * =========================================================== */
+
+package view;
+
+import controller.GameController;
+import controller.GameObserver;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.SwingUtilities;
+import model.api.dto.GameSnapshot;
+import model.api.dto.OwnableInfo;
+import model.api.dto.Ownables;
+import model.api.dto.PlayerColor;
+import model.api.dto.PlayerRef;
+import model.api.dto.SquareType;
+import model.api.dto.Transaction;
+import model.metrics.TraceRecorder;
+
+/**
+ * Adaptador de GameObserver que garante que o observador de destino
+ * (ex.: GameWindow) só é chamado na Event Dispatch Thread.
+ * Preserva a ordem das notificações.
+ */
+final class SwingGameObserver implements GameObserver {
+
+    private static final String TRACE_CATEGORY = "ui";
+    private static final String TRACE_QUEUED = "GameWindow.queued";
+
+    private final GameObserver target;
+    private final GameController controller; // fonte do trace da partida (null = sem trace)
+    private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    // Snapshots são coalescidos: se a EDT atrasar, só o mais recente é aplicado
+    private final AtomicReference<GameSnapshot> latestSnapshot = new AtomicReference<>();
+    private final AtomicReference<LandingStats> latestLandingStats = new AtomicReference<>();
+
+    /** Par de contadores de pouso pendente de entrega. */
+    private record LandingStats(int[] matchCounts, long[] sessionCounts) {}
+
+    SwingGameObserver(final GameObserver target) {
+        this(target, null);
+    }
+
+    /** Com controller, as entregas na EDT entram na linha do tempo do trace da partida. */
+    SwingGameObserver(final GameObserver target, final GameController controller) {
+        this.target = target;
+        this.controller = controller;
+    }
+
+    /** Callbacks repassados; os nomes de seção são montados uma vez, não a cada notificação. */
+    private enum Callback {
+        TURN_STARTED("onTurnStarted"),
+        DICE_ROLLED("onDiceRolled"),
+        PLAYER_MOVED("onPlayerMoved"),
+        SQUARE_LANDED("onSquareLanded"),
+        CHANCE_SQUARE_LAND("onChanceSquareLand"),
+        STREET_OWNABLE_LAND("onStreetOwnableLand"),
+        COMPANY_OWNABLE_LAND("onCompanyOwnableLand"),
+        STREET_OWNABLE_UPDATE("onStreetOwnableUpdate"),
+        COMPANY_OWNABLE_UPDATE("onCompanyOwnableUpdate"),
+        TURN_ENDED("onTurnEnded"),
+        GAME_MESSAGE("onGameMessage"),
+        CURRENT_PLAYER_PROPERTY_DATA_UPDATED("onCurrentPlayerPropertyDataUpdated"),
+        GAME_ENDED("onGameEnded"),
+        PROPERTY_SOLD("onPropertySold"),
+        TRANSACTIONS_UPDATED("onTransactionsUpdated"),
+        PLAYER_BANKRUPT("onPlayerBankrupt"),
+        PLAYER_MONEY_CHANGED("onPlayerMoneyChanged"),
+        BUSY_STATE_CHANGED("onBusyStateChanged"),
+        GAME_SNAPSHOT("onGameSnapshot"),
+        LANDING_STATS_UPDATED("onLandingStatsUpdated");
+
+        final String method;
+        final String section; // "GameWindow." + método
+
+        Callback(final String method) {
+            this.method = method;
+            this.section = "GameWindow." + method;
+        }
+    }
+
+    /** Enfileira uma notificação e agenda o lote (se ainda não houver um agendado). */
+    private void post(final Callback callback, final Runnable notification) {
+        Runnable r = UiTimings.isEnabled() ? timed(callback, notification) : notification;
+        final TraceRecorder trace = controller == null ? TraceRecorder.DISABLED : controller.getTraceRecorder();
+        if (trace.isEnabled()) r = traced(trace, callback, r);
+        pending.add(r);
+        if (drainScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::drain);
+        }
+    }
+
+    /** Envolve a notificação para medir seu tempo de execução na EDT. */
+    private static Runnable timed(final Callback callback, final Runnable notification) {
+        final String section = callback.section;
+        return () -> {
+            final long t0 = UiTimings.begin();
+            try {
+                notification.run();
+            } finally {
+                UiTimings.end(section, t0);
+            }
+        };
+    }
+
+    /**
+     * Envolve a notificação para gravar, na linha do tempo, a espera na fila da EDT
+     * ("GameWindow.queued") e a execução ("GameWindow." + método).
+     */
+    private static Runnable traced(final TraceRecorder trace, final Callback callback, final Runnable notification) {
+        final String method = callback.method;
+        final String section = callback.section;
+        final long postedAt = trace.begin();
+        return () -> {
+            final long t0 = trace.begin();
+            trace.record(TRACE_CATEGORY, TRACE_QUEUED, method, postedAt, t0);
+            try {
+                notification.run();
+            } finally {
+                trace.end(TRACE_CATEGORY, section, t0);
+            }
+        };
+    }
+
+    /** Executa na EDT todas as notificações acumuladas. */
+    private void drain() {
+        drainScheduled.set(false);
+        Runnable r;
+        while ((r = pending.poll()) != null) {
+            try {
+                r.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error dispatching game notification: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    // ========== Implementação de GameObserver ==========
+
+    @Override
+    public void onTurnStarted(int playerIndex, String playerName, PlayerColor firstPlayerColor, int playerMoney) {
+        post(Callback.TURN_STARTED, () -> target.onTurnStarted(playerIndex, playerName, firstPlayerColor, playerMoney));
+    }
+
+    @Override
+    public void onDiceRolled(int dice1, int dice2, boolean isDouble) {
+        post(Callback.DICE_ROLLED, () -> target.onDiceRolled(dice1, dice2, isDouble));
+    }
+
+    @Override
+    public void onPlayerMoved(int playerIndex, int fromPosition, int toPosition) {
+        post(Callback.PLAYER_MOVED, () -> target.onPlayerMoved(playerIndex, fromPosition, toPosition));
+    }
+
+    @Override
+    public void onSquareLanded(int playerIndex, int squareIndex, String squareName, SquareType squareType) {
+        post(Callback.SQUARE_LANDED, () -> target.onSquareLanded(playerIndex, squareIndex, squareName, squareType));
+    }
+
+    @Override
+    public void onChanceSquareLand(int playerIndex, int cardIndex) {
+        post(Callback.CHANCE_SQUARE_LAND, () -> target.onChanceSquareLand(playerIndex, cardIndex));
+    }
+
+    @Override
+    public void onStreetOwnableLand(int playerIndex, String propertyName, Ownables.Street streetInfo) {
+        post(Callback.STREET_OWNABLE_LAND, () -> target.onStreetOwnableLand(playerIndex, propertyName, streetInfo));
+    }
+
+    @Override
+    public void onCompanyOwnableLand(int playerIndex, String companyName, Ownables.Company companyInfo) {
+        post(Callback.COMPANY_OWNABLE_LAND, () -> target.onCompanyOwnableLand(playerIndex, companyName, companyInfo));
+    }
+
+    @Override
+    public void onStreetOwnableUpdate(int playerIndex, Ownables.Street streetInfo) {
+        post(Callback.STREET_OWNABLE_UPDATE, () -> target.onStreetOwnableUpdate(playerIndex, streetInfo));
+    }
+
+    @Override
+    public void onCompanyOwnableUpdate(int playerIndex, Ownables.Company companyInfo) {
+        post(Callback.COMPANY_OWNABLE_UPDATE, () -> target.onCompanyOwnableUpdate(playerIndex, companyInfo));
+    }
+
+    @Override
+    public void onTurnEnded() {
+        post(Callback.TURN_ENDED, target::onTurnEnded);
+    }
+
+    @Override
+    public void onGameMessage(String message) {
+        post(Callback.GAME_MESSAGE, () -> target.onGameMessage(message));
+    }
+
+    @Override
+    public void onCurrentPlayerPropertyDataUpdated(List<OwnableInfo> items) {
+        post(Callback.CURRENT_PLAYER_PROPERTY_DATA_UPDATED, () -> target.onCurrentPlayerPropertyDataUpdated(items));
+    }
+
+    @Override
+    public void onGameEnded(List<PlayerRef> winners) {
+        post(Callback.GAME_ENDED, () -> target.onGameEnded(winners));
+    }
+
+    @Override
+    public void onPropertySold(int playerIndex) {
+        post(Callback.PROPERTY_SOLD, () -> target.onPropertySold(playerIndex));
+    }
+
+    @Override
+    public void onTransactionsUpdated(List<Transaction> transactions) {
+        post(Callback.TRANSACTIONS_UPDATED, () -> target.onTransactionsUpdated(transactions));
+    }
+
+    @Override
+    public void onPlayerBankrupt(int playerIndex) {
+        post(Callback.PLAYER_BANKRUPT, () -> target.onPlayerBankrupt(playerIndex));
+    }
+
+    @Override
+    public void onPlayerMoneyChanged(int playerIndex, int money) {
+        post(Callback.PLAYER_MONEY_CHANGED, () -> target.onPlayerMoneyChanged(playerIndex, money));
+    }
+
+    @Override
+    public void onBusyStateChanged(boolean busy) {
+        post(Callback.BUSY_STATE_CHANGED, () -> target.onBusyStateChanged(busy));
+    }
+
+    @Override
+    public void onGameSnapshot(GameSnapshot snapshot) {
+        if (latestSnapshot.getAndSet(snapshot) != null) return; // já há uma entrega pendente
+        post(Callback.GAME_SNAPSHOT, () -> {
+            final GameSnapshot s = latestSnapshot.getAndSet(null);
+            if (s != null) target.onGameSnapshot(s);
+        });
+    }
+
+    @Override
+    public void onLandingStatsUpdated(int[] matchCounts, long[] sessionCounts) {
+        if (latestLandingStats.getAndSet(new LandingStats(matchCounts, sessionCounts)) != null) return;
+        post(Callback.LANDING_STATS_UPDATED, () -> {
+            final LandingStats s = latestLandingStats.getAndSet(null);
+            if (s != null) target.onLandingStatsUpdated(s.matchCounts(), s.sessionCounts());
+        });
+    }
+}
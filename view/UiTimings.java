@@ -0,0 +1,155 @@
+/* ===========================================================
+ * UiTimings ; cronômetro leve para seções da UI (paint, callbacks).
+ * Desligado por padrão: quando desabilitado custa apenas uma leitura volatile.
+ * =========================================================== */
+
+package view;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de tempos por seção nomeada (ex.: "BoardPanel.paintComponent").
+ * Uso:
+ * <pre>
+ *   long t0 = UiTimings.begin();
+ *   try { ... } finally { UiTimings.end("Secao", t0); }
+ * </pre>
+ * Para seções consecutivas (ex.: cada draw* do paint) use um {@link Lap}.
+ * Opcionalmente mede também os bytes alocados pela thread em cada seção.
+ */
+final class UiTimings {
+
+    private static volatile boolean enabled = false;
+    private static volatile boolean allocationTracking = false;
+    private static final java.lang.management.ThreadMXBean THREADS = java.lang.management.ManagementFactory.getThreadMXBean();
+    private static final ConcurrentHashMap<String, Section> SECTIONS = new ConcurrentHashMap<>();
+
+    private UiTimings() {
+        // Utility class
+    }
+
+    /** Liga/desliga a coleta. */
+    static void setEnabled(final boolean flag) { enabled = flag; }
+
+    /** Coleta ligada? */
+    static boolean isEnabled() { return enabled; }
+
+    /**
+     * Liga/desliga a medição de bytes alocados por seção (requer HotSpot).
+     * Retorna false se a JVM não suportar a medição.
+     */
+    static boolean setAllocationTracking(final boolean flag) {
+        if (flag && !(THREADS instanceof com.sun.management.ThreadMXBean)) return false;
+        allocationTracking = flag;
+        return true;
+    }
+
+    /** Bytes alocados até agora pela thread atual (-1 se não suportado). */
+    static long currentThreadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean hs) {
+            return hs.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return -1L;
+    }
+
+    /** Marca o início de uma seção; retorna 0 quando a coleta está desligada. */
+    static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /** Fecha uma seção iniciada com begin(). */
+    static void end(final String name, final long start) {
+        if (start == 0L) return;
+        record(name, System.nanoTime() - start);
+    }
+
+    /** Registra uma duração já medida (em nanossegundos). */
+    static void record(final String name, final long nanos) {
+        SECTIONS.computeIfAbsent(name, Section::new).add(nanos, -1L);
+    }
+
+    /** Registra uma duração e os bytes alocados (negativo = não medido). */
+    static void record(final String name, final long nanos, final long bytes) {
+        SECTIONS.computeIfAbsent(name, Section::new).add(nanos, bytes);
+    }
+
+    /** Retorna as estatísticas atuais, ordenadas pelo tempo total (maior primeiro). */
+    static List<Stats> snapshot() {
+        final List<Stats> out = new ArrayList<>(SECTIONS.size());
+        for (Section s : SECTIONS.values()) {
+            out.add(s.stats());
+        }
+        out.sort(Comparator.comparingLong(Stats::totalNanos).reversed());
+        return out;
+    }
+
+    /** Limpa todas as seções. */
+    static void reset() {
+        SECTIONS.clear();
+    }
+
+    // ==== Tipos auxiliares ====
+
+    /**
+     * Cronômetro de seções consecutivas: start() e depois split(nome) após cada trecho.
+     * Cada instância deve ser usada por uma única thread (ex.: a que pinta o painel).
+     */
+    static final class Lap {
+        private long startNanos;
+        private long startBytes;
+
+        /** Inicia a contagem (no-op se a coleta estiver desligada). */
+        void start() {
+            if (!enabled) {
+                startNanos = 0L;
+                return;
+            }
+            startBytes = allocationTracking ? currentThreadAllocatedBytes() : -1L;
+            startNanos = System.nanoTime();
+        }
+
+        /** Fecha o trecho atual com o nome dado e inicia o próximo. */
+        void split(final String name) {
+            if (startNanos == 0L) return;
+            final long now = System.nanoTime();
+            final long bytes = (startBytes >= 0) ? currentThreadAllocatedBytes() - startBytes : -1L;
+            record(name, now - startNanos, bytes);
+            start();
+        }
+    }
+
+    /** Acumulador de uma seção (escrito normalmente apenas pela EDT). */
+    private static final class Section {
+        private final String name;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalBytes;
+        private long measuredBytes; // amostras com alocação medida
+
+        Section(final String name) { this.name = name; }
+
+        synchronized void add(final long nanos, final long bytes) {
+            count++;
+            totalNanos += nanos;
+            if (nanos > maxNanos) maxNanos = nanos;
+            if (bytes >= 0) {
+                totalBytes += bytes;
+                measuredBytes++;
+            }
+        }
+
+        synchronized Stats stats() {
+            return new Stats(name, count, totalNanos, maxNanos, measuredBytes == 0 ? -1L : totalBytes / measuredBytes);
+        }
+    }
+
+    /** Estatísticas imutáveis de uma seção (avgBytes = -1 quando não medido). */
+    record Stats(String name, long count, long totalNanos, long maxNanos, long avgBytes) {
+        double avgMicros() { return count == 0 ? 0.0 : totalNanos / 1_000.0 / count; }
+        double maxMicros() { return maxNanos / 1_000.0; }
+    }
+}